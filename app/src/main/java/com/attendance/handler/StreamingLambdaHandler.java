@@ -0,0 +1,310 @@
+package com.attendance.handler;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.attendance.util.JsonStringWriter;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Stream-based variant of OptimizedLambdaHandler. Only the proxy event fields the handlers use
+ * are read with a streaming parser, and the response envelope is written directly to the output
+ * stream, so large bodies are never held as a String
+ */
+public abstract class StreamingLambdaHandler implements RequestStreamHandler {
+
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    // Static initialization for Lambda container reuse
+    protected static final ObjectMapper objectMapper = new ObjectMapper();
+    protected static final Map<String, String> defaultHeaders = new HashMap<>();
+
+    static {
+        defaultHeaders.put("Content-Type", "application/json");
+        defaultHeaders.put("Access-Control-Allow-Origin", "*");
+        defaultHeaders.put("Access-Control-Allow-Methods", "GET, POST, PUT, DELETE, OPTIONS");
+        defaultHeaders.put("Access-Control-Allow-Headers", "Content-Type, Authorization");
+
+        objectMapper.findAndRegisterModules();
+    }
+
+    @Override
+    public void handleRequest(InputStream input, OutputStream output, Context context)
+            throws IOException {
+        long startTime = System.currentTimeMillis();
+        StreamingRequest request = parseRequest(input);
+        StreamingResponse response = new StreamingResponse(output, startTime);
+
+        try {
+            // Handle CORS preflight requests quickly
+            if ("OPTIONS".equals(request.getHttpMethod())) {
+                response.send(200, defaultHeaders, null);
+                return;
+            }
+
+            processRequest(request, response, context);
+            if (!response.isCommitted()) {
+                throw new IllegalStateException("No response was written");
+            }
+            response.finish();
+
+        } catch (Exception e) {
+            // Once the status line is out it cannot be changed; fail the invocation instead of
+            // returning a truncated body with a success status
+            if (response.isCommitted()) {
+                throw new IOException("Response failed after streaming started", e);
+            }
+            handleError(e, response, context);
+            response.finish();
+        }
+    }
+
+    /**
+     * Abstract method for subclasses to implement request processing. Exactly one of the
+     * response's send or openBody methods must be called
+     */
+    protected abstract void processRequest(StreamingRequest request, StreamingResponse response,
+            Context context) throws Exception;
+
+    /**
+     * Write the response for an exception thrown before the response was committed
+     */
+    protected void handleError(Exception e, StreamingResponse response, Context context)
+            throws IOException {
+        context.getLogger().log("Error processing request: " + e.getMessage());
+
+        Map<String, Object> errorBody = new HashMap<>();
+        errorBody.put("error", "Internal Server Error");
+        errorBody.put("message", e.getMessage());
+        errorBody.put("timestamp", System.currentTimeMillis());
+        response.send(500, defaultHeaders, errorBody);
+    }
+
+    /**
+     * Read the proxy event, keeping only method, path, parameters, Authorization header and body
+     */
+    static StreamingRequest parseRequest(InputStream input) throws IOException {
+        StreamingRequest request = new StreamingRequest();
+        boolean base64Encoded = false;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Request event must be a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "httpMethod" -> request.httpMethod = parser.getValueAsString();
+                    case "path" -> request.path = parser.getValueAsString();
+                    case "pathParameters" -> request.pathParameters = readStringMap(parser);
+                    case "queryStringParameters" ->
+                        request.queryStringParameters = readStringMap(parser);
+                    case "headers" -> request.authorization = readAuthorization(parser);
+                    case "body" -> request.body = parser.getValueAsString();
+                    case "isBase64Encoded" -> base64Encoded = value == JsonToken.VALUE_TRUE;
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        if (base64Encoded && request.body != null) {
+            request.body = new String(Base64.getDecoder().decode(request.body),
+                    StandardCharsets.UTF_8);
+        }
+        return request;
+    }
+
+    private static Map<String, String> readStringMap(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        Map<String, String> map = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            map.put(name, parser.getValueAsString());
+        }
+        return map;
+    }
+
+    private static String readAuthorization(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        String authorization = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            // HTTP APIs lower-case header names
+            if ("Authorization".equalsIgnoreCase(name)) {
+                authorization = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return authorization;
+    }
+
+    /**
+     * The subset of the API Gateway proxy event read by StreamingLambdaHandler
+     */
+    public static class StreamingRequest {
+        private String httpMethod;
+        private String path;
+        private Map<String, String> pathParameters;
+        private Map<String, String> queryStringParameters;
+        private String authorization;
+        private String body;
+
+        public String getHttpMethod() {
+            return httpMethod;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public Map<String, String> getPathParameters() {
+            return pathParameters;
+        }
+
+        public Map<String, String> getQueryStringParameters() {
+            return queryStringParameters;
+        }
+
+        public String getAuthorization() {
+            return authorization;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        /**
+         * Get path parameter (null when absent)
+         */
+        public String getPathParameter(String paramName) {
+            return pathParameters != null ? pathParameters.get(paramName) : null;
+        }
+
+        /**
+         * Get query parameter (null when absent)
+         */
+        public String getQueryParameter(String paramName) {
+            return queryStringParameters != null ? queryStringParameters.get(paramName) : null;
+        }
+
+        /**
+         * Build a proxy event from the parsed fields, so existing handler code that takes an
+         * APIGatewayProxyRequestEvent can be reused when opting in
+         */
+        public APIGatewayProxyRequestEvent toProxyEvent() {
+            Map<String, String> headers = new HashMap<>();
+            if (authorization != null) {
+                headers.put("Authorization", authorization);
+            }
+            return new APIGatewayProxyRequestEvent().withHttpMethod(httpMethod).withPath(path)
+                    .withPathParameters(pathParameters)
+                    .withQueryStringParameters(queryStringParameters).withHeaders(headers)
+                    .withBody(body);
+        }
+    }
+
+    /**
+     * Writes the proxy response envelope straight to the Lambda output stream
+     */
+    public static class StreamingResponse {
+        private final Writer writer;
+        private final long startTime;
+        private boolean committed;
+        private boolean bodyOpen;
+
+        StreamingResponse(OutputStream output, long startTime) {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+                    WRITE_BUFFER_SIZE);
+            this.startTime = startTime;
+        }
+
+        public boolean isCommitted() {
+            return committed;
+        }
+
+        /**
+         * Write a response whose body is the given object serialized as JSON
+         */
+        public void send(int statusCode, Map<String, String> headers, Object body)
+                throws IOException {
+            if (body == null) {
+                writeHead(statusCode, headers);
+                writer.write("}");
+                return;
+            }
+            objectMapper.writeValue(openBody(statusCode, headers), body);
+        }
+
+        /**
+         * Write an already built response, for handlers that produce APIGatewayProxyResponseEvent
+         */
+        public void send(APIGatewayProxyResponseEvent response) throws IOException {
+            Map<String, String> headers =
+                    response.getHeaders() != null ? response.getHeaders() : defaultHeaders;
+            if (response.getBody() == null) {
+                writeHead(response.getStatusCode(), headers);
+                writer.write("}");
+                return;
+            }
+            openBody(response.getStatusCode(), headers).write(response.getBody());
+        }
+
+        /**
+         * Write status and headers, then return a writer for the body. Text written to it is
+         * escaped into the envelope as it arrives; the envelope is closed by the base handler
+         */
+        public Writer openBody(int statusCode, Map<String, String> headers) throws IOException {
+            writeHead(statusCode, headers);
+            writer.write(",\"body\":\"");
+            bodyOpen = true;
+            return new JsonStringWriter(writer);
+        }
+
+        private void writeHead(int statusCode, Map<String, String> headers) throws IOException {
+            if (committed) {
+                throw new IllegalStateException("Response already written");
+            }
+            committed = true;
+
+            Map<String, String> responseHeaders = new HashMap<>(headers);
+            responseHeaders.put("X-Response-Time",
+                    String.valueOf(System.currentTimeMillis() - startTime));
+
+            writer.write("{\"statusCode\":");
+            writer.write(String.valueOf(statusCode));
+            writer.write(",\"headers\":");
+            writer.write(objectMapper.writeValueAsString(responseHeaders));
+        }
+
+        void finish() throws IOException {
+            if (bodyOpen) {
+                writer.write("\"}");
+                bodyOpen = false;
+            }
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.attendance.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writer that escapes everything written to it as the contents of a JSON string. Used to stream
+ * the body of an API Gateway proxy response without building it as a String first
+ */
+public class JsonStringWriter extends Writer {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer out;
+
+    public JsonStringWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        int end = offset + length;
+        int start = offset;
+        for (int i = offset; i < end; i++) {
+            char c = buffer[i];
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.write(buffer, start, i - start);
+            writeEscaped(c);
+            start = i + 1;
+        }
+        out.write(buffer, start, end - start);
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        int end = offset + length;
+        int start = offset;
+        for (int i = offset; i < end; i++) {
+            char c = str.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            out.write(str, start, i - start);
+            writeEscaped(c);
+            start = i + 1;
+        }
+        out.write(str, start, end - start);
+    }
+
+    private void writeEscaped(char c) throws IOException {
+        switch (c) {
+            case '"' -> out.write("\\\"");
+            case '\\' -> out.write("\\\\");
+            case '\n' -> out.write("\\n");
+            case '\r' -> out.write("\\r");
+            case '\t' -> out.write("\\t");
+            default -> {
+                out.write("\\u00");
+                out.write(HEX[(c >> 4) & 0xF]);
+                out.write(HEX[c & 0xF]);
+            }
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Flushes but does not close the target, so the caller can finish the enclosing JSON
+     */
+    @Override
+    public void close() throws IOException {
+        out.flush();
+    }
+}
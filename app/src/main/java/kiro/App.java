@@ -1,7 +1,7 @@
-/*
- * This source file was generated by the Gradle 'init' task
- */
-package kiro;
+/*
+ * This source file was generated by the Gradle 'init' task
+ */
+package kiro;
 
 public class App {
     public String getGreeting() {
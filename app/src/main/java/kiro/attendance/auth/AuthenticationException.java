@@ -1,15 +1,15 @@
-package kiro.attendance.auth;
-
-/**
- * 認証例外
- */
-public class AuthenticationException extends Exception {
-
-    public AuthenticationException(String message) {
-        super(message);
-    }
-
-    public AuthenticationException(String message, Throwable cause) {
-        super(message, cause);
-    }
-}
+package kiro.attendance.auth;
+
+/**
+ * 認証例外
+ */
+public class AuthenticationException extends Exception {
+
+    public AuthenticationException(String message) {
+        super(message);
+    }
+
+    public AuthenticationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,45 @@
+package kiro.attendance.dao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 一括取り込み対象の勤怠行（行番号は取り込みファイル内の位置）
+ */
+public class AttendanceImportRow {
+
+    private final long lineNumber;
+    private final Long employeeId;
+    private final LocalDate date;
+    private final LocalDateTime clockInTime;
+    private final LocalDateTime clockOutTime;
+
+    public AttendanceImportRow(long lineNumber, Long employeeId, LocalDate date,
+            LocalDateTime clockInTime, LocalDateTime clockOutTime) {
+        this.lineNumber = lineNumber;
+        this.employeeId = employeeId;
+        this.date = date;
+        this.clockInTime = clockInTime;
+        this.clockOutTime = clockOutTime;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalDateTime getClockInTime() {
+        return clockInTime;
+    }
+
+    public LocalDateTime getClockOutTime() {
+        return clockOutTime;
+    }
+}
@@ -1,53 +1,175 @@
-package kiro.attendance.dao;
-
-import java.time.LocalDate;
-import java.time.YearMonth;
-import java.util.List;
-import java.util.Optional;
-import kiro.attendance.entity.AttendanceRecord;
-
-/**
- * 勤怠記録データアクセスオブジェクト
- */
-public interface AttendanceRecordDao {
-
-    /**
-     * IDで勤怠記録を取得
-     */
-    Optional<AttendanceRecord> findById(Long id);
-
-    /**
-     * 従業員IDと日付で勤怠記録を取得
-     */
-    Optional<AttendanceRecord> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
-
-    /**
-     * 従業員IDと月で勤怠記録一覧を取得
-     */
-    List<AttendanceRecord> findByEmployeeIdAndMonth(Long employeeId, YearMonth month);
-
-    /**
-     * 月で全従業員の勤怠記録一覧を取得
-     */
-    List<AttendanceRecord> findAllByMonth(YearMonth month);
-
-    /**
-     * 従業員IDで勤怠記録一覧を取得
-     */
-    List<AttendanceRecord> findByEmployeeId(Long employeeId);
-
-    /**
-     * 勤怠記録を挿入
-     */
-    AttendanceRecord insert(AttendanceRecord record);
-
-    /**
-     * 勤怠記録を更新
-     */
-    AttendanceRecord update(AttendanceRecord record);
-
-    /**
-     * 勤怠記録を削除
-     */
-    void delete(Long id);
-}
+package kiro.attendance.dao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import kiro.attendance.entity.AttendanceRecord;
+
+/**
+ * 勤怠記録データアクセスオブジェクト
+ */
+public interface AttendanceRecordDao {
+
+    /**
+     * IDで勤怠記録を取得
+     */
+    Optional<AttendanceRecord> findById(Long id);
+
+    /**
+     * IDで勤怠記録を一括取得
+     */
+    List<AttendanceRecord> findByIds(Collection<Long> ids);
+
+    /**
+     * 主キー (id, date) で勤怠記録を取得（該当月のパーティションのみを参照する）
+     */
+    Optional<AttendanceRecord> findByIdAndDate(Long id, LocalDate date);
+
+    /**
+     * 主キー (id, date) で勤怠記録を一括取得（キーはIDから日付へのマップ。該当月のパーティションのみを参照する）
+     */
+    List<AttendanceRecord> findByIdsAndDates(Map<Long, LocalDate> keys);
+
+    /**
+     * 従業員IDと日付で勤怠記録を取得
+     */
+    Optional<AttendanceRecord> findByEmployeeIdAndDate(Long employeeId, LocalDate date);
+
+    /**
+     * 日付で全従業員の勤怠記録を取得（従業員ID順）
+     */
+    List<AttendanceRecord> findAllByDate(LocalDate date);
+
+    /**
+     * 日付で指定従業員の勤怠記録を一括取得（従業員ID順）
+     */
+    List<AttendanceRecord> findByEmployeeIdsAndDate(Collection<Long> employeeIds, LocalDate date);
+
+    /**
+     * 指定日に出勤打刻済みで未退勤の従業員IDを取得
+     */
+    List<Long> findClockedInEmployeeIds(LocalDate date);
+
+    /**
+     * 従業員IDと月で勤怠記録一覧を取得
+     */
+    List<AttendanceRecord> findByEmployeeIdAndMonth(Long employeeId, YearMonth month);
+
+    /**
+     * 従業員IDと月で勤怠記録一覧を指定項目のみ取得
+     */
+    List<AttendanceRecord> findByEmployeeIdAndMonth(Long employeeId, YearMonth month,
+            Set<AttendanceRecordField> fields);
+
+    /**
+     * 月で全従業員の勤怠記録一覧を取得
+     */
+    List<AttendanceRecord> findAllByMonth(YearMonth month);
+
+    /**
+     * 月で全従業員の勤怠記録一覧を指定項目のみ取得
+     */
+    List<AttendanceRecord> findAllByMonth(YearMonth month, Set<AttendanceRecordField> fields);
+
+    /**
+     * 月の従業員別勤務時間合計（分）を取得（記録のない従業員は含まれない）
+     */
+    Map<Long, Long> sumWorkingMinutesByEmployee(YearMonth month);
+
+    /**
+     * 従業員の指定期間（開始日・終了日を含む）の勤怠記録を日付順に取得
+     */
+    List<AttendanceRecord> findByEmployeeIdAndDateRange(Long employeeId, LocalDate startDate,
+            LocalDate endDate);
+
+    /**
+     * 指定月の勤怠記録の件数を取得
+     */
+    long countByMonth(YearMonth month);
+
+    /**
+     * 従業員の勤怠記録の件数を取得
+     */
+    long countByEmployeeId(Long employeeId);
+
+    /**
+     * 従業員IDで勤怠記録一覧を取得
+     */
+    List<AttendanceRecord> findByEmployeeId(Long employeeId);
+
+    /**
+     * 従業員IDで勤怠記録を指定項目のみキーセットページング取得（日付降順）
+     * beforeDateがnullの場合は先頭から取得
+     */
+    List<AttendanceRecord> findByEmployeeIdBefore(Long employeeId, LocalDate beforeDate,
+            int limit, Set<AttendanceRecordField> fields);
+
+    /**
+     * 月で全従業員の勤怠記録を指定項目のみキーセットページング取得（従業員ID・日付昇順）
+     * afterEmployeeId・afterDateがnullの場合は先頭から取得
+     */
+    List<AttendanceRecord> findAllByMonthAfter(YearMonth month, Long afterEmployeeId,
+            LocalDate afterDate, int limit, Set<AttendanceRecordField> fields);
+
+    /**
+     * 月で給与計算用エクスポート行をサーバーサイドカーソルで1行ずつ処理
+     * 結果を一括で保持しないため、件数に関わらずメモリ使用量は一定
+     */
+    void forEachPayrollRow(YearMonth month, Consumer<PayrollExportRow> consumer);
+
+    /**
+     * 出勤打刻を1文で登録（当日の記録がなければ作成、出勤時刻が未設定の記録があれば設定）
+     * 既に出勤打刻済みの場合は空を返す。従業員が存在しない場合は外部キー制約違反として例外
+     */
+    Optional<AttendanceRecord> upsertClockIn(Long employeeId, LocalDate date,
+            LocalDateTime clockInTime);
+
+    /**
+     * 退勤打刻を1文で登録（勤務時間はSQL内で算出）
+     * 出勤打刻済みかつ未退勤の記録がない場合は空を返す
+     */
+    Optional<AttendanceRecord> updateClockOut(Long employeeId, LocalDate date,
+            LocalDateTime clockOutTime);
+
+    /**
+     * 勤怠記録をCOPYで一時テーブルに投入し、集合演算で一括登録
+     * 既存記録・ファイル内重複・存在しない従業員の行は登録せず、理由とともに返す
+     */
+    BulkImportResult bulkImport(List<AttendanceImportRow> rows);
+
+    /**
+     * 勤怠記録を挿入
+     */
+    AttendanceRecord insert(AttendanceRecord record);
+
+    /**
+     * 勤怠記録を更新
+     */
+    AttendanceRecord update(AttendanceRecord record);
+
+    /**
+     * 勤怠記録をバッチで一括更新
+     */
+    void updateAll(List<AttendanceRecord> records);
+
+    /**
+     * 指定月から指定月数先までの月別パーティションを作成（作成済みの月は何もしない）
+     */
+    void ensurePartitions(YearMonth from, int monthsAhead);
+
+    /**
+     * 指定月の月別パーティションが作成済みか確認（カタログの参照のみ）
+     */
+    boolean partitionExists(YearMonth month);
+
+    /**
+     * 勤怠記録を削除
+     */
+    void delete(Long id);
+}
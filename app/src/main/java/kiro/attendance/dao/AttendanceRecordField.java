@@ -0,0 +1,110 @@
+package kiro.attendance.dao;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * 勤怠記録の取得項目（fieldsパラメータで指定可能な項目のホワイトリスト）
+ */
+public enum AttendanceRecordField {
+    ID("id", "id", AttendanceRecord::getId),
+    EMPLOYEE_ID("employeeId", "employee_id", AttendanceRecord::getEmployeeId),
+    DATE("date", "date", AttendanceRecord::getDate),
+    CLOCK_IN_TIME("clockInTime", "clock_in_time", AttendanceRecord::getClockInTime),
+    CLOCK_OUT_TIME("clockOutTime", "clock_out_time", AttendanceRecord::getClockOutTime),
+    WORKING_MINUTES("workingMinutes", "working_minutes", AttendanceRecord::getWorkingMinutes),
+    STATUS("status", "status", AttendanceRecord::getStatus),
+    CREATED_AT("createdAt", "created_at", AttendanceRecord::getCreatedAt),
+    UPDATED_AT("updatedAt", "updated_at", AttendanceRecord::getUpdatedAt);
+
+    /**
+     * 全項目
+     */
+    public static final Set<AttendanceRecordField> ALL =
+            Collections.unmodifiableSet(EnumSet.allOf(AttendanceRecordField.class));
+
+    private final String propertyName;
+    private final String columnName;
+    private final Function<AttendanceRecord, Object> getter;
+
+    AttendanceRecordField(String propertyName, String columnName,
+            Function<AttendanceRecord, Object> getter) {
+        this.propertyName = propertyName;
+        this.columnName = columnName;
+        this.getter = getter;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    /**
+     * カンマ区切りのプロパティ名を解析（ホワイトリスト外の項目はエラー）
+     */
+    public static Set<AttendanceRecordField> parse(String fields) {
+        Set<AttendanceRecordField> result = EnumSet.noneOf(AttendanceRecordField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            result.add(fromPropertyName(trimmed));
+        }
+        if (result.isEmpty()) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER, "取得項目を指定してください");
+        }
+        return result;
+    }
+
+    private static AttendanceRecordField fromPropertyName(String propertyName) {
+        for (AttendanceRecordField field : values()) {
+            if (field.propertyName.equals(propertyName)) {
+                return field;
+            }
+        }
+        throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                "指定できない取得項目です: " + propertyName);
+    }
+
+    /**
+     * ページングキーなど必須の項目を加えた項目セットを作成
+     */
+    public static Set<AttendanceRecordField> including(Set<AttendanceRecordField> fields,
+            AttendanceRecordField... required) {
+        Set<AttendanceRecordField> columns = EnumSet.copyOf(fields);
+        Collections.addAll(columns, required);
+        return columns;
+    }
+
+    /**
+     * SELECT句の列リストを作成
+     */
+    public static String toSelectList(Set<AttendanceRecordField> fields) {
+        return fields.stream().map(AttendanceRecordField::getColumnName)
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * 指定項目のみのマップに変換（レスポンスのシリアライズ用）
+     */
+    public static Map<String, Object> project(AttendanceRecord record,
+            Set<AttendanceRecordField> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (AttendanceRecordField field : fields) {
+            projected.put(field.propertyName, field.getter.apply(record));
+        }
+        return projected;
+    }
+}
@@ -0,0 +1,50 @@
+package kiro.attendance.dao;
+
+import java.util.List;
+
+/**
+ * 一括取り込みの結果
+ */
+public class BulkImportResult {
+
+    private final long insertedCount;
+    private final List<RejectedRow> rejectedRows;
+
+    public BulkImportResult(long insertedCount, List<RejectedRow> rejectedRows) {
+        this.insertedCount = insertedCount;
+        this.rejectedRows = rejectedRows;
+    }
+
+    public long getInsertedCount() {
+        return insertedCount;
+    }
+
+    public List<RejectedRow> getRejectedRows() {
+        return rejectedRows;
+    }
+
+    /**
+     * 取り込まなかった行
+     */
+    public static class RejectedRow {
+        private final long lineNumber;
+        private final ImportRejectReason reason;
+
+        public RejectedRow(long lineNumber, ImportRejectReason reason) {
+            this.lineNumber = lineNumber;
+            this.reason = reason;
+        }
+
+        public long getLineNumber() {
+            return lineNumber;
+        }
+
+        public ImportRejectReason getReason() {
+            return reason;
+        }
+
+        public String getMessage() {
+            return reason.getMessage();
+        }
+    }
+}
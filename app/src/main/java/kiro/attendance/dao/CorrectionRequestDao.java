@@ -1,47 +1,142 @@
-package kiro.attendance.dao;
-
-import java.util.List;
-import java.util.Optional;
-import kiro.attendance.entity.CorrectionRequest;
-import kiro.attendance.entity.CorrectionStatus;
-
-/**
- * 修正申請データアクセスオブジェクト
- */
-public interface CorrectionRequestDao {
-
-    /**
-     * IDで修正申請を取得
-     */
-    Optional<CorrectionRequest> findById(Long id);
-
-    /**
-     * 承認待ちの修正申請一覧を取得
-     */
-    List<CorrectionRequest> findPendingRequests();
-
-    /**
-     * 従業員IDで修正申請一覧を取得
-     */
-    List<CorrectionRequest> findByEmployeeId(Long employeeId);
-
-    /**
-     * ステータスで修正申請一覧を取得
-     */
-    List<CorrectionRequest> findByStatus(CorrectionStatus status);
-
-    /**
-     * 修正申請を挿入
-     */
-    CorrectionRequest insert(CorrectionRequest request);
-
-    /**
-     * 修正申請を更新
-     */
-    CorrectionRequest update(CorrectionRequest request);
-
-    /**
-     * 修正申請を削除
-     */
-    void delete(Long id);
-}
+package kiro.attendance.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import kiro.attendance.entity.CorrectionRequest;
+import kiro.attendance.entity.CorrectionStatus;
+
+/**
+ * 修正申請データアクセスオブジェクト
+ */
+public interface CorrectionRequestDao {
+
+    /**
+     * IDで修正申請を取得
+     */
+    Optional<CorrectionRequest> findById(Long id);
+
+    /**
+     * IDで修正申請を一括取得し、行ロックを取得（トランザクション内で使用）
+     */
+    List<CorrectionRequest> findByIdsForUpdate(Collection<Long> ids);
+
+    /**
+     * 承認待ちの修正申請一覧を取得（申請日時の古い順）
+     */
+    List<CorrectionRequest> findPendingRequests();
+
+    /**
+     * 承認待ちの修正申請をページ取得（申請日時・IDの昇順のキーセットページング）
+     *
+     * afterRequestDateとafterIdを指定した場合はその行より後から取得する
+     */
+    List<CorrectionRequest> findPendingRequestsAfter(LocalDateTime afterRequestDate, Long afterId,
+            int limit);
+
+    /**
+     * 承認待ちの修正申請を元の勤怠記録・従業員名とともにページ取得（1回のクエリで取得する）
+     */
+    List<CorrectionRequestView> findPendingViewsAfter(LocalDateTime afterRequestDate,
+            Long afterId, int limit);
+
+    /**
+     * 従業員IDで修正申請一覧を取得
+     */
+    List<CorrectionRequest> findByEmployeeId(Long employeeId);
+
+    /**
+     * 従業員IDで修正申請をページ取得（申請日時・IDの降順のキーセットページング）
+     *
+     * beforeRequestDateとbeforeIdを指定した場合はその行より前から取得する
+     */
+    List<CorrectionRequest> findByEmployeeIdBefore(Long employeeId,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit);
+
+    /**
+     * 従業員の修正申請を元の勤怠記録・従業員名とともにページ取得（1回のクエリで取得する）
+     */
+    List<CorrectionRequestView> findViewsByEmployeeIdBefore(Long employeeId,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit);
+
+    /**
+     * 従業員IDとステータスで修正申請一覧を取得
+     */
+    List<CorrectionRequest> findByEmployeeIdAndStatus(Long employeeId, CorrectionStatus status);
+
+    /**
+     * ステータスで修正申請一覧を取得
+     */
+    List<CorrectionRequest> findByStatus(CorrectionStatus status);
+
+    /**
+     * ステータスで修正申請をページ取得（申請日時・IDの降順のキーセットページング）
+     *
+     * beforeRequestDateとbeforeIdを指定した場合はその行より前から取得する
+     */
+    List<CorrectionRequest> findByStatusBefore(CorrectionStatus status,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit);
+
+    /**
+     * ステータスで修正申請を元の勤怠記録・従業員名とともにページ取得（1回のクエリで取得する）
+     */
+    List<CorrectionRequestView> findViewsByStatusBefore(CorrectionStatus status,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit);
+
+    /**
+     * 修正対象の勤怠記録IDで修正申請一覧を取得
+     */
+    List<CorrectionRequest> findByOriginalRecordId(Long originalRecordId);
+
+    /**
+     * 申請日の範囲で修正申請をページ取得（申請日時・IDの降順のキーセットページング）
+     *
+     * beforeRequestDateとbeforeIdを指定した場合はその行より前から取得する
+     */
+    List<CorrectionRequest> findByRequestDateRangeBefore(CorrectionRequestSearch search,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit);
+
+    /**
+     * 申請日の範囲の修正申請をサーバーサイドカーソルで申請日時の古い順に1行ずつ処理
+     * 結果を一括で保持しないため、件数に関わらずメモリ使用量は一定
+     */
+    void forEachByRequestDateRange(CorrectionRequestSearch search,
+            Consumer<CorrectionRequest> consumer);
+
+    /**
+     * ステータスごとの修正申請の件数を取得
+     */
+    long countByStatus(CorrectionStatus status);
+
+    /**
+     * 承認待ちの修正申請の件数を取得
+     */
+    long countPendingRequests();
+
+    /**
+     * 従業員の修正申請の件数を取得
+     */
+    long countByEmployeeId(Long employeeId);
+
+    /**
+     * 修正申請を挿入
+     */
+    CorrectionRequest insert(CorrectionRequest request);
+
+    /**
+     * 修正申請を更新
+     */
+    CorrectionRequest update(CorrectionRequest request);
+
+    /**
+     * 修正申請をバッチで一括更新
+     */
+    void updateAll(List<CorrectionRequest> requests);
+
+    /**
+     * 修正申請を削除
+     */
+    void delete(Long id);
+}
@@ -0,0 +1,56 @@
+package kiro.attendance.dao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import kiro.attendance.entity.CorrectionStatus;
+
+/**
+ * 申請日の範囲による修正申請の検索条件
+ *
+ * 申請日は開始日・終了日ともに含む。ステータス・従業員IDは未指定（null）の場合は絞り込まない
+ */
+public class CorrectionRequestSearch {
+
+    private final LocalDate from;
+    private final LocalDate to;
+    private final CorrectionStatus status;
+    private final Long employeeId;
+
+    public CorrectionRequestSearch(LocalDate from, LocalDate to, CorrectionStatus status,
+            Long employeeId) {
+        this.from = from;
+        this.to = to;
+        this.status = status;
+        this.employeeId = employeeId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public CorrectionStatus getStatus() {
+        return status;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    /**
+     * 申請日時の下限（この日時を含む）
+     */
+    public LocalDateTime getRequestDateFrom() {
+        return from.atStartOfDay();
+    }
+
+    /**
+     * 申請日時の上限（この日時を含まない）
+     */
+    public LocalDateTime getRequestDateUntil() {
+        return to.plusDays(1).atStartOfDay();
+    }
+}
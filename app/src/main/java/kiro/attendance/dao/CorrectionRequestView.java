@@ -0,0 +1,33 @@
+package kiro.attendance.dao;
+
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.CorrectionRequest;
+
+/**
+ * 修正申請一覧の表示行（修正申請、修正対象の勤怠記録、申請者名の結合結果）
+ */
+public class CorrectionRequestView {
+
+    private final CorrectionRequest request;
+    private final AttendanceRecord originalRecord;
+    private final String employeeName;
+
+    public CorrectionRequestView(CorrectionRequest request, AttendanceRecord originalRecord,
+            String employeeName) {
+        this.request = request;
+        this.originalRecord = originalRecord;
+        this.employeeName = employeeName;
+    }
+
+    public CorrectionRequest getRequest() {
+        return request;
+    }
+
+    public AttendanceRecord getOriginalRecord() {
+        return originalRecord;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+}
@@ -1,41 +1,73 @@
-package kiro.attendance.dao;
-
-import java.util.List;
-import java.util.Optional;
-import kiro.attendance.entity.Employee;
-
-/**
- * 従業員データアクセスオブジェクト
- */
-public interface EmployeeDao {
-
-    /**
-     * IDで従業員を取得
-     */
-    Optional<Employee> findById(Long id);
-
-    /**
-     * 従業員番号で従業員を取得
-     */
-    Optional<Employee> findByEmployeeNumber(String employeeNumber);
-
-    /**
-     * 全従業員を取得
-     */
-    List<Employee> findAll();
-
-    /**
-     * 従業員を挿入
-     */
-    Employee insert(Employee employee);
-
-    /**
-     * 従業員を更新
-     */
-    Employee update(Employee employee);
-
-    /**
-     * 従業員を削除
-     */
-    void delete(Long id);
-}
+package kiro.attendance.dao;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+
+/**
+ * 従業員データアクセスオブジェクト
+ */
+public interface EmployeeDao {
+
+    /**
+     * IDで従業員を取得
+     */
+    Optional<Employee> findById(Long id);
+
+    /**
+     * 複数IDの従業員を1回のクエリで取得（存在しないIDは結果に含まれない、順序は不定）
+     */
+    List<Employee> findByIds(Collection<Long> ids);
+
+    /**
+     * 従業員番号で従業員を取得
+     */
+    Optional<Employee> findByEmployeeNumber(String employeeNumber);
+
+    /**
+     * ロールで従業員を取得（従業員番号順）
+     */
+    List<Employee> findByRole(UserRole role);
+
+    /**
+     * 氏名に指定文字列を含む従業員を取得（氏名順）
+     */
+    List<Employee> findByNameContaining(String keyword);
+
+    /**
+     * 全従業員を取得
+     */
+    List<Employee> findAll();
+
+    /**
+     * 従業員数を取得
+     */
+    long count();
+
+    /**
+     * ロールごとの従業員数を取得
+     */
+    long countByRole(UserRole role);
+
+    /**
+     * employeesテーブルの版（件数と最終更新日時）を取得
+     */
+    EmployeeTableVersion findTableVersion();
+
+    /**
+     * 従業員を挿入
+     */
+    Employee insert(Employee employee);
+
+    /**
+     * 従業員を更新
+     */
+    Employee update(Employee employee);
+
+    /**
+     * 従業員を削除
+     */
+    void delete(Long id);
+}
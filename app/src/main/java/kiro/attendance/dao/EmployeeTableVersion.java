@@ -0,0 +1,50 @@
+package kiro.attendance.dao;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * employeesテーブルの版（件数と最終更新日時）
+ *
+ * 登録・更新では最終更新日時が、削除では件数が変わるため、全件を読まずに変更の有無を判定できる
+ */
+public class EmployeeTableVersion {
+
+    private final long count;
+    private final LocalDateTime maxUpdatedAt;
+
+    public EmployeeTableVersion(long count, LocalDateTime maxUpdatedAt) {
+        this.count = count;
+        this.maxUpdatedAt = maxUpdatedAt;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public LocalDateTime getMaxUpdatedAt() {
+        return maxUpdatedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EmployeeTableVersion)) {
+            return false;
+        }
+        EmployeeTableVersion other = (EmployeeTableVersion) o;
+        return count == other.count && Objects.equals(maxUpdatedAt, other.maxUpdatedAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, maxUpdatedAt);
+    }
+
+    @Override
+    public String toString() {
+        return count + "@" + maxUpdatedAt;
+    }
+}
@@ -0,0 +1,20 @@
+package kiro.attendance.dao;
+
+/**
+ * 一括取り込みで行を取り込まなかった理由
+ */
+public enum ImportRejectReason {
+    INVALID_FORMAT("行の形式が不正です"), INVALID_TIME_RANGE("出勤・退勤時刻の組み合わせが不正です"),
+    EMPLOYEE_NOT_FOUND("従業員が見つかりません"), DUPLICATE_IN_FILE("同じ従業員・日付の行がファイル内で重複しています"),
+    ALREADY_EXISTS("同じ従業員・日付の勤怠記録が既に存在します");
+
+    private final String message;
+
+    ImportRejectReason(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
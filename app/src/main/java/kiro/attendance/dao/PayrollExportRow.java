@@ -0,0 +1,65 @@
+package kiro.attendance.dao;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import kiro.attendance.entity.AttendanceStatus;
+
+/**
+ * 給与計算用エクスポート行（勤怠記録と従業員の結合結果）
+ */
+public class PayrollExportRow {
+
+    private final Long employeeId;
+    private final String employeeNumber;
+    private final String employeeName;
+    private final LocalDate date;
+    private final LocalDateTime clockInTime;
+    private final LocalDateTime clockOutTime;
+    private final long workingMinutes;
+    private final AttendanceStatus status;
+
+    public PayrollExportRow(Long employeeId, String employeeNumber, String employeeName,
+            LocalDate date, LocalDateTime clockInTime, LocalDateTime clockOutTime,
+            long workingMinutes, AttendanceStatus status) {
+        this.employeeId = employeeId;
+        this.employeeNumber = employeeNumber;
+        this.employeeName = employeeName;
+        this.date = date;
+        this.clockInTime = clockInTime;
+        this.clockOutTime = clockOutTime;
+        this.workingMinutes = workingMinutes;
+        this.status = status;
+    }
+
+    public Long getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEmployeeNumber() {
+        return employeeNumber;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public LocalDateTime getClockInTime() {
+        return clockInTime;
+    }
+
+    public LocalDateTime getClockOutTime() {
+        return clockOutTime;
+    }
+
+    public long getWorkingMinutes() {
+        return workingMinutes;
+    }
+
+    public AttendanceStatus getStatus() {
+        return status;
+    }
+}
@@ -1,198 +1,786 @@
-package kiro.attendance.dao.impl;
-
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.entity.AttendanceRecord;import kiro.attendance.entity.AttendanceStatus;
-
-import java.sql.*;
-import java.time.LocalDate;
-import java.time.YearMonth;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-
-/**
- * 勤怠記録DAO実装
- */
-public class AttendanceRecordDaoImpl implements AttendanceRecordDao {
-
-    private final Connection connection;
-
-    public AttendanceRecordDaoImpl(Connection connection) {
-        this.connection = connection;
-    }
-
-    @Override
-    public Optional<AttendanceRecord> findById(Long id) {
-        String sql = "SELECT * FROM attendance_records WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find attendance record by id", e);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<AttendanceRecord> findByEmployeeIdAndDate(Long employeeId, LocalDate date) {
-        String sql = "SELECT * FROM attendance_records WHERE employee_id = ? AND date = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, employeeId);
-            stmt.setDate(2, Date.valueOf(date));
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find attendance record by employee and date", e);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public List<AttendanceRecord> findByEmployeeIdAndMonth(Long employeeId, YearMonth month) {
-        String sql = "SELECT * FROM attendance_records WHERE employee_id = ? AND date >= ? AND date < ? ORDER BY date";
-        List<AttendanceRecord> records = new ArrayList<>();
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, employeeId);
-            stmt.setDate(2, Date.valueOf(month.atDay(1)));
-            stmt.setDate(3, Date.valueOf(month.plusMonths(1).atDay(1)));
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    records.add(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find attendance records by employee and month", e);
-        }
-        return records;
-    }
-
-    @Override
-    public List<AttendanceRecord> findAllByMonth(YearMonth month) {
-        String sql = "SELECT * FROM attendance_records WHERE date >= ? AND date < ? ORDER BY employee_id, date";
-        List<AttendanceRecord> records = new ArrayList<>();
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setDate(1, Date.valueOf(month.atDay(1)));
-            stmt.setDate(2, Date.valueOf(month.plusMonths(1).atDay(1)));
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    records.add(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find attendance records by month", e);
-        }
-        return records;
-    }
-
-    @Override
-    public List<AttendanceRecord> findByEmployeeId(Long employeeId) {
-        String sql = "SELECT * FROM attendance_records WHERE employee_id = ? ORDER BY date DESC";
-        List<AttendanceRecord> records = new ArrayList<>();
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, employeeId);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    records.add(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find attendance records by employee", e);
-        }
-        return records;
-    }
-
-    @Override
-    public AttendanceRecord insert(AttendanceRecord record) {
-        String sql = "INSERT INTO attendance_records (employee_id, date, clock_in_time, clock_out_time, working_minutes, status) " +
-                     "VALUES (?, ?, ?, ?, ?, ?) RETURNING *";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, record.getEmployeeId());
-            stmt.setDate(2, Date.valueOf(record.getDate()));
-            stmt.setTimestamp(3, record.getClockInTime() != null ? Timestamp.valueOf(record.getClockInTime()) : null);
-            stmt.setTimestamp(4, record.getClockOutTime() != null ? Timestamp.valueOf(record.getClockOutTime()) : null);
-            stmt.setLong(5, record.getWorkingMinutes());
-            stmt.setString(6, record.getStatus().name());
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEntity(rs);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to insert attendance record", e);
-        }
-        throw new RuntimeException("Failed to insert attendance record");
-    }
-
-    @Override
-    public AttendanceRecord update(AttendanceRecord record) {
-        String sql = "UPDATE attendance_records SET clock_in_time = ?, clock_out_time = ?, working_minutes = ?, status = ? " +
-                     "WHERE id = ? RETURNING *";
-        
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setTimestamp(1, record.getClockInTime() != null ? Timestamp.valueOf(record.getClockInTime()) : null);
-            stmt.setTimestamp(2, record.getClockOutTime() != null ? Timestamp.valueOf(record.getClockOutTime()) : null);
-            stmt.setLong(3, record.getWorkingMinutes());
-            stmt.setString(4, record.getStatus().name());
-            stmt.setLong(5, record.getId());
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEntity(rs);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to update attendance record", e);
-        }
-        throw new RuntimeException("Failed to update attendance record");
-    }
-
-    @Override
-    public void delete(Long id) {
-        String sql = "DELETE FROM attendance_records WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to delete attendance record", e);
-        }
-    }
-
-    private AttendanceRecord mapResultSetToEntity(ResultSet rs) throws SQLException {
-        AttendanceRecord record = new AttendanceRecord();
-        record.setId(rs.getLong("id"));
-        record.setEmployeeId(rs.getLong("employee_id"));
-        record.setDate(rs.getDate("date").toLocalDate());
-        
-        Timestamp clockInTimestamp = rs.getTimestamp("clock_in_time");
-        if (clockInTimestamp != null) {
-            record.setClockInTime(clockInTimestamp.toLocalDateTime());
-        }
-        
-        Timestamp clockOutTimestamp = rs.getTimestamp("clock_out_time");
-        if (clockOutTimestamp != null) {
-            record.setClockOutTime(clockOutTimestamp.toLocalDateTime());
-        }
-        
-        record.setWorkingMinutes(rs.getLong("working_minutes"));
-        record.setStatus(AttendanceStatus.valueOf(rs.getString("status")));
-        record.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        record.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-        
-        return record;
-    }
-}
\ No newline at end of file
+package kiro.attendance.dao.impl;
+
+import kiro.attendance.dao.AttendanceImportRow;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.AttendanceRecordField;
+import kiro.attendance.dao.BulkImportResult;
+import kiro.attendance.dao.ImportRejectReason;
+import kiro.attendance.dao.PayrollExportRow;
+import kiro.attendance.entity.AttendanceRecord;import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.util.ConnectionProvider;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 勤怠記録DAO実装
+ */
+public class AttendanceRecordDaoImpl implements AttendanceRecordDao {
+
+    /**
+     * エクスポート時にサーバーサイドカーソルから一度に取得する行数
+     */
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    /**
+     * 外部キー制約違反のSQLState
+     */
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    /**
+     * 月別パーティション名の接尾辞（V003の create_attendance_records_partition と同じ形式）
+     */
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    /**
+     * 取得列（ROW_MAPPERはこの順の位置で参照する）
+     */
+    private static final String COLUMNS =
+            AttendanceRecordField.toSelectList(AttendanceRecordField.ALL);
+
+    private static final RowMapper<AttendanceRecord> ROW_MAPPER = rs -> {
+        AttendanceRecord record = new AttendanceRecord();
+        record.setId(rs.getLong(1));
+        record.setEmployeeId(rs.getLong(2));
+        record.setDate(rs.getObject(3, LocalDate.class));
+        record.setClockInTime(rs.getObject(4, LocalDateTime.class));
+        record.setClockOutTime(rs.getObject(5, LocalDateTime.class));
+        record.setWorkingMinutes(rs.getLong(6));
+        record.setStatus(AttendanceStatus.valueOf(rs.getString(7)));
+        record.setCreatedAt(rs.getObject(8, LocalDateTime.class));
+        record.setUpdatedAt(rs.getObject(9, LocalDateTime.class));
+        return record;
+    };
+
+    /**
+     * 在席従業員ID取得（idx_attendance_records_date_coveringのIndex Only Scanで処理される）
+     */
+    static final String CLOCKED_IN_EMPLOYEE_IDS_SQL = "SELECT employee_id FROM attendance_records "
+            + "WHERE date = ? AND clock_in_time IS NOT NULL AND clock_out_time IS NULL";
+
+    /**
+     * 月の従業員別勤務時間合計（idx_attendance_records_date_coveringのIndex Only Scanで処理される）
+     */
+    static final String SUM_WORKING_MINUTES_BY_EMPLOYEE_SQL =
+            "SELECT employee_id, SUM(working_minutes) FROM attendance_records "
+                    + "WHERE date >= ? AND date < ? GROUP BY employee_id";
+
+    /**
+     * COPYで一度に送信するバッファのサイズ（文字数）
+     */
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private static final SqlTemplate SELECT_BY_ID =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectById");
+    private static final SqlTemplate SELECT_BY_EMPLOYEE_ID_AND_DATE =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectByEmployeeIdAndDate");
+    private static final SqlTemplate SELECT_BY_EMPLOYEE_ID_AND_DATE_RANGE =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectByEmployeeIdAndDateRange");
+    private static final SqlTemplate SELECT_ALL_BY_DATE =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectAllByDate");
+    private static final SqlTemplate SELECT_BY_EMPLOYEE_ID =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectByEmployeeId");
+    private static final SqlTemplate COUNT_BY_MONTH =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "countByMonth");
+    private static final SqlTemplate COUNT_BY_EMPLOYEE_ID =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "countByEmployeeId");
+    private static final SqlTemplate DELETE_BY_ID =
+            SqlTemplateRegistry.get(AttendanceRecordDao.class, "deleteById");
+
+    private final ConnectionProvider connectionProvider;
+
+    public AttendanceRecordDaoImpl(Connection connection) {
+        this(() -> connection);
+    }
+
+    public AttendanceRecordDaoImpl(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public Optional<AttendanceRecord> findById(Long id) {
+        try {
+            return SELECT_BY_ID.queryOne(connection(), ROW_MAPPER, id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance record by id", e);
+        }
+    }
+
+    @Override
+    public List<AttendanceRecord> findByIds(Collection<Long> ids) {
+        String sql = "SELECT " + COLUMNS + " FROM attendance_records WHERE id = ANY(?)";
+        List<AttendanceRecord> records = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setArray(1, connection().createArrayOf("bigint", ids.toArray()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by ids", e);
+        }
+        return records;
+    }
+
+    @Override
+    public Optional<AttendanceRecord> findByIdAndDate(Long id, LocalDate date) {
+        String sql = "SELECT " + COLUMNS + " FROM attendance_records WHERE id = ? AND date = ?";
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setLong(1, id);
+            stmt.setObject(2, date);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance record by id and date", e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<AttendanceRecord> findByIdsAndDates(Map<Long, LocalDate> keys) {
+        // IDと日付の組で検索し、日付から該当月のパーティションに絞り込ませる
+        String sql = "SELECT " + COLUMNS + " FROM attendance_records "
+                + "WHERE (id, date) IN (SELECT * FROM unnest(?::bigint[], ?::date[]))";
+        Object[] ids = new Object[keys.size()];
+        Object[] dates = new Object[keys.size()];
+        int i = 0;
+        for (Map.Entry<Long, LocalDate> key : keys.entrySet()) {
+            ids[i] = key.getKey();
+            dates[i] = Date.valueOf(key.getValue());
+            i++;
+        }
+        List<AttendanceRecord> records = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setArray(1, connection().createArrayOf("bigint", ids));
+            stmt.setArray(2, connection().createArrayOf("date", dates));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by ids and dates", e);
+        }
+        return records;
+    }
+
+    @Override
+    public Optional<AttendanceRecord> findByEmployeeIdAndDate(Long employeeId, LocalDate date) {
+        try {
+            return SELECT_BY_EMPLOYEE_ID_AND_DATE.queryOne(connection(), ROW_MAPPER, employeeId,
+                    date);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance record by employee and date", e);
+        }
+    }
+
+    @Override
+    public List<AttendanceRecord> findByEmployeeIdAndDateRange(Long employeeId,
+            LocalDate startDate, LocalDate endDate) {
+        try {
+            return SELECT_BY_EMPLOYEE_ID_AND_DATE_RANGE.query(connection(), ROW_MAPPER, employeeId,
+                    startDate, endDate);
+        } catch (SQLException e) {
+            throw new RuntimeException(
+                    "Failed to find attendance records by employee and date range", e);
+        }
+    }
+
+    @Override
+    public List<AttendanceRecord> findAllByDate(LocalDate date) {
+        try {
+            return SELECT_ALL_BY_DATE.query(connection(), ROW_MAPPER, date);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by date", e);
+        }
+    }
+
+    @Override
+    public List<AttendanceRecord> findByEmployeeIdsAndDate(Collection<Long> employeeIds,
+            LocalDate date) {
+        String sql = "SELECT " + COLUMNS + " FROM attendance_records "
+                + "WHERE date = ? AND employee_id = ANY(?) ORDER BY employee_id";
+        List<AttendanceRecord> records = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setObject(1, date);
+            stmt.setArray(2, connection().createArrayOf("bigint", employeeIds.toArray()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by employees and date", e);
+        }
+        return records;
+    }
+
+    @Override
+    public List<Long> findClockedInEmployeeIds(LocalDate date) {
+        List<Long> employeeIds = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(CLOCKED_IN_EMPLOYEE_IDS_SQL)) {
+            stmt.setObject(1, date);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    employeeIds.add(rs.getLong(1));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find clocked in employees", e);
+        }
+        return employeeIds;
+    }
+
+    @Override
+    public List<AttendanceRecord> findByEmployeeIdAndMonth(Long employeeId, YearMonth month) {
+        return findByEmployeeIdAndMonth(employeeId, month, AttendanceRecordField.ALL);
+    }
+
+    @Override
+    public List<AttendanceRecord> findByEmployeeIdAndMonth(Long employeeId, YearMonth month,
+            Set<AttendanceRecordField> fields) {
+        String sql = "SELECT " + AttendanceRecordField.toSelectList(fields)
+                + " FROM attendance_records WHERE employee_id = ? AND date >= ? AND date < ? ORDER BY date";
+        List<AttendanceRecord> records = new ArrayList<>();
+        
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setLong(1, employeeId);
+            stmt.setObject(2, month.atDay(1));
+            stmt.setObject(3, month.plusMonths(1).atDay(1));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToEntity(rs, fields));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by employee and month", e);
+        }
+        return records;
+    }
+
+    @Override
+    public List<AttendanceRecord> findAllByMonth(YearMonth month) {
+        return findAllByMonth(month, AttendanceRecordField.ALL);
+    }
+
+    @Override
+    public List<AttendanceRecord> findAllByMonth(YearMonth month,
+            Set<AttendanceRecordField> fields) {
+        String sql = "SELECT " + AttendanceRecordField.toSelectList(fields)
+                + " FROM attendance_records WHERE date >= ? AND date < ? ORDER BY employee_id, date";
+        List<AttendanceRecord> records = new ArrayList<>();
+        
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setObject(1, month.atDay(1));
+            stmt.setObject(2, month.plusMonths(1).atDay(1));
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToEntity(rs, fields));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by month", e);
+        }
+        return records;
+    }
+
+    @Override
+    public Map<Long, Long> sumWorkingMinutesByEmployee(YearMonth month) {
+        Map<Long, Long> totals = new HashMap<>();
+
+        try (PreparedStatement stmt =
+                connection().prepareStatement(SUM_WORKING_MINUTES_BY_EMPLOYEE_SQL)) {
+            stmt.setObject(1, month.atDay(1));
+            stmt.setObject(2, month.plusMonths(1).atDay(1));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    totals.put(rs.getLong(1), rs.getLong(2));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to sum working minutes by employee", e);
+        }
+        return totals;
+    }
+
+    @Override
+    public long countByMonth(YearMonth month) {
+        try {
+            return COUNT_BY_MONTH.queryForLong(connection(), month.atDay(1), month.atEndOfMonth());
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count attendance records by month", e);
+        }
+    }
+
+    @Override
+    public long countByEmployeeId(Long employeeId) {
+        try {
+            return COUNT_BY_EMPLOYEE_ID.queryForLong(connection(), employeeId);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count attendance records by employee", e);
+        }
+    }
+
+    @Override
+    public List<AttendanceRecord> findByEmployeeId(Long employeeId) {
+        try {
+            return SELECT_BY_EMPLOYEE_ID.query(connection(), ROW_MAPPER, employeeId);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records by employee", e);
+        }
+    }
+
+    @Override
+    public List<AttendanceRecord> findByEmployeeIdBefore(Long employeeId, LocalDate beforeDate,
+            int limit, Set<AttendanceRecordField> fields) {
+        // 次ページのカーソル作成に日付が必要なため常に取得する
+        Set<AttendanceRecordField> columns =
+                AttendanceRecordField.including(fields, AttendanceRecordField.DATE);
+        String select = "SELECT " + AttendanceRecordField.toSelectList(columns);
+
+        // (employee_id, date) の一意制約インデックスを降順に走査する
+        String sql = beforeDate == null
+                ? select + " FROM attendance_records WHERE employee_id = ? "
+                        + "ORDER BY date DESC LIMIT ?"
+                : select + " FROM attendance_records WHERE employee_id = ? AND date < ? "
+                        + "ORDER BY date DESC LIMIT ?";
+        List<AttendanceRecord> records = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            int index = 1;
+            stmt.setLong(index++, employeeId);
+            if (beforeDate != null) {
+                stmt.setObject(index++, beforeDate);
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToEntity(rs, columns));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records page by employee", e);
+        }
+        return records;
+    }
+
+    @Override
+    public List<AttendanceRecord> findAllByMonthAfter(YearMonth month, Long afterEmployeeId,
+            LocalDate afterDate, int limit, Set<AttendanceRecordField> fields) {
+        // 次ページのカーソル作成に従業員IDと日付が必要なため常に取得する
+        Set<AttendanceRecordField> columns = AttendanceRecordField.including(fields,
+                AttendanceRecordField.EMPLOYEE_ID, AttendanceRecordField.DATE);
+        String select = "SELECT " + AttendanceRecordField.toSelectList(columns);
+
+        // 行値比較により (employee_id, date) インデックスの範囲スキャンで続きから取得する
+        String sql = afterEmployeeId == null
+                ? select + " FROM attendance_records WHERE date >= ? AND date < ? "
+                        + "ORDER BY employee_id, date LIMIT ?"
+                : select + " FROM attendance_records WHERE date >= ? AND date < ? "
+                        + "AND (employee_id, date) > (?, ?) ORDER BY employee_id, date LIMIT ?";
+        List<AttendanceRecord> records = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            int index = 1;
+            stmt.setObject(index++, month.atDay(1));
+            stmt.setObject(index++, month.plusMonths(1).atDay(1));
+            if (afterEmployeeId != null) {
+                stmt.setLong(index++, afterEmployeeId);
+                stmt.setObject(index++, afterDate);
+            }
+            stmt.setInt(index, limit);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    records.add(mapResultSetToEntity(rs, columns));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find attendance records page by month", e);
+        }
+        return records;
+    }
+
+    @Override
+    public void forEachPayrollRow(YearMonth month, Consumer<PayrollExportRow> consumer) {
+        String sql = "SELECT r.employee_id, e.employee_number, e.name, r.date, r.clock_in_time, "
+                + "r.clock_out_time, r.working_minutes, r.status "
+                + "FROM attendance_records r JOIN employees e ON e.id = r.employee_id "
+                + "WHERE r.date >= ? AND r.date < ? ORDER BY r.employee_id, r.date";
+
+        try {
+            CursorReader.forEach(connection(), sql,
+                    List.of(month.atDay(1), month.plusMonths(1).atDay(1)), EXPORT_FETCH_SIZE,
+                    rs -> new PayrollExportRow(rs.getLong(1), rs.getString(2), rs.getString(3),
+                            rs.getObject(4, LocalDate.class),
+                            rs.getObject(5, LocalDateTime.class),
+                            rs.getObject(6, LocalDateTime.class), rs.getLong(7),
+                            AttendanceStatus.valueOf(rs.getString(8))),
+                    consumer);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to export attendance records by month", e);
+        }
+    }
+
+    @Override
+    public Optional<AttendanceRecord> upsertClockIn(Long employeeId, LocalDate date,
+            LocalDateTime clockInTime) {
+        // 一意制約 (employee_id, date) で競合した場合、出勤時刻が未設定の行のみ更新する
+        String sql = "INSERT INTO attendance_records (employee_id, date, clock_in_time, clock_out_time, working_minutes, status) "
+                + "VALUES (?, ?, ?, NULL, 0, ?) "
+                + "ON CONFLICT (employee_id, date) DO UPDATE "
+                + "SET clock_in_time = EXCLUDED.clock_in_time, status = EXCLUDED.status "
+                + "WHERE attendance_records.clock_in_time IS NULL RETURNING " + COLUMNS;
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setLong(1, employeeId);
+            stmt.setObject(2, date);
+            stmt.setObject(3, clockInTime);
+            stmt.setString(4, AttendanceStatus.PARTIAL.name());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            if (FOREIGN_KEY_VIOLATION.equals(e.getSQLState())) {
+                throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+            }
+            throw new RuntimeException("Failed to upsert clock-in", e);
+        }
+        // 競合した行が既に出勤打刻済みのため更新されなかった
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<AttendanceRecord> updateClockOut(Long employeeId, LocalDate date,
+            LocalDateTime clockOutTime) {
+        String sql = "UPDATE attendance_records SET clock_out_time = ?, "
+                + "working_minutes = FLOOR(EXTRACT(EPOCH FROM (CAST(? AS TIMESTAMP) - clock_in_time)) / 60), "
+                + "status = ? "
+                + "WHERE employee_id = ? AND date = ? AND clock_in_time IS NOT NULL AND clock_out_time IS NULL "
+                + "RETURNING " + COLUMNS;
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setObject(1, clockOutTime);
+            stmt.setObject(2, clockOutTime);
+            stmt.setString(3, AttendanceStatus.PRESENT.name());
+            stmt.setLong(4, employeeId);
+            stmt.setObject(5, date);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return Optional.of(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update clock-out", e);
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public BulkImportResult bulkImport(List<AttendanceImportRow> rows) {
+        try {
+            // 自動コミットの接続では取り込み用のトランザクションを開始する。呼び出し元の
+            // トランザクション内で呼ばれた場合はコミット・ロールバックを呼び出し元に任せる
+            boolean ownTransaction = connection().getAutoCommit();
+            if (ownTransaction) {
+                connection().setAutoCommit(false);
+            }
+            try {
+                try (Statement stmt = connection().createStatement()) {
+                    stmt.execute("CREATE TEMP TABLE attendance_import_staging ("
+                            + "line_number BIGINT NOT NULL, employee_id BIGINT NOT NULL, date DATE NOT NULL, "
+                            + "clock_in_time TIMESTAMP, clock_out_time TIMESTAMP) ON COMMIT DROP");
+                }
+                copyToStaging(rows);
+                createStagedPartitions();
+                List<BulkImportResult.RejectedRow> rejectedRows = mergeStaging();
+                if (ownTransaction) {
+                    connection().commit();
+                } else {
+                    // 呼び出し元のトランザクション内で再度取り込めるよう、コミットを待たずに削除する
+                    try (Statement stmt = connection().createStatement()) {
+                        stmt.execute("DROP TABLE attendance_import_staging");
+                    }
+                }
+                return new BulkImportResult(rows.size() - rejectedRows.size(), rejectedRows);
+            } catch (SQLException | RuntimeException e) {
+                if (ownTransaction) {
+                    connection().rollback();
+                }
+                throw e;
+            } finally {
+                if (ownTransaction) {
+                    connection().setAutoCommit(true);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to bulk import attendance records", e);
+        }
+    }
+
+    /**
+     * 行をCSVにしてCOPYで一時テーブルへ送信（一定サイズごとに送信し、全行分の文字列は作らない）
+     */
+    private void copyToStaging(List<AttendanceImportRow> rows) throws SQLException {
+        CopyManager copyManager = connection().unwrap(PGConnection.class).getCopyAPI();
+        CopyIn copyIn = copyManager.copyIn("COPY attendance_import_staging "
+                + "(line_number, employee_id, date, clock_in_time, clock_out_time) FROM STDIN WITH (FORMAT csv)");
+        try {
+            StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 128);
+            for (AttendanceImportRow row : rows) {
+                // CSV形式では引用符なしの空欄がNULLとして扱われる
+                buffer.append(row.getLineNumber()).append(',').append(row.getEmployeeId())
+                        .append(',').append(row.getDate()).append(',');
+                if (row.getClockInTime() != null) {
+                    buffer.append(row.getClockInTime());
+                }
+                buffer.append(',');
+                if (row.getClockOutTime() != null) {
+                    buffer.append(row.getClockOutTime());
+                }
+                buffer.append('\n');
+
+                if (buffer.length() >= COPY_BUFFER_SIZE) {
+                    writeToCopy(copyIn, buffer);
+                }
+            }
+            writeToCopy(copyIn, buffer);
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private void writeToCopy(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * 取り込む月の月別パーティションを作成（作成済みの月は何もしない）
+     *
+     * 過去の履歴の移行でパーティションのない月がデフォルトパーティションに入ると、
+     * 以降その月のパーティションは作成できなくなるため、登録前に作成しておく
+     */
+    private void createStagedPartitions() throws SQLException {
+        try (Statement stmt = connection().createStatement()) {
+            stmt.execute("SELECT create_attendance_records_partition(m) FROM ("
+                    + "SELECT DISTINCT date_trunc('month', date)::date AS m FROM attendance_import_staging) s");
+        }
+    }
+
+    /**
+     * 一時テーブルから一括登録し、登録しなかった行を理由とともに返す
+     *
+     * ファイル内で重複する従業員・日付は先頭の行のみを対象とし、
+     * 一意制約 (employee_id, date) に競合する行はON CONFLICT DO NOTHINGで除外する
+     */
+    private List<BulkImportResult.RejectedRow> mergeStaging() throws SQLException {
+        String sql = "WITH ranked AS ("
+                + "SELECT s.*, ROW_NUMBER() OVER (PARTITION BY s.employee_id, s.date ORDER BY s.line_number) AS rn "
+                + "FROM attendance_import_staging s), "
+                + "inserted AS ("
+                + "INSERT INTO attendance_records (employee_id, date, clock_in_time, clock_out_time, working_minutes, status) "
+                + "SELECT r.employee_id, r.date, r.clock_in_time, r.clock_out_time, "
+                + "COALESCE(FLOOR(EXTRACT(EPOCH FROM (r.clock_out_time - r.clock_in_time)) / 60), 0), "
+                + "CASE WHEN r.clock_out_time IS NOT NULL THEN 'PRESENT' "
+                + "WHEN r.clock_in_time IS NOT NULL THEN 'PARTIAL' ELSE 'ABSENT' END "
+                + "FROM ranked r JOIN employees e ON e.id = r.employee_id WHERE r.rn = 1 "
+                + "ON CONFLICT (employee_id, date) DO NOTHING "
+                + "RETURNING employee_id, date) "
+                + "SELECT r.line_number, CASE WHEN e.id IS NULL THEN 'EMPLOYEE_NOT_FOUND' "
+                + "WHEN r.rn > 1 THEN 'DUPLICATE_IN_FILE' ELSE 'ALREADY_EXISTS' END "
+                + "FROM ranked r LEFT JOIN employees e ON e.id = r.employee_id "
+                + "WHERE r.rn > 1 OR NOT EXISTS (SELECT 1 FROM inserted i "
+                + "WHERE i.employee_id = r.employee_id AND i.date = r.date) "
+                + "ORDER BY r.line_number";
+        List<BulkImportResult.RejectedRow> rejectedRows = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                rejectedRows.add(new BulkImportResult.RejectedRow(rs.getLong(1),
+                        ImportRejectReason.valueOf(rs.getString(2))));
+            }
+        }
+        return rejectedRows;
+    }
+
+    @Override
+    public AttendanceRecord insert(AttendanceRecord record) {
+        String sql = "INSERT INTO attendance_records (employee_id, date, clock_in_time, clock_out_time, working_minutes, status) " +
+                     "VALUES (?, ?, ?, ?, ?, ?) RETURNING " + COLUMNS;
+        
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setLong(1, record.getEmployeeId());
+            stmt.setObject(2, record.getDate());
+            stmt.setObject(3, record.getClockInTime());
+            stmt.setObject(4, record.getClockOutTime());
+            stmt.setLong(5, record.getWorkingMinutes());
+            stmt.setString(6, record.getStatus().name());
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return ROW_MAPPER.mapRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to insert attendance record", e);
+        }
+        throw new RuntimeException("Failed to insert attendance record");
+    }
+
+    @Override
+    public AttendanceRecord update(AttendanceRecord record) {
+        String sql = "UPDATE attendance_records SET clock_in_time = ?, clock_out_time = ?, working_minutes = ?, status = ? " +
+                     "WHERE id = ? AND date = ? RETURNING " + COLUMNS;
+        
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setObject(1, record.getClockInTime());
+            stmt.setObject(2, record.getClockOutTime());
+            stmt.setLong(3, record.getWorkingMinutes());
+            stmt.setString(4, record.getStatus().name());
+            stmt.setLong(5, record.getId());
+            stmt.setObject(6, record.getDate());
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return ROW_MAPPER.mapRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update attendance record", e);
+        }
+        throw new RuntimeException("Failed to update attendance record");
+    }
+
+    @Override
+    public void updateAll(List<AttendanceRecord> records) {
+        String sql = "UPDATE attendance_records SET clock_in_time = ?, clock_out_time = ?, working_minutes = ?, status = ? "
+                + "WHERE id = ? AND date = ?";
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            for (AttendanceRecord record : records) {
+                stmt.setObject(1, record.getClockInTime());
+                stmt.setObject(2, record.getClockOutTime());
+                stmt.setLong(3, record.getWorkingMinutes());
+                stmt.setString(4, record.getStatus().name());
+                stmt.setLong(5, record.getId());
+                stmt.setObject(6, record.getDate());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update attendance records", e);
+        }
+    }
+
+    @Override
+    public void ensurePartitions(YearMonth from, int monthsAhead) {
+        String sql = "SELECT ensure_attendance_records_partitions(?, ?)";
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setObject(1, from.atDay(1));
+            stmt.setInt(2, monthsAhead);
+            stmt.execute();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to ensure attendance record partitions", e);
+        }
+    }
+
+    @Override
+    public boolean partitionExists(YearMonth month) {
+        String sql = "SELECT to_regclass(?) IS NOT NULL";
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setString(1, "attendance_records_" + month.format(PARTITION_SUFFIX));
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to check attendance record partition", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        try {
+            DELETE_BY_ID.update(connection(), id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete attendance record", e);
+        }
+    }
+
+    /**
+     * 指定項目のみを取得した行をエンティティに変換（列は項目セットの順に並ぶ）
+     */
+    private AttendanceRecord mapResultSetToEntity(ResultSet rs, Set<AttendanceRecordField> fields)
+            throws SQLException {
+        if (fields.size() == AttendanceRecordField.ALL.size()) {
+            return ROW_MAPPER.mapRow(rs);
+        }
+
+        AttendanceRecord record = new AttendanceRecord();
+        int index = 1;
+        for (AttendanceRecordField field : fields) {
+            switch (field) {
+                case ID -> record.setId(rs.getLong(index));
+                case EMPLOYEE_ID -> record.setEmployeeId(rs.getLong(index));
+                case DATE -> record.setDate(rs.getObject(index, LocalDate.class));
+                case CLOCK_IN_TIME -> record.setClockInTime(rs.getObject(index, LocalDateTime.class));
+                case CLOCK_OUT_TIME -> record.setClockOutTime(rs.getObject(index, LocalDateTime.class));
+                case WORKING_MINUTES -> record.setWorkingMinutes(rs.getLong(index));
+                case STATUS -> record.setStatus(AttendanceStatus.valueOf(rs.getString(index)));
+                case CREATED_AT -> record.setCreatedAt(rs.getObject(index, LocalDateTime.class));
+                case UPDATED_AT -> record.setUpdatedAt(rs.getObject(index, LocalDateTime.class));
+            }
+            index++;
+        }
+        return record;
+    }
+
+    private Connection connection() throws SQLException {
+        return connectionProvider.getConnection();
+    }
+}
@@ -1,195 +1,555 @@
-package kiro.attendance.dao.impl;
-
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import kiro.attendance.dao.CorrectionRequestDao;
-import kiro.attendance.entity.CorrectionRequest;
-import kiro.attendance.entity.CorrectionStatus;
-
-/**
- * 修正申請DAO実装
- */
-public class CorrectionRequestDaoImpl implements CorrectionRequestDao {
-
-    private final Connection connection;
-
-    public CorrectionRequestDaoImpl(Connection connection) {
-        this.connection = connection;
-    }
-
-    @Override
-    public Optional<CorrectionRequest> findById(Long id) {
-        String sql = "SELECT * FROM correction_requests WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find correction request by id", e);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public List<CorrectionRequest> findPendingRequests() {
-        return findByStatus(CorrectionStatus.PENDING);
-    }
-
-    @Override
-    public List<CorrectionRequest> findByEmployeeId(Long employeeId) {
-        String sql =
-                "SELECT * FROM correction_requests WHERE employee_id = ? ORDER BY request_date DESC";
-        List<CorrectionRequest> requests = new ArrayList<>();
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, employeeId);
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    requests.add(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find correction requests by employee", e);
-        }
-        return requests;
-    }
-
-    @Override
-    public List<CorrectionRequest> findByStatus(CorrectionStatus status) {
-        String sql =
-                "SELECT * FROM correction_requests WHERE status = ? ORDER BY request_date DESC";
-        List<CorrectionRequest> requests = new ArrayList<>();
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, status.name());
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                while (rs.next()) {
-                    requests.add(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find correction requests by status", e);
-        }
-        return requests;
-    }
-
-    @Override
-    public CorrectionRequest insert(CorrectionRequest request) {
-        String sql =
-                "INSERT INTO correction_requests (employee_id, original_record_id, requested_clock_in, "
-                        + "requested_clock_out, reason, status, request_date) "
-                        + "VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING *";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, request.getEmployeeId());
-            stmt.setLong(2, request.getOriginalRecordId());
-            stmt.setTimestamp(3,
-                    request.getRequestedClockIn() != null
-                            ? Timestamp.valueOf(request.getRequestedClockIn())
-                            : null);
-            stmt.setTimestamp(4,
-                    request.getRequestedClockOut() != null
-                            ? Timestamp.valueOf(request.getRequestedClockOut())
-                            : null);
-            stmt.setString(5, request.getReason());
-            stmt.setString(6, request.getStatus().name());
-            stmt.setTimestamp(7, Timestamp.valueOf(request.getRequestDate()));
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEntity(rs);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to insert correction request", e);
-        }
-        throw new RuntimeException("Failed to insert correction request");
-    }
-
-    @Override
-    public CorrectionRequest update(CorrectionRequest request) {
-        String sql =
-                "UPDATE correction_requests SET requested_clock_in = ?, requested_clock_out = ?, "
-                        + "reason = ?, status = ?, processed_date = ? WHERE id = ? RETURNING *";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setTimestamp(1,
-                    request.getRequestedClockIn() != null
-                            ? Timestamp.valueOf(request.getRequestedClockIn())
-                            : null);
-            stmt.setTimestamp(2,
-                    request.getRequestedClockOut() != null
-                            ? Timestamp.valueOf(request.getRequestedClockOut())
-                            : null);
-            stmt.setString(3, request.getReason());
-            stmt.setString(4, request.getStatus().name());
-            stmt.setTimestamp(5,
-                    request.getProcessedDate() != null
-                            ? Timestamp.valueOf(request.getProcessedDate())
-                            : null);
-            stmt.setLong(6, request.getId());
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEntity(rs);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to update correction request", e);
-        }
-        throw new RuntimeException("Failed to update correction request");
-    }
-
-    @Override
-    public void delete(Long id) {
-        String sql = "DELETE FROM correction_requests WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to delete correction request", e);
-        }
-    }
-
-    private CorrectionRequest mapResultSetToEntity(ResultSet rs) throws SQLException {
-        CorrectionRequest request = new CorrectionRequest();
-        request.setId(rs.getLong("id"));
-        request.setEmployeeId(rs.getLong("employee_id"));
-        request.setOriginalRecordId(rs.getLong("original_record_id"));
-
-        Timestamp requestedClockIn = rs.getTimestamp("requested_clock_in");
-        if (requestedClockIn != null) {
-            request.setRequestedClockIn(requestedClockIn.toLocalDateTime());
-        }
-
-        Timestamp requestedClockOut = rs.getTimestamp("requested_clock_out");
-        if (requestedClockOut != null) {
-            request.setRequestedClockOut(requestedClockOut.toLocalDateTime());
-        }
-
-        request.setReason(rs.getString("reason"));
-        request.setStatus(CorrectionStatus.valueOf(rs.getString("status")));
-        request.setRequestDate(rs.getTimestamp("request_date").toLocalDateTime());
-
-        Timestamp processedDate = rs.getTimestamp("processed_date");
-        if (processedDate != null) {
-            request.setProcessedDate(processedDate.toLocalDateTime());
-        }
-
-        request.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        request.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-
-        return request;
-    }
-}
+package kiro.attendance.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.dao.CorrectionRequestView;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.entity.CorrectionRequest;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.util.ConnectionProvider;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+
+/**
+ * 修正申請DAO実装
+ */
+public class CorrectionRequestDaoImpl implements CorrectionRequestDao {
+
+    /**
+     * エクスポート時にサーバーサイドカーソルから一度に取得する行数
+     */
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    /**
+     * 外部キー制約違反のSQLState
+     */
+    private static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    /**
+     * employee_id の外部キー制約名
+     */
+    private static final String EMPLOYEE_FOREIGN_KEY = "correction_requests_employee_id_fkey";
+
+    /**
+     * 取得列（ROW_MAPPERはこの順の位置で参照する）
+     */
+    private static final String COLUMNS =
+            "id, employee_id, original_record_id, requested_clock_in, requested_clock_out, reason, "
+                    + "status, request_date, processed_date, created_at, updated_at, "
+                    + "original_record_date";
+
+    /**
+     * 承認待ちの条件（部分インデックス idx_correction_requests_pending の述語と一致させるため、
+     * バインド変数にせずリテラルで指定する）
+     */
+    static final String PENDING_CONDITION = "status = 'PENDING'";
+
+    private static final RowMapper<CorrectionRequest> ROW_MAPPER = rs -> {
+        CorrectionRequest request = new CorrectionRequest();
+        request.setId(rs.getLong(1));
+        request.setEmployeeId(rs.getLong(2));
+        request.setOriginalRecordId(rs.getLong(3));
+        request.setRequestedClockIn(rs.getObject(4, LocalDateTime.class));
+        request.setRequestedClockOut(rs.getObject(5, LocalDateTime.class));
+        request.setReason(rs.getString(6));
+        request.setStatus(CorrectionStatus.valueOf(rs.getString(7)));
+        request.setRequestDate(rs.getObject(8, LocalDateTime.class));
+        request.setProcessedDate(rs.getObject(9, LocalDateTime.class));
+        request.setCreatedAt(rs.getObject(10, LocalDateTime.class));
+        request.setUpdatedAt(rs.getObject(11, LocalDateTime.class));
+        request.setOriginalRecordDate(rs.getObject(12, LocalDate.class));
+        return request;
+    };
+
+    /**
+     * 一覧表示用の取得列（修正申請、元の勤怠記録、従業員名の順。VIEW_ROW_MAPPERはこの順の位置で参照する）
+     */
+    private static final String VIEW_COLUMNS =
+            "c.id, c.employee_id, c.original_record_id, c.requested_clock_in, "
+                    + "c.requested_clock_out, c.reason, c.status, c.request_date, "
+                    + "c.processed_date, c.created_at, c.updated_at, c.original_record_date, "
+                    + "r.id, r.employee_id, r.date, "
+                    + "r.clock_in_time, r.clock_out_time, r.working_minutes, r.status, "
+                    + "r.created_at, r.updated_at, e.name";
+
+    private static final RowMapper<CorrectionRequestView> VIEW_ROW_MAPPER = rs -> {
+        AttendanceRecord record = new AttendanceRecord();
+        record.setId(rs.getLong(13));
+        record.setEmployeeId(rs.getLong(14));
+        record.setDate(rs.getObject(15, LocalDate.class));
+        record.setClockInTime(rs.getObject(16, LocalDateTime.class));
+        record.setClockOutTime(rs.getObject(17, LocalDateTime.class));
+        record.setWorkingMinutes(rs.getLong(18));
+        record.setStatus(AttendanceStatus.valueOf(rs.getString(19)));
+        record.setCreatedAt(rs.getObject(20, LocalDateTime.class));
+        record.setUpdatedAt(rs.getObject(21, LocalDateTime.class));
+        return new CorrectionRequestView(ROW_MAPPER.mapRow(rs), record, rs.getString(22));
+    };
+
+    private static final SqlTemplate SELECT_BY_ID =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectById");
+    private static final SqlTemplate SELECT_PENDING_REQUESTS =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectPendingRequests");
+    private static final SqlTemplate SELECT_BY_EMPLOYEE_ID =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectByEmployeeId");
+    private static final SqlTemplate SELECT_BY_EMPLOYEE_ID_AND_STATUS =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectByEmployeeIdAndStatus");
+    private static final SqlTemplate SELECT_BY_STATUS =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectByStatus");
+    private static final SqlTemplate SELECT_BY_ORIGINAL_RECORD_ID =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectByOriginalRecordId");
+    private static final SqlTemplate SELECT_BY_REQUEST_DATE_RANGE =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectByRequestDateRange");
+    private static final SqlTemplate COUNT_BY_STATUS =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "countByStatus");
+    private static final SqlTemplate COUNT_PENDING_REQUESTS =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "countPendingRequests");
+    private static final SqlTemplate COUNT_BY_EMPLOYEE_ID =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "countByEmployeeId");
+    private static final SqlTemplate DELETE_BY_ID =
+            SqlTemplateRegistry.get(CorrectionRequestDao.class, "deleteById");
+
+    private final ConnectionProvider connectionProvider;
+
+    public CorrectionRequestDaoImpl(Connection connection) {
+        this(() -> connection);
+    }
+
+    public CorrectionRequestDaoImpl(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public Optional<CorrectionRequest> findById(Long id) {
+        try {
+            return SELECT_BY_ID.queryOne(connection(), ROW_MAPPER, id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find correction request by id", e);
+        }
+    }
+
+    @Override
+    public List<CorrectionRequest> findByIdsForUpdate(Collection<Long> ids) {
+        String sql = "SELECT " + COLUMNS + " FROM correction_requests WHERE id = ANY(?) "
+                + "ORDER BY id FOR UPDATE";
+        List<CorrectionRequest> requests = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setArray(1, connection().createArrayOf("bigint", ids.toArray()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    requests.add(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find correction requests by ids", e);
+        }
+        return requests;
+    }
+
+    @Override
+    public List<CorrectionRequest> findPendingRequests() {
+        try {
+            return SELECT_PENDING_REQUESTS.query(connection(), ROW_MAPPER);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find pending correction requests", e);
+        }
+    }
+
+    @Override
+    public List<CorrectionRequest> findPendingRequestsAfter(LocalDateTime afterRequestDate,
+            Long afterId, int limit) {
+        PageQuery page = PageQuery.pending(afterRequestDate, afterId, limit);
+        return query(pageSql(page.condition, page.ascending, page.hasCursor), ROW_MAPPER,
+                "Failed to find pending correction requests page", page.parameters);
+    }
+
+    @Override
+    public List<CorrectionRequestView> findPendingViewsAfter(LocalDateTime afterRequestDate,
+            Long afterId, int limit) {
+        PageQuery page = PageQuery.pending(afterRequestDate, afterId, limit);
+        return query(viewSql(page), VIEW_ROW_MAPPER,
+                "Failed to find pending correction request views page", page.parameters);
+    }
+
+    @Override
+    public List<CorrectionRequest> findByEmployeeId(Long employeeId) {
+        try {
+            return SELECT_BY_EMPLOYEE_ID.query(connection(), ROW_MAPPER, employeeId);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find correction requests by employee", e);
+        }
+    }
+
+    @Override
+    public List<CorrectionRequest> findByEmployeeIdBefore(Long employeeId,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit) {
+        PageQuery page = PageQuery.byEmployeeId(employeeId, beforeRequestDate, beforeId, limit);
+        return query(pageSql(page.condition, page.ascending, page.hasCursor), ROW_MAPPER,
+                "Failed to find correction requests page by employee", page.parameters);
+    }
+
+    @Override
+    public List<CorrectionRequestView> findViewsByEmployeeIdBefore(Long employeeId,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit) {
+        PageQuery page = PageQuery.byEmployeeId(employeeId, beforeRequestDate, beforeId, limit);
+        return query(viewSql(page), VIEW_ROW_MAPPER,
+                "Failed to find correction request views page by employee", page.parameters);
+    }
+
+    @Override
+    public List<CorrectionRequest> findByEmployeeIdAndStatus(Long employeeId,
+            CorrectionStatus status) {
+        try {
+            return SELECT_BY_EMPLOYEE_ID_AND_STATUS.query(connection(), ROW_MAPPER, employeeId,
+                    status);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find correction requests by employee and status",
+                    e);
+        }
+    }
+
+    @Override
+    public List<CorrectionRequest> findByStatus(CorrectionStatus status) {
+        try {
+            return SELECT_BY_STATUS.query(connection(), ROW_MAPPER, status);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find correction requests by status", e);
+        }
+    }
+
+    @Override
+    public List<CorrectionRequest> findByStatusBefore(CorrectionStatus status,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit) {
+        PageQuery page = PageQuery.byStatus(status, beforeRequestDate, beforeId, limit);
+        return query(pageSql(page.condition, page.ascending, page.hasCursor), ROW_MAPPER,
+                "Failed to find correction requests page by status", page.parameters);
+    }
+
+    @Override
+    public List<CorrectionRequestView> findViewsByStatusBefore(CorrectionStatus status,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit) {
+        PageQuery page = PageQuery.byStatus(status, beforeRequestDate, beforeId, limit);
+        return query(viewSql(page), VIEW_ROW_MAPPER,
+                "Failed to find correction request views page by status", page.parameters);
+    }
+
+    @Override
+    public List<CorrectionRequest> findByOriginalRecordId(Long originalRecordId) {
+        try {
+            return SELECT_BY_ORIGINAL_RECORD_ID.query(connection(), ROW_MAPPER, originalRecordId);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find correction requests by original record", e);
+        }
+    }
+
+    @Override
+    public List<CorrectionRequest> findByRequestDateRangeBefore(CorrectionRequestSearch search,
+            LocalDateTime beforeRequestDate, Long beforeId, int limit) {
+        List<Object> parameters = new ArrayList<>();
+        StringBuilder sql = searchSql(search, parameters);
+        if (beforeRequestDate != null) {
+            sql.append(" AND (request_date, id) < (?, ?)");
+            parameters.add(beforeRequestDate);
+            parameters.add(beforeId);
+        }
+        sql.append(" ORDER BY request_date DESC, id DESC LIMIT ?");
+        parameters.add(limit);
+        return query(sql.toString(), ROW_MAPPER,
+                "Failed to find correction requests page by request date range", parameters);
+    }
+
+    @Override
+    public void forEachByRequestDateRange(CorrectionRequestSearch search,
+            Consumer<CorrectionRequest> consumer) {
+        List<Object> parameters = new ArrayList<>();
+        String sql = searchSql(search, parameters).append(" ORDER BY request_date, id").toString();
+
+        try {
+            CursorReader.forEach(connection(), sql, parameters, EXPORT_FETCH_SIZE, ROW_MAPPER,
+                    consumer);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to export correction requests by request date range",
+                    e);
+        }
+    }
+
+    @Override
+    public long countByStatus(CorrectionStatus status) {
+        try {
+            return COUNT_BY_STATUS.queryForLong(connection(), status);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count correction requests by status", e);
+        }
+    }
+
+    @Override
+    public long countPendingRequests() {
+        try {
+            return COUNT_PENDING_REQUESTS.queryForLong(connection());
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count pending correction requests", e);
+        }
+    }
+
+    @Override
+    public long countByEmployeeId(Long employeeId) {
+        try {
+            return COUNT_BY_EMPLOYEE_ID.queryForLong(connection(), employeeId);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count correction requests by employee", e);
+        }
+    }
+
+    @Override
+    public CorrectionRequest insert(CorrectionRequest request) {
+        String sql =
+                "INSERT INTO correction_requests (employee_id, original_record_id, requested_clock_in, "
+                        + "requested_clock_out, reason, status, request_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING " + COLUMNS;
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setLong(1, request.getEmployeeId());
+            stmt.setLong(2, request.getOriginalRecordId());
+            stmt.setObject(3, request.getRequestedClockIn());
+            stmt.setObject(4, request.getRequestedClockOut());
+            stmt.setString(5, request.getReason());
+            stmt.setString(6, request.getStatus().name());
+            stmt.setObject(7, request.getRequestDate());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return ROW_MAPPER.mapRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            // 存在確認をキャッシュで済ませた従業員が削除済みの場合
+            if (isEmployeeForeignKeyViolation(e)) {
+                throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+            }
+            throw new RuntimeException("Failed to insert correction request", e);
+        }
+        throw new RuntimeException("Failed to insert correction request");
+    }
+
+    /**
+     * employee_id の外部キー制約違反か判定（制約名はメッセージではなくサーバーのエラー詳細から取得する）
+     */
+    static boolean isEmployeeForeignKeyViolation(SQLException e) {
+        if (!FOREIGN_KEY_VIOLATION.equals(e.getSQLState()) || !(e instanceof PSQLException)) {
+            return false;
+        }
+        ServerErrorMessage serverError = ((PSQLException) e).getServerErrorMessage();
+        return serverError != null && EMPLOYEE_FOREIGN_KEY.equals(serverError.getConstraint());
+    }
+
+    @Override
+    public CorrectionRequest update(CorrectionRequest request) {
+        String sql =
+                "UPDATE correction_requests SET requested_clock_in = ?, requested_clock_out = ?, "
+                        + "reason = ?, status = ?, processed_date = ? WHERE id = ? "
+                        + "RETURNING " + COLUMNS;
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setObject(1, request.getRequestedClockIn());
+            stmt.setObject(2, request.getRequestedClockOut());
+            stmt.setString(3, request.getReason());
+            stmt.setString(4, request.getStatus().name());
+            stmt.setObject(5, request.getProcessedDate());
+            stmt.setLong(6, request.getId());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return ROW_MAPPER.mapRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update correction request", e);
+        }
+        throw new RuntimeException("Failed to update correction request");
+    }
+
+    @Override
+    public void updateAll(List<CorrectionRequest> requests) {
+        String sql =
+                "UPDATE correction_requests SET requested_clock_in = ?, requested_clock_out = ?, "
+                        + "reason = ?, status = ?, processed_date = ? WHERE id = ?";
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            for (CorrectionRequest request : requests) {
+                stmt.setObject(1, request.getRequestedClockIn());
+                stmt.setObject(2, request.getRequestedClockOut());
+                stmt.setString(3, request.getReason());
+                stmt.setString(4, request.getStatus().name());
+                stmt.setObject(5, request.getProcessedDate());
+                stmt.setLong(6, request.getId());
+                stmt.addBatch();
+            }
+            stmt.executeBatch();
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update correction requests", e);
+        }
+    }
+
+    @Override
+    public void delete(Long id) {
+        try {
+            DELETE_BY_ID.update(connection(), id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete correction request", e);
+        }
+    }
+
+    /**
+     * (request_date, id) のキーセットページング用SQLを作成
+     *
+     * カーソル指定時は行値比較で前ページ末尾の行の続きから取得し、(…, request_date, id) の
+     * インデックスの範囲スキャンでソートせずにLIMIT件で打ち切る
+     */
+    static String pageSql(String condition, boolean ascending, boolean hasCursor) {
+        return pageSql(COLUMNS, condition, ascending, hasCursor);
+    }
+
+    private static String pageSql(String columns, String condition, boolean ascending,
+            boolean hasCursor) {
+        String direction = ascending ? "" : " DESC";
+        StringBuilder sql = new StringBuilder("SELECT ").append(columns)
+                .append(" FROM correction_requests WHERE ").append(condition);
+        if (hasCursor) {
+            sql.append(" AND (request_date, id) ").append(ascending ? ">" : "<").append(" (?, ?)");
+        }
+        return sql.append(" ORDER BY request_date").append(direction).append(", id")
+                .append(direction).append(" LIMIT ?").toString();
+    }
+
+    /**
+     * 申請日の範囲のテンプレートに、指定されたステータス・従業員の条件を追加
+     *
+     * 従業員またはステータスを指定した場合は (…, request_date, id) のインデックス、
+     * どちらもない場合は申請日時のインデックスで範囲を走査する
+     */
+    private static StringBuilder searchSql(CorrectionRequestSearch search,
+            List<Object> parameters) {
+        StringBuilder sql = new StringBuilder(SELECT_BY_REQUEST_DATE_RANGE.getSql());
+        parameters.add(search.getRequestDateFrom());
+        parameters.add(search.getRequestDateUntil());
+        if (search.getStatus() != null) {
+            sql.append(" AND status = ?");
+            parameters.add(search.getStatus().name());
+        }
+        if (search.getEmployeeId() != null) {
+            sql.append(" AND employee_id = ?");
+            parameters.add(search.getEmployeeId());
+        }
+        return sql;
+    }
+
+    /**
+     * 修正申請の1ページ分を元の勤怠記録・従業員と結合するSQLを作成
+     *
+     * 先にページング対象の修正申請をLIMIT件に絞り込んでから結合するため、結合するのは1ページ分の
+     * 行のみとなる。元の勤怠記録は主キー (id, date) で結合し、該当月のパーティションのみを参照する
+     */
+    static String viewSql(PageQuery page) {
+        String direction = page.ascending ? "" : " DESC";
+        return "SELECT " + VIEW_COLUMNS + " FROM ("
+                + pageSql(COLUMNS, page.condition, page.ascending, page.hasCursor)
+                + ") c JOIN attendance_records r "
+                + "ON r.id = c.original_record_id AND r.date = c.original_record_date "
+                + "JOIN employees e ON e.id = c.employee_id "
+                + "ORDER BY c.request_date" + direction + ", c.id" + direction;
+    }
+
+    private <T> List<T> query(String sql, RowMapper<T> mapper, String errorMessage,
+            List<Object> parameters) {
+        List<T> results = new ArrayList<>();
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            for (int i = 0; i < parameters.size(); i++) {
+                stmt.setObject(i + 1, parameters.get(i));
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    results.add(mapper.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException(errorMessage, e);
+        }
+        return results;
+    }
+
+    private Connection connection() throws SQLException {
+        return connectionProvider.getConnection();
+    }
+
+    /**
+     * (request_date, id) のキーセットページングの条件とパラメータ
+     */
+    static final class PageQuery {
+
+        private final String condition;
+        private final boolean ascending;
+        private final boolean hasCursor;
+        private final List<Object> parameters;
+
+        private PageQuery(String condition, List<Object> conditionParameters, boolean ascending,
+                LocalDateTime cursorRequestDate, Long cursorId, int limit) {
+            this.condition = condition;
+            this.ascending = ascending;
+            this.hasCursor = cursorRequestDate != null;
+            this.parameters = new ArrayList<>(conditionParameters);
+            if (hasCursor) {
+                parameters.add(cursorRequestDate);
+                parameters.add(cursorId);
+            }
+            parameters.add(limit);
+        }
+
+        /**
+         * 承認待ちキュー（申請日時の古い順）
+         */
+        static PageQuery pending(LocalDateTime afterRequestDate, Long afterId, int limit) {
+            return new PageQuery(PENDING_CONDITION, List.of(), true, afterRequestDate, afterId,
+                    limit);
+        }
+
+        /**
+         * 従業員別（申請日時の新しい順）
+         */
+        static PageQuery byEmployeeId(Long employeeId, LocalDateTime beforeRequestDate,
+                Long beforeId, int limit) {
+            return new PageQuery("employee_id = ?", List.of(employeeId), false,
+                    beforeRequestDate, beforeId, limit);
+        }
+
+        /**
+         * ステータス別（申請日時の新しい順）
+         */
+        static PageQuery byStatus(CorrectionStatus status, LocalDateTime beforeRequestDate,
+                Long beforeId, int limit) {
+            if (status == CorrectionStatus.PENDING) {
+                return new PageQuery(PENDING_CONDITION, List.of(), false, beforeRequestDate,
+                        beforeId, limit);
+            }
+            return new PageQuery("status = ?", List.of(status.name()), false, beforeRequestDate,
+                    beforeId, limit);
+        }
+    }
+}
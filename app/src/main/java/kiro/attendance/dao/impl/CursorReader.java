@@ -0,0 +1,53 @@
+package kiro.attendance.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * サーバーサイドカーソルによる行の逐次読み出し
+ *
+ * PostgreSQLはトランザクション内でfetchSizeを指定した場合のみカーソルで分割取得する。
+ * 自動コミットの接続では読み出し用のトランザクションを開始し、終了時にロールバックして
+ * 自動コミットに戻す。呼び出し元のトランザクション内で呼ばれた場合はそのトランザクションで
+ * 読み出し、コミット・ロールバックは呼び出し元に任せる
+ */
+final class CursorReader {
+
+    private CursorReader() {}
+
+    /**
+     * SQLの結果を1行ずつconsumerに渡す
+     */
+    static <T> void forEach(Connection connection, String sql, List<?> parameters, int fetchSize,
+            RowMapper<T> mapper, Consumer<T> consumer) throws SQLException {
+        boolean ownTransaction = connection.getAutoCommit();
+        if (ownTransaction) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement stmt = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(fetchSize);
+            for (int i = 0; i < parameters.size(); i++) {
+                stmt.setObject(i + 1, parameters.get(i));
+            }
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    consumer.accept(mapper.mapRow(rs));
+                }
+            }
+        } finally {
+            if (ownTransaction) {
+                try {
+                    connection.rollback();
+                } finally {
+                    connection.setAutoCommit(true);
+                }
+            }
+        }
+    }
+}
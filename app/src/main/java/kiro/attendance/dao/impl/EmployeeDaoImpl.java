@@ -1,143 +1,232 @@
-package kiro.attendance.dao.impl;
-
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.entity.Employee;
-import kiro.attendance.entity.UserRole;
-
-/**
- * 従業員DAO実装
- */
-public class EmployeeDaoImpl implements EmployeeDao {
-
-    private final Connection connection;
-
-    public EmployeeDaoImpl(Connection connection) {
-        this.connection = connection;
-    }
-
-    @Override
-    public Optional<Employee> findById(Long id) {
-        String sql = "SELECT * FROM employees WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find employee by id", e);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Employee> findByEmployeeNumber(String employeeNumber) {
-        String sql = "SELECT * FROM employees WHERE employee_number = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, employeeNumber);
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return Optional.of(mapResultSetToEntity(rs));
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find employee by employee number", e);
-        }
-        return Optional.empty();
-    }
-
-    @Override
-    public List<Employee> findAll() {
-        String sql = "SELECT * FROM employees ORDER BY employee_number";
-        List<Employee> employees = new ArrayList<>();
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql);
-                ResultSet rs = stmt.executeQuery()) {
-
-            while (rs.next()) {
-                employees.add(mapResultSetToEntity(rs));
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to find all employees", e);
-        }
-        return employees;
-    }
-
-    @Override
-    public Employee insert(Employee employee) {
-        String sql = "INSERT INTO employees (name, employee_number, required_monthly_hours, role) "
-                + "VALUES (?, ?, ?, ?) RETURNING *";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, employee.getName());
-            stmt.setString(2, employee.getEmployeeNumber());
-            stmt.setInt(3, employee.getRequiredMonthlyHours());
-            stmt.setString(4, employee.getRole().name());
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEntity(rs);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to insert employee", e);
-        }
-        throw new RuntimeException("Failed to insert employee");
-    }
-
-    @Override
-    public Employee update(Employee employee) {
-        String sql =
-                "UPDATE employees SET name = ?, employee_number = ?, required_monthly_hours = ?, role = ? "
-                        + "WHERE id = ? RETURNING *";
-
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setString(1, employee.getName());
-            stmt.setString(2, employee.getEmployeeNumber());
-            stmt.setInt(3, employee.getRequiredMonthlyHours());
-            stmt.setString(4, employee.getRole().name());
-            stmt.setLong(5, employee.getId());
-
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return mapResultSetToEntity(rs);
-                }
-            }
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to update employee", e);
-        }
-        throw new RuntimeException("Failed to update employee");
-    }
-
-    @Override
-    public void delete(Long id) {
-        String sql = "DELETE FROM employees WHERE id = ?";
-        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-            stmt.setLong(1, id);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            throw new RuntimeException("Failed to delete employee", e);
-        }
-    }
-
-    private Employee mapResultSetToEntity(ResultSet rs) throws SQLException {
-        Employee employee = new Employee();
-        employee.setId(rs.getLong("id"));
-        employee.setName(rs.getString("name"));
-        employee.setEmployeeNumber(rs.getString("employee_number"));
-        employee.setRequiredMonthlyHours(rs.getInt("required_monthly_hours"));
-        employee.setRole(UserRole.valueOf(rs.getString("role")));
-        employee.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        employee.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
-
-        return employee;
-    }
-}
+package kiro.attendance.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.dao.EmployeeTableVersion;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.util.ConnectionProvider;
+
+/**
+ * 従業員DAO実装
+ */
+public class EmployeeDaoImpl implements EmployeeDao {
+
+    /**
+     * 取得列（ROW_MAPPERはこの順の位置で参照する）
+     */
+    private static final String COLUMNS =
+            "id, name, employee_number, required_monthly_hours, role, created_at, updated_at";
+
+    private static final RowMapper<Employee> ROW_MAPPER = rs -> {
+        Employee employee = new Employee();
+        employee.setId(rs.getLong(1));
+        employee.setName(rs.getString(2));
+        employee.setEmployeeNumber(rs.getString(3));
+        employee.setRequiredMonthlyHours(rs.getInt(4));
+        employee.setRole(UserRole.valueOf(rs.getString(5)));
+        employee.setCreatedAt(rs.getObject(6, LocalDateTime.class));
+        employee.setUpdatedAt(rs.getObject(7, LocalDateTime.class));
+        return employee;
+    };
+
+    private static final SqlTemplate SELECT_BY_ID =
+            SqlTemplateRegistry.get(EmployeeDao.class, "selectById");
+    private static final SqlTemplate SELECT_BY_EMPLOYEE_NUMBER =
+            SqlTemplateRegistry.get(EmployeeDao.class, "selectByEmployeeNumber");
+    private static final SqlTemplate SELECT_BY_ROLE =
+            SqlTemplateRegistry.get(EmployeeDao.class, "selectByRole");
+    private static final SqlTemplate SELECT_BY_NAME_LIKE =
+            SqlTemplateRegistry.get(EmployeeDao.class, "selectByNameLike");
+    private static final SqlTemplate SELECT_ALL =
+            SqlTemplateRegistry.get(EmployeeDao.class, "selectAll");
+    private static final SqlTemplate COUNT =
+            SqlTemplateRegistry.get(EmployeeDao.class, "count");
+    private static final SqlTemplate COUNT_BY_ROLE =
+            SqlTemplateRegistry.get(EmployeeDao.class, "countByRole");
+    private static final SqlTemplate DELETE_BY_ID =
+            SqlTemplateRegistry.get(EmployeeDao.class, "deleteById");
+
+    private final ConnectionProvider connectionProvider;
+
+    public EmployeeDaoImpl(Connection connection) {
+        this(() -> connection);
+    }
+
+    public EmployeeDaoImpl(ConnectionProvider connectionProvider) {
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    public Optional<Employee> findById(Long id) {
+        try {
+            return SELECT_BY_ID.queryOne(connection(), ROW_MAPPER, id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find employee by id", e);
+        }
+    }
+
+    @Override
+    public List<Employee> findByIds(Collection<Long> ids) {
+        List<Employee> employees = new ArrayList<>();
+        if (ids.isEmpty()) {
+            return employees;
+        }
+
+        String sql = "SELECT " + COLUMNS + " FROM employees WHERE id = ANY(?)";
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setArray(1, connection().createArrayOf("bigint", ids.toArray()));
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    employees.add(ROW_MAPPER.mapRow(rs));
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find employees by ids", e);
+        }
+        return employees;
+    }
+
+    @Override
+    public Optional<Employee> findByEmployeeNumber(String employeeNumber) {
+        try {
+            return SELECT_BY_EMPLOYEE_NUMBER.queryOne(connection(), ROW_MAPPER, employeeNumber);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find employee by employee number", e);
+        }
+    }
+
+    @Override
+    public List<Employee> findByRole(UserRole role) {
+        try {
+            return SELECT_BY_ROLE.query(connection(), ROW_MAPPER, role);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find employees by role", e);
+        }
+    }
+
+    @Override
+    public List<Employee> findByNameContaining(String keyword) {
+        try {
+            return SELECT_BY_NAME_LIKE.query(connection(), ROW_MAPPER,
+                    "%" + escapeLike(keyword) + "%");
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find employees by name", e);
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        try {
+            return SELECT_ALL.query(connection(), ROW_MAPPER);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find all employees", e);
+        }
+    }
+
+    @Override
+    public long count() {
+        try {
+            return COUNT.queryForLong(connection());
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count employees", e);
+        }
+    }
+
+    @Override
+    public long countByRole(UserRole role) {
+        try {
+            return COUNT_BY_ROLE.queryForLong(connection(), role);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to count employees by role", e);
+        }
+    }
+
+    @Override
+    public EmployeeTableVersion findTableVersion() {
+        String sql = "SELECT COUNT(*), MAX(updated_at) FROM employees";
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql);
+                ResultSet rs = stmt.executeQuery()) {
+            rs.next();
+            return new EmployeeTableVersion(rs.getLong(1), rs.getObject(2, LocalDateTime.class));
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to find employee table version", e);
+        }
+    }
+
+    @Override
+    public Employee insert(Employee employee) {
+        String sql = "INSERT INTO employees (name, employee_number, required_monthly_hours, role) "
+                + "VALUES (?, ?, ?, ?) RETURNING " + COLUMNS;
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setString(1, employee.getName());
+            stmt.setString(2, employee.getEmployeeNumber());
+            stmt.setInt(3, employee.getRequiredMonthlyHours());
+            stmt.setString(4, employee.getRole().name());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return ROW_MAPPER.mapRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to insert employee", e);
+        }
+        throw new RuntimeException("Failed to insert employee");
+    }
+
+    @Override
+    public Employee update(Employee employee) {
+        String sql =
+                "UPDATE employees SET name = ?, employee_number = ?, required_monthly_hours = ?, role = ? "
+                        + "WHERE id = ? RETURNING " + COLUMNS;
+
+        try (PreparedStatement stmt = connection().prepareStatement(sql)) {
+            stmt.setString(1, employee.getName());
+            stmt.setString(2, employee.getEmployeeNumber());
+            stmt.setInt(3, employee.getRequiredMonthlyHours());
+            stmt.setString(4, employee.getRole().name());
+            stmt.setLong(5, employee.getId());
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return ROW_MAPPER.mapRow(rs);
+                }
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to update employee", e);
+        }
+        throw new RuntimeException("Failed to update employee");
+    }
+
+    @Override
+    public void delete(Long id) {
+        try {
+            DELETE_BY_ID.update(connection(), id);
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to delete employee", e);
+        }
+    }
+
+    /**
+     * LIKEの特殊文字（%、_、\\）をエスケープ
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Connection connection() throws SQLException {
+        return connectionProvider.getConnection();
+    }
+}
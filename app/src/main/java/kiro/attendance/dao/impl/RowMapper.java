@@ -0,0 +1,15 @@
+package kiro.attendance.dao.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * ResultSetの現在行をエンティティに変換するマッパー
+ *
+ * 列名検索を避けるため、列はSELECT句に並べた順の位置で参照する
+ */
+@FunctionalInterface
+interface RowMapper<T> {
+
+    T mapRow(ResultSet rs) throws SQLException;
+}
@@ -0,0 +1,214 @@
+package kiro.attendance.dao.impl;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 解析済みのSQLテンプレート
+ *
+ * テンプレートの「/* 式 *&#47;テスト値」形式のバインド変数をJDBCの位置パラメータ（?）に置き換え、
+ * 文字列リテラル外の連続する空白を1つに詰めたSQLを保持する。バインド変数でないコメントと
+ * 文字列リテラルはそのまま残す。パラメータはバインド変数の出現順に渡す
+ */
+final class SqlTemplate {
+
+    private final String name;
+    private final String sql;
+    private final List<String> parameterNames;
+
+    private SqlTemplate(String name, String sql, List<String> parameterNames) {
+        this.name = name;
+        this.sql = sql;
+        this.parameterNames = List.copyOf(parameterNames);
+    }
+
+    /**
+     * テンプレートを解析
+     */
+    static SqlTemplate parse(String name, String source) {
+        StringBuilder sql = new StringBuilder(source.length());
+        List<String> parameterNames = new ArrayList<>();
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            if (c == '\'') {
+                int end = skipStringLiteral(source, i);
+                sql.append(source, i, end);
+                i = end;
+            } else if (source.startsWith("/*", i)) {
+                int close = source.indexOf("*/", i + 2);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed comment in SQL template: " + name);
+                }
+                int end = close + 2;
+                int literalEnd = skipTestLiteral(source, end);
+                if (literalEnd > end) {
+                    // バインド変数: コメントとテスト値を位置パラメータに置き換える
+                    parameterNames.add(source.substring(i + 2, close).trim());
+                    sql.append('?');
+                    i = literalEnd;
+                } else {
+                    sql.append(source, i, end);
+                    i = end;
+                }
+            } else if (Character.isWhitespace(c)) {
+                if (sql.length() > 0 && sql.charAt(sql.length() - 1) != ' ') {
+                    sql.append(' ');
+                }
+                i++;
+            } else {
+                sql.append(c);
+                i++;
+            }
+        }
+        return new SqlTemplate(name, sql.toString().trim(), parameterNames);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    /**
+     * 位置パラメータに置き換えたSQL
+     */
+    String getSql() {
+        return sql;
+    }
+
+    /**
+     * バインド変数の式（出現順）
+     */
+    List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * PreparedStatementを作成してパラメータを設定
+     */
+    PreparedStatement prepare(Connection connection, Object... parameters) throws SQLException {
+        PreparedStatement stmt = connection.prepareStatement(sql);
+        try {
+            bind(stmt, parameters);
+        } catch (SQLException | RuntimeException e) {
+            stmt.close();
+            throw e;
+        }
+        return stmt;
+    }
+
+    /**
+     * パラメータを出現順に設定（列挙型は名前で設定する）
+     */
+    void bind(PreparedStatement stmt, Object... parameters) throws SQLException {
+        if (parameters.length != parameterNames.size()) {
+            throw new IllegalArgumentException("SQL template " + name + " expects "
+                    + parameterNames.size() + " parameters " + parameterNames + " but got "
+                    + parameters.length);
+        }
+        for (int i = 0; i < parameters.length; i++) {
+            Object value = parameters[i];
+            if (value instanceof Enum<?>) {
+                stmt.setString(i + 1, ((Enum<?>) value).name());
+            } else {
+                stmt.setObject(i + 1, value);
+            }
+        }
+    }
+
+    /**
+     * 全行を取得
+     */
+    <T> List<T> query(Connection connection, RowMapper<T> mapper, Object... parameters)
+            throws SQLException {
+        List<T> results = new ArrayList<>();
+        try (PreparedStatement stmt = prepare(connection, parameters);
+                ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                results.add(mapper.mapRow(rs));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 先頭行を取得
+     */
+    <T> Optional<T> queryOne(Connection connection, RowMapper<T> mapper, Object... parameters)
+            throws SQLException {
+        try (PreparedStatement stmt = prepare(connection, parameters);
+                ResultSet rs = stmt.executeQuery()) {
+            if (rs.next()) {
+                return Optional.of(mapper.mapRow(rs));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 先頭行の1列目を数値で取得（COUNTなどの集計用）
+     */
+    long queryForLong(Connection connection, Object... parameters) throws SQLException {
+        return queryOne(connection, rs -> rs.getLong(1), parameters).orElse(0L);
+    }
+
+    /**
+     * 更新系SQLを実行
+     */
+    int update(Connection connection, Object... parameters) throws SQLException {
+        try (PreparedStatement stmt = prepare(connection, parameters)) {
+            return stmt.executeUpdate();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + sql;
+    }
+
+    private static int skipStringLiteral(String source, int start) {
+        int i = start + 1;
+        while (i < source.length()) {
+            if (source.charAt(i) == '\'') {
+                // '' はエスケープされた引用符
+                if (i + 1 < source.length() && source.charAt(i + 1) == '\'') {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        throw new IllegalArgumentException("Unclosed string literal in SQL template");
+    }
+
+    /**
+     * バインド変数のコメント直後のテスト値（文字列または数値）の終端。テスト値がない場合はstart
+     */
+    private static int skipTestLiteral(String source, int start) {
+        if (start >= source.length()) {
+            return start;
+        }
+        char c = source.charAt(start);
+        if (c == '\'') {
+            return skipStringLiteral(source, start);
+        }
+        int i = start;
+        if (c == '-' && i + 1 < source.length() && Character.isDigit(source.charAt(i + 1))) {
+            i++;
+        }
+        if (!Character.isDigit(source.charAt(i))) {
+            return start;
+        }
+        while (i < source.length()
+                && (Character.isDigit(source.charAt(i)) || source.charAt(i) == '.')) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,49 @@
+package kiro.attendance.dao.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQLテンプレートのレジストリ
+ *
+ * META-INF/&lt;DAOインタフェースのパッケージとクラス名&gt;/&lt;名前&gt;.sql を読み込み、解析結果を保持する。
+ * DAO実装は使用するテンプレートを定数として取得するため、クラスの初期化時（コールドスタート時）に
+ * 1回だけ読み込まれ、ファイルがない場合や解析できない場合はその時点で失敗する
+ */
+final class SqlTemplateRegistry {
+
+    private static final String ROOT = "META-INF/";
+
+    private static final ConcurrentHashMap<String, SqlTemplate> TEMPLATES =
+            new ConcurrentHashMap<>();
+
+    private SqlTemplateRegistry() {}
+
+    /**
+     * テンプレートを取得（初回のみ読み込んで解析する）
+     */
+    static SqlTemplate get(Class<?> daoType, String name) {
+        return TEMPLATES.computeIfAbsent(path(daoType, name), SqlTemplateRegistry::load);
+    }
+
+    /**
+     * テンプレートのリソースパス
+     */
+    static String path(Class<?> daoType, String name) {
+        return ROOT + daoType.getName().replace('.', '/') + "/" + name + ".sql";
+    }
+
+    private static SqlTemplate load(String path) {
+        try (InputStream in = SqlTemplateRegistry.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalStateException("SQL template not found: " + path);
+            }
+            return SqlTemplate.parse(path, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read SQL template: " + path, e);
+        }
+    }
+}
@@ -1,120 +1,194 @@
-package kiro.attendance.handler;
-
-import java.sql.Connection;
-import com.amazonaws.services.lambda.runtime.Context;
-import com.amazonaws.services.lambda.runtime.RequestHandler;
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import kiro.attendance.auth.AuthenticatedUser;
-import kiro.attendance.auth.CognitoAuthService;
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
-import kiro.attendance.dao.impl.EmployeeDaoImpl;
-import kiro.attendance.entity.AttendanceRecord;
-import kiro.attendance.exception.AttendanceException;
-import kiro.attendance.exception.ErrorCode;
-import kiro.attendance.service.AttendanceService;
-import kiro.attendance.util.DatabaseConnectionUtil;
-import kiro.attendance.util.ResponseUtil;
-
-/**
- * 打刻機能Lambda関数ハンドラー
- */
-public class AttendanceHandler
-        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
-
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final CognitoAuthService authService =
-            new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
-                    System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION"));
-
-    @Override
-    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input,
-            Context context) {
-        try {
-            // 認証チェック
-            AuthenticatedUser user = authService.authenticate(input);
-            if (user == null) {
-                return ResponseUtil.createErrorResponse(ErrorCode.UNAUTHORIZED);
-            }
-
-            // HTTPメソッドとパスによる処理分岐
-            String httpMethod = input.getHttpMethod();
-            String path = input.getPath();
-
-            try (Connection connection = DatabaseConnectionUtil.getConnection()) {
-                AttendanceRecordDao attendanceRecordDao = new AttendanceRecordDaoImpl(connection);
-                EmployeeDao employeeDao = new EmployeeDaoImpl(connection);
-                AttendanceService attendanceService =
-                        new AttendanceService(attendanceRecordDao, employeeDao);
-
-                switch (httpMethod) {
-                    case "POST":
-                        if (path.endsWith("/clock-in")) {
-                            return handleClockIn(attendanceService, user);
-                        } else if (path.endsWith("/clock-out")) {
-                            return handleClockOut(attendanceService, user);
-                        }
-                        break;
-                    case "GET":
-                        if (path.endsWith("/status")) {
-                            return handleGetStatus(attendanceService, user);
-                        }
-                        break;
-                }
-
-                return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "不正なリクエストです");
-            }
-
-        } catch (AttendanceException e) {
-            context.getLogger().log("AttendanceException: " + e.getMessage());
-            return ResponseUtil.createErrorResponse(e.getErrorCode(), e.getMessage());
-        } catch (Exception e) {
-            context.getLogger().log("Unexpected error: " + e.getMessage());
-            return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "予期しないエラーが発生しました");
-        }
-    }
-
-    /**
-     * 出勤打刻処理
-     */
-    private APIGatewayProxyResponseEvent handleClockIn(AttendanceService attendanceService,
-            AuthenticatedUser user) {
-        try {
-            AttendanceRecord record = attendanceService.clockIn(user.getEmployeeId());
-            return ResponseUtil.createSuccessResponse(record);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "出勤打刻に失敗しました", e);
-        }
-    }
-
-    /**
-     * 退勤打刻処理
-     */
-    private APIGatewayProxyResponseEvent handleClockOut(AttendanceService attendanceService,
-            AuthenticatedUser user) {
-        try {
-            AttendanceRecord record = attendanceService.clockOut(user.getEmployeeId());
-            return ResponseUtil.createSuccessResponse(record);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "退勤打刻に失敗しました", e);
-        }
-    }
-
-    /**
-     * 打刻状態取得処理
-     */
-    private APIGatewayProxyResponseEvent handleGetStatus(AttendanceService attendanceService,
-            AuthenticatedUser user) {
-        try {
-            AttendanceRecord record = attendanceService.getAttendanceStatus(user.getEmployeeId());
-            return ResponseUtil.createSuccessResponse(record);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "打刻状態の取得に失敗しました", e);
-        }
-    }
-}
+package kiro.attendance.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kiro.attendance.auth.AuthenticatedUser;
+import kiro.attendance.auth.CognitoAuthService;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
+import kiro.attendance.dao.impl.EmployeeDaoImpl;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.service.AttendanceService;
+import kiro.attendance.util.LazyConnectionProvider;
+import kiro.attendance.util.ResponseUtil;
+
+/**
+ * 打刻機能Lambda関数ハンドラー
+ */
+public class AttendanceHandler
+        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CognitoAuthService authService =
+            new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
+                    System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION"));
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input,
+            Context context) {
+        try {
+            // 認証チェック
+            AuthenticatedUser user = authService.authenticate(input);
+            if (user == null) {
+                return ResponseUtil.createErrorResponse(ErrorCode.UNAUTHORIZED);
+            }
+
+            // HTTPメソッドとパスによる処理分岐
+            String httpMethod = input.getHttpMethod();
+            String path = input.getPath();
+
+            // 接続はDAOが最初にSQLを実行する時点で開く
+            try (LazyConnectionProvider connectionProvider = new LazyConnectionProvider()) {
+                AttendanceRecordDao attendanceRecordDao =
+                        new AttendanceRecordDaoImpl(connectionProvider);
+                EmployeeDao employeeDao = new EmployeeDaoImpl(connectionProvider);
+                AttendanceService attendanceService =
+                        new AttendanceService(attendanceRecordDao, employeeDao);
+
+                switch (httpMethod) {
+                    case "POST":
+                        if (path.endsWith("/clock-in")) {
+                            return handleClockIn(attendanceService, user);
+                        } else if (path.endsWith("/clock-out")) {
+                            return handleClockOut(attendanceService, user);
+                        }
+                        break;
+                    case "GET":
+                        if (path.endsWith("/status")) {
+                            return handleGetStatus(attendanceService, user);
+                        } else if (path.endsWith("/presence")) {
+                            return handleGetPresence(attendanceService, user);
+                        } else if (path.endsWith("/board")) {
+                            return handleGetTeamBoard(attendanceService, user,
+                                    input.getQueryStringParameters());
+                        }
+                        break;
+                }
+
+                return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "不正なリクエストです");
+            }
+
+        } catch (AttendanceException e) {
+            context.getLogger().log("AttendanceException: " + e.getMessage());
+            return ResponseUtil.createErrorResponse(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Unexpected error: " + e.getMessage());
+            return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "予期しないエラーが発生しました");
+        }
+    }
+
+    /**
+     * 出勤打刻処理
+     */
+    private APIGatewayProxyResponseEvent handleClockIn(AttendanceService attendanceService,
+            AuthenticatedUser user) {
+        try {
+            AttendanceRecord record = attendanceService.clockIn(user.getEmployeeId());
+            return ResponseUtil.createSuccessResponse(record);
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "出勤打刻に失敗しました", e);
+        }
+    }
+
+    /**
+     * 退勤打刻処理
+     */
+    private APIGatewayProxyResponseEvent handleClockOut(AttendanceService attendanceService,
+            AuthenticatedUser user) {
+        try {
+            AttendanceRecord record = attendanceService.clockOut(user.getEmployeeId());
+            return ResponseUtil.createSuccessResponse(record);
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "退勤打刻に失敗しました", e);
+        }
+    }
+
+    /**
+     * 打刻状態取得処理
+     */
+    private APIGatewayProxyResponseEvent handleGetStatus(AttendanceService attendanceService,
+            AuthenticatedUser user) {
+        try {
+            AttendanceRecord record = attendanceService.getAttendanceStatus(user.getEmployeeId());
+            return ResponseUtil.createSuccessResponse(record);
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "打刻状態の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * チーム勤怠ボード取得処理（管理者用）
+     */
+    private APIGatewayProxyResponseEvent handleGetTeamBoard(AttendanceService attendanceService,
+            AuthenticatedUser user, Map<String, String> queryParameters) {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        try {
+            List<AttendanceService.TeamBoardEntry> board =
+                    attendanceService.getTeamBoard(parseEmployeeIds(queryParameters));
+            return ResponseUtil.createSuccessResponse(board);
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤怠ボードの取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 在席状況取得処理（管理者用）
+     */
+    private APIGatewayProxyResponseEvent handleGetPresence(AttendanceService attendanceService,
+            AuthenticatedUser user) {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        try {
+            return ResponseUtil.createSuccessResponse(attendanceService.getPresence());
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "在席状況の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * カンマ区切りの従業員IDを解析（未指定の場合はnullで全従業員）
+     */
+    private List<Long> parseEmployeeIds(Map<String, String> queryParameters) {
+        String value = queryParameters != null ? queryParameters.get("employeeIds") : null;
+        if (value == null) {
+            return null;
+        }
+        List<Long> employeeIds = new ArrayList<>();
+        try {
+            for (String id : value.split(",")) {
+                if (!id.isBlank()) {
+                    employeeIds.add(Long.parseLong(id.trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "従業員IDの形式が正しくありません");
+        }
+        return employeeIds;
+    }
+}
@@ -1,208 +1,416 @@
-package kiro.attendance.handler;
-
-import java.sql.Connection;
-import java.util.List;
-import java.util.Map;
-import com.amazonaws.services.lambda.runtime.Context;
-import com.amazonaws.services.lambda.runtime.RequestHandler;
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import kiro.attendance.auth.AuthenticatedUser;
-import kiro.attendance.auth.CognitoAuthService;
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.CorrectionRequestDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
-import kiro.attendance.dao.impl.CorrectionRequestDaoImpl;
-import kiro.attendance.dao.impl.EmployeeDaoImpl;
-import kiro.attendance.entity.CorrectionRequest;
-import kiro.attendance.entity.CorrectionStatus;
-import kiro.attendance.entity.UserRole;
-import kiro.attendance.exception.AttendanceException;
-import kiro.attendance.exception.ErrorCode;
-import kiro.attendance.service.CorrectionService;
-import kiro.attendance.util.DatabaseConnectionUtil;
-import kiro.attendance.util.ResponseUtil;
-
-/**
- * 修正申請Lambda関数ハンドラー
- */
-public class CorrectionHandler
-        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
-
-    private final ObjectMapper objectMapper =
-            new ObjectMapper().registerModule(new JavaTimeModule());
-    private final CognitoAuthService authService =
-            new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
-                    System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION"));
-
-    @Override
-    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input,
-            Context context) {
-        try {
-            // 認証チェック
-            AuthenticatedUser user = authService.authenticate(input);
-            if (user == null) {
-                return ResponseUtil.createErrorResponse(ErrorCode.UNAUTHORIZED);
-            }
-
-            // HTTPメソッドとパスによる処理分岐
-            String httpMethod = input.getHttpMethod();
-            String path = input.getPath();
-            Map<String, String> pathParameters = input.getPathParameters();
-            Map<String, String> queryParameters = input.getQueryStringParameters();
-
-            try (Connection connection = DatabaseConnectionUtil.getConnection()) {
-                CorrectionRequestDao correctionRequestDao =
-                        new CorrectionRequestDaoImpl(connection);
-                AttendanceRecordDao attendanceRecordDao = new AttendanceRecordDaoImpl(connection);
-                EmployeeDao employeeDao = new EmployeeDaoImpl(connection);
-                CorrectionService correctionService = new CorrectionService(correctionRequestDao,
-                        attendanceRecordDao, employeeDao);
-
-                switch (httpMethod) {
-                    case "POST":
-                        if (path.equals("/api/corrections")) {
-                            return handleSubmitCorrectionRequest(correctionService, user,
-                                    input.getBody());
-                        }
-                        break;
-                    case "GET":
-                        if (path.equals("/api/corrections")) {
-                            return handleGetCorrectionRequests(correctionService, user,
-                                    queryParameters);
-                        }
-                        break;
-                    case "PUT":
-                        if (path.matches("/api/corrections/\\d+/approve$")) {
-                            Long requestId = Long.parseLong(pathParameters.get("id"));
-                            return handleApproveCorrectionRequest(correctionService, user,
-                                    requestId);
-                        } else if (path.matches("/api/corrections/\\d+/reject$")) {
-                            Long requestId = Long.parseLong(pathParameters.get("id"));
-                            return handleRejectCorrectionRequest(correctionService, user, requestId,
-                                    input.getBody());
-                        }
-                        break;
-                }
-
-                return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "不正なリクエストです");
-            }
-
-        } catch (AttendanceException e) {
-            context.getLogger().log("AttendanceException: " + e.getMessage());
-            return ResponseUtil.createErrorResponse(e.getErrorCode(), e.getMessage());
-        } catch (Exception e) {
-            context.getLogger().log("Unexpected error: " + e.getMessage());
-            return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "予期しないエラーが発生しました");
-        }
-    }
-
-    /**
-     * 修正申請提出処理
-     */
-    private APIGatewayProxyResponseEvent handleSubmitCorrectionRequest(
-            CorrectionService correctionService, AuthenticatedUser user, String requestBody) {
-        try {
-            CorrectionService.CorrectionRequestSubmission submission = objectMapper
-                    .readValue(requestBody, CorrectionService.CorrectionRequestSubmission.class);
-
-            // 従業員IDを認証ユーザーのIDに設定
-            submission.setEmployeeId(user.getEmployeeId());
-
-            CorrectionRequest request = correctionService.submitCorrectionRequest(submission);
-            return ResponseUtil.createSuccessResponse(request);
-        } catch (AttendanceException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の提出に失敗しました", e);
-        }
-    }
-
-    /**
-     * 修正申請一覧取得処理
-     */
-    private APIGatewayProxyResponseEvent handleGetCorrectionRequests(
-            CorrectionService correctionService, AuthenticatedUser user,
-            Map<String, String> queryParameters) {
-        try {
-            Long employeeId = null;
-            CorrectionStatus status = null;
-
-            // 管理者以外は自分の申請のみ取得可能
-            if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
-                employeeId = user.getEmployeeId();
-            } else {
-                // 管理者の場合はクエリパラメータを確認
-                if (queryParameters != null) {
-                    if (queryParameters.containsKey("employeeId")) {
-                        employeeId = Long.parseLong(queryParameters.get("employeeId"));
-                    }
-                    if (queryParameters.containsKey("status")) {
-                        status = CorrectionStatus
-                                .valueOf(queryParameters.get("status").toUpperCase());
-                    }
-                }
-            }
-
-            List<CorrectionRequest> requests =
-                    correctionService.getCorrectionRequests(employeeId, status);
-            return ResponseUtil.createSuccessResponse(requests);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請一覧の取得に失敗しました", e);
-        }
-    }
-
-    /**
-     * 修正申請承認処理
-     */
-    private APIGatewayProxyResponseEvent handleApproveCorrectionRequest(
-            CorrectionService correctionService, AuthenticatedUser user, Long requestId) {
-
-        // 管理者権限チェック
-        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
-            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
-        }
-
-        try {
-            CorrectionRequest request = correctionService.approveCorrectionRequest(requestId);
-            return ResponseUtil.createSuccessResponse(request);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の承認に失敗しました", e);
-        }
-    }
-
-    /**
-     * 修正申請却下処理
-     */
-    private APIGatewayProxyResponseEvent handleRejectCorrectionRequest(
-            CorrectionService correctionService, AuthenticatedUser user, Long requestId,
-            String requestBody) {
-
-        // 管理者権限チェック
-        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
-            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
-        }
-
-        try {
-            String rejectionReason = null;
-            if (requestBody != null && !requestBody.trim().isEmpty()) {
-                CorrectionService.CorrectionRejectionRequest rejectionRequest = objectMapper
-                        .readValue(requestBody, CorrectionService.CorrectionRejectionRequest.class);
-                rejectionReason = rejectionRequest.getRejectionReason();
-            }
-
-            CorrectionRequest request =
-                    correctionService.rejectCorrectionRequest(requestId, rejectionReason);
-            return ResponseUtil.createSuccessResponse(request);
-        } catch (AttendanceException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の却下に失敗しました", e);
-        }
-    }
-}
+package kiro.attendance.handler;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import kiro.attendance.auth.AuthenticatedUser;
+import kiro.attendance.auth.CognitoAuthService;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
+import kiro.attendance.dao.impl.CorrectionRequestDaoImpl;
+import kiro.attendance.dao.impl.EmployeeDaoImpl;
+import kiro.attendance.entity.CorrectionRequest;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.service.CorrectionService;
+import kiro.attendance.service.CountService;
+import kiro.attendance.service.EmployeeLoader;
+import kiro.attendance.service.PageResult;
+import kiro.attendance.service.PresenceRegistry;
+import kiro.attendance.util.ConnectionProvider;
+import kiro.attendance.util.ResponseUtil;
+import kiro.attendance.util.RoutingConnectionProvider;
+import kiro.attendance.util.TransactionUtil;
+
+/**
+ * 修正申請Lambda関数ハンドラー
+ */
+public class CorrectionHandler
+        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+
+    private final ObjectMapper objectMapper =
+            new ObjectMapper().registerModule(new JavaTimeModule());
+    private final CognitoAuthService authService =
+            new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
+                    System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION"));
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input,
+            Context context) {
+        try {
+            // 認証チェック
+            AuthenticatedUser user = authService.authenticate(input);
+            if (user == null) {
+                return ResponseUtil.createErrorResponse(ErrorCode.UNAUTHORIZED);
+            }
+
+            // HTTPメソッドとパスによる処理分岐
+            String httpMethod = input.getHttpMethod();
+            String path = input.getPath();
+            Map<String, String> pathParameters = input.getPathParameters();
+            Map<String, String> queryParameters = input.getQueryStringParameters();
+
+            // 接続はDAOが最初にSQLを実行する時点で開き、読み取り専用の処理はレプリカに振り分ける
+            try (RoutingConnectionProvider connectionProvider =
+                    RoutingConnectionProvider.forCaller(user.getEmployeeId())) {
+                CorrectionRequestDao correctionRequestDao =
+                        new CorrectionRequestDaoImpl(connectionProvider);
+                AttendanceRecordDao attendanceRecordDao =
+                        new AttendanceRecordDaoImpl(connectionProvider);
+                EmployeeDao employeeDao = new EmployeeDaoImpl(connectionProvider);
+                CorrectionService correctionService = new CorrectionService(correctionRequestDao,
+                        attendanceRecordDao, employeeDao, PresenceRegistry.getInstance(),
+                        connectionProvider);
+
+                switch (httpMethod) {
+                    case "POST":
+                        if (path.equals("/api/corrections")) {
+                            return handleSubmitCorrectionRequest(correctionService, user,
+                                    input.getBody());
+                        }
+                        break;
+                    case "GET":
+                        if (path.equals("/api/corrections")) {
+                            return handleGetCorrectionRequests(correctionService,
+                                    new EmployeeLoader(employeeDao), user, queryParameters);
+                        } else if (path.equals("/api/corrections/search")) {
+                            return handleSearchCorrectionRequests(correctionService, user,
+                                    queryParameters);
+                        } else if (path.equals("/api/corrections/count")) {
+                            return handleCountCorrectionRequests(
+                                    new CountService(attendanceRecordDao, correctionRequestDao,
+                                            employeeDao, connectionProvider),
+                                    user, queryParameters);
+                        }
+                        break;
+                    case "PUT":
+                        if (path.equals("/api/corrections/approve")
+                                || path.equals("/api/corrections/reject")) {
+                            return handleBulkProcessCorrectionRequests(connectionProvider,
+                                    correctionService, user, path.endsWith("/approve"),
+                                    input.getBody());
+                        } else if (path.matches("/api/corrections/\\d+/approve$")) {
+                            Long requestId = Long.parseLong(pathParameters.get("id"));
+                            return handleApproveCorrectionRequest(connectionProvider,
+                                    correctionService, user, requestId);
+                        } else if (path.matches("/api/corrections/\\d+/reject$")) {
+                            Long requestId = Long.parseLong(pathParameters.get("id"));
+                            return handleRejectCorrectionRequest(correctionService, user, requestId,
+                                    input.getBody());
+                        }
+                        break;
+                }
+
+                return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "不正なリクエストです");
+            }
+
+        } catch (AttendanceException e) {
+            context.getLogger().log("AttendanceException: " + e.getMessage());
+            return ResponseUtil.createErrorResponse(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Unexpected error: " + e.getMessage());
+            return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "予期しないエラーが発生しました");
+        }
+    }
+
+    /**
+     * 修正申請提出処理
+     */
+    private APIGatewayProxyResponseEvent handleSubmitCorrectionRequest(
+            CorrectionService correctionService, AuthenticatedUser user, String requestBody) {
+        try {
+            CorrectionService.CorrectionRequestSubmission submission = objectMapper
+                    .readValue(requestBody, CorrectionService.CorrectionRequestSubmission.class);
+
+            // 従業員IDを認証ユーザーのIDに設定
+            submission.setEmployeeId(user.getEmployeeId());
+
+            CorrectionRequest request = correctionService.submitCorrectionRequest(submission);
+            return ResponseUtil.createSuccessResponse(request);
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の提出に失敗しました", e);
+        }
+    }
+
+    /**
+     * 修正申請一覧取得処理
+     */
+    private APIGatewayProxyResponseEvent handleGetCorrectionRequests(
+            CorrectionService correctionService, EmployeeLoader employeeLoader,
+            AuthenticatedUser user, Map<String, String> queryParameters) {
+        try {
+            Long employeeId = null;
+            CorrectionStatus status = null;
+
+            // 管理者以外は自分の申請のみ取得可能
+            if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+                employeeId = user.getEmployeeId();
+            } else {
+                // 管理者の場合はクエリパラメータを確認
+                if (queryParameters != null) {
+                    if (queryParameters.containsKey("employeeId")) {
+                        employeeId = Long.parseLong(queryParameters.get("employeeId"));
+                    }
+                    if (queryParameters.containsKey("status")) {
+                        status = CorrectionStatus
+                                .valueOf(queryParameters.get("status").toUpperCase());
+                    }
+                }
+            }
+
+            if (queryParameters != null && "records".equals(queryParameters.get("include"))) {
+                // 元の勤怠記録と申請者名を結合して1ページを1回のクエリで取得する（常にページング）
+                return ResponseUtil.createSuccessResponse(
+                        correctionService.getCorrectionRequestViewsPage(employeeId, status,
+                                queryParameters.get("cursor"), parseLimit(queryParameters)));
+            }
+            if (isPageRequested(queryParameters)) {
+                PageResult<CorrectionRequest> page = correctionService.getCorrectionRequestsPage(
+                        employeeId, status, queryParameters.get("cursor"),
+                        parseLimit(queryParameters));
+                return ResponseUtil.createSuccessResponse(
+                        withEmployees(page, page.getItems(), employeeLoader, queryParameters));
+            }
+            List<CorrectionRequest> requests =
+                    correctionService.getCorrectionRequests(employeeId, status);
+            return ResponseUtil.createSuccessResponse(
+                    withEmployees(requests, requests, employeeLoader, queryParameters));
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請一覧の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 修正申請の申請日範囲検索処理（ステータス・従業員で絞り込み可、キーセットページング）
+     */
+    private APIGatewayProxyResponseEvent handleSearchCorrectionRequests(
+            CorrectionService correctionService, AuthenticatedUser user,
+            Map<String, String> queryParameters) {
+        try {
+            Map<String, String> parameters = queryParameters != null ? queryParameters : Map.of();
+            String status = parameters.get("status");
+            Long employeeId;
+
+            // 管理者以外は自分の申請のみ検索可能
+            if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+                employeeId = user.getEmployeeId();
+            } else {
+                String employeeIdParameter = parameters.get("employeeId");
+                employeeId = employeeIdParameter != null ? Long.parseLong(employeeIdParameter)
+                        : null;
+            }
+
+            CorrectionRequestSearch search = new CorrectionRequestSearch(
+                    parseDate(parameters.get("from")), parseDate(parameters.get("to")),
+                    status != null ? CorrectionStatus.valueOf(status.toUpperCase()) : null,
+                    employeeId);
+            return ResponseUtil.createSuccessResponse(correctionService
+                    .searchCorrectionRequestsPage(search, parameters.get("cursor"),
+                            parseLimit(parameters)));
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "無効な従業員IDまたはステータスです");
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の検索に失敗しました", e);
+        }
+    }
+
+    /**
+     * クエリパラメータの日付を解析（未指定はnull）
+     */
+    private LocalDate parseDate(String date) {
+        if (date == null) {
+            return null;
+        }
+
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE,
+                    "無効な日付形式です（YYYY-MM-DD形式で指定してください）");
+        }
+    }
+
+    /**
+     * include=employees指定時は申請者の従業員概要を1回のクエリでまとめて取得して添える
+     */
+    private Object withEmployees(Object data, List<CorrectionRequest> requests,
+            EmployeeLoader employeeLoader, Map<String, String> queryParameters) {
+        if (queryParameters == null || !"employees".equals(queryParameters.get("include"))) {
+            return data;
+        }
+        List<Long> employeeIds = requests.stream().map(CorrectionRequest::getEmployeeId)
+                .distinct().toList();
+        return new EmployeeLoader.WithEmployees(data, employeeLoader.loadSummaries(employeeIds));
+    }
+
+    /**
+     * ページング指定（cursorまたはlimit）の有無を判定
+     */
+    private boolean isPageRequested(Map<String, String> queryParameters) {
+        return queryParameters != null
+                && (queryParameters.containsKey("cursor") || queryParameters.containsKey("limit"));
+    }
+
+    /**
+     * クエリパラメータから取得件数を解析
+     */
+    private Integer parseLimit(Map<String, String> queryParameters) {
+        if (queryParameters == null || !queryParameters.containsKey("limit")) {
+            return null;
+        }
+
+        try {
+            return Integer.parseInt(queryParameters.get("limit"));
+        } catch (NumberFormatException e) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "取得件数は数値で指定してください");
+        }
+    }
+
+    /**
+     * 修正申請件数取得処理（管理者は従業員またはステータスで指定、未指定は承認待ちの件数）
+     */
+    private APIGatewayProxyResponseEvent handleCountCorrectionRequests(CountService countService,
+            AuthenticatedUser user, Map<String, String> queryParameters) {
+        try {
+            // 管理者以外は自分の申請の件数のみ取得可能
+            if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+                return ResponseUtil.createCountResponse(
+                        countService.countCorrectionsByEmployee(user.getEmployeeId()));
+            }
+
+            String employeeId = queryParameters != null ? queryParameters.get("employeeId") : null;
+            String status = queryParameters != null ? queryParameters.get("status") : null;
+            if (employeeId != null && status != null) {
+                throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                        "従業員とステータスはどちらか一方を指定してください");
+            }
+            if (employeeId != null) {
+                return ResponseUtil.createCountResponse(
+                        countService.countCorrectionsByEmployee(Long.parseLong(employeeId)));
+            }
+            CorrectionStatus targetStatus = status != null
+                    ? CorrectionStatus.valueOf(status.toUpperCase())
+                    : CorrectionStatus.PENDING;
+            return ResponseUtil
+                    .createCountResponse(countService.countCorrectionsByStatus(targetStatus));
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (IllegalArgumentException e) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "無効な従業員IDまたはステータスです");
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請件数の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 修正申請承認処理
+     */
+    private APIGatewayProxyResponseEvent handleApproveCorrectionRequest(
+            ConnectionProvider connectionProvider, CorrectionService correctionService,
+            AuthenticatedUser user, Long requestId) {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        try {
+            // 勤怠記録と申請の更新を1トランザクションで実行し、コミット後に在席状況へ反映する
+            CorrectionService.ProcessResult<CorrectionRequest> result =
+                    TransactionUtil.executeInTransaction(connectionProvider.getConnection(),
+                            () -> correctionService.approveCorrectionRequest(requestId));
+            correctionService.applyToPresence(result);
+            return ResponseUtil.createSuccessResponse(result.getValue());
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の承認に失敗しました", e);
+        }
+    }
+
+    /**
+     * 修正申請一括承認・却下処理
+     */
+    private APIGatewayProxyResponseEvent handleBulkProcessCorrectionRequests(
+            ConnectionProvider connectionProvider, CorrectionService correctionService,
+            AuthenticatedUser user, boolean approve, String requestBody) {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        try {
+            if (requestBody == null || requestBody.trim().isEmpty()) {
+                throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER, "修正申請IDを指定してください");
+            }
+            CorrectionService.BulkProcessRequest bulkRequest =
+                    objectMapper.readValue(requestBody, CorrectionService.BulkProcessRequest.class);
+
+            // 全件の更新を1トランザクションで実行し、コミット後に在席状況へ反映する
+            CorrectionService.ProcessResult<List<CorrectionService.BulkProcessOutcome>> result =
+                    TransactionUtil.executeInTransaction(connectionProvider.getConnection(),
+                            () -> approve
+                                    ? correctionService.approveCorrectionRequests(bulkRequest.getIds())
+                                    : correctionService.rejectCorrectionRequests(bulkRequest.getIds(),
+                                            bulkRequest.getRejectionReason()));
+            correctionService.applyToPresence(result);
+            return ResponseUtil.createSuccessResponse(result.getValue());
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の一括処理に失敗しました", e);
+        }
+    }
+
+    /**
+     * 修正申請却下処理
+     */
+    private APIGatewayProxyResponseEvent handleRejectCorrectionRequest(
+            CorrectionService correctionService, AuthenticatedUser user, Long requestId,
+            String requestBody) {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        try {
+            String rejectionReason = null;
+            if (requestBody != null && !requestBody.trim().isEmpty()) {
+                CorrectionService.CorrectionRejectionRequest rejectionRequest = objectMapper
+                        .readValue(requestBody, CorrectionService.CorrectionRejectionRequest.class);
+                rejectionReason = rejectionRequest.getRejectionReason();
+            }
+
+            CorrectionRequest request =
+                    correctionService.rejectCorrectionRequest(requestId, rejectionReason);
+            return ResponseUtil.createSuccessResponse(request);
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正申請の却下に失敗しました", e);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package kiro.attendance.handler;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.attendance.handler.StreamingLambdaHandler;
+import kiro.attendance.auth.AuthenticatedUser;
+import kiro.attendance.auth.CognitoAuthService;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
+import kiro.attendance.dao.impl.CorrectionRequestDaoImpl;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.service.CorrectionExportService;
+import kiro.attendance.service.CorrectionService;
+import kiro.attendance.service.PayrollExportService;
+import kiro.attendance.util.ConnectionProvider;
+import kiro.attendance.util.DatabaseConnectionUtil;
+import kiro.attendance.util.ResponseUtil;
+
+/**
+ * エクスポート機能Lambda関数ハンドラー
+ *
+ * レスポンスをStringに組み立てず、CSVをカーソルから読み出しながら出力ストリームへ直接書き込む
+ */
+public class ExportHandler extends StreamingLambdaHandler {
+
+    private final CognitoAuthService authService;
+    private final ConnectionProvider connectionProvider;
+
+    public ExportHandler() {
+        this(new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
+                System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION")),
+                DatabaseConnectionUtil::getConnection);
+    }
+
+    public ExportHandler(CognitoAuthService authService, ConnectionProvider connectionProvider) {
+        this.authService = authService;
+        this.connectionProvider = connectionProvider;
+    }
+
+    @Override
+    protected void processRequest(StreamingRequest request, StreamingResponse response,
+            Context context) throws Exception {
+        // 認証チェック
+        AuthenticatedUser user = authService.authenticate(request.toProxyEvent());
+        if (user == null) {
+            throw new AttendanceException(ErrorCode.UNAUTHORIZED, ErrorCode.UNAUTHORIZED.getMessage());
+        }
+
+        // HTTPメソッドとパスによる処理分岐
+        if ("GET".equals(request.getHttpMethod())
+                && "/api/export/payroll".equals(request.getPath())) {
+            handlePayrollExport(user, request, response, context);
+            return;
+        }
+        if ("GET".equals(request.getHttpMethod())
+                && "/api/export/corrections".equals(request.getPath())) {
+            handleCorrectionExport(user, request, response, context);
+            return;
+        }
+
+        throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "不正なリクエストです");
+    }
+
+    @Override
+    protected void handleError(Exception e, StreamingResponse response, Context context)
+            throws IOException {
+        if (e instanceof AttendanceException attendanceException) {
+            context.getLogger().log("AttendanceException: " + e.getMessage());
+            response.send(ResponseUtil.createErrorResponse(attendanceException.getErrorCode(),
+                    attendanceException.getMessage()));
+            return;
+        }
+        context.getLogger().log("Unexpected error: " + e.getMessage());
+        response.send(ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR));
+    }
+
+    /**
+     * 給与計算用CSVエクスポート処理（管理者用）
+     */
+    private void handlePayrollExport(AuthenticatedUser user, StreamingRequest request,
+            StreamingResponse response, Context context) throws IOException {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            throw new AttendanceException(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        YearMonth month = parseYearMonth(request.getQueryParameter("month"));
+
+        // レスポンスの送信開始後はエラーを返せないため、接続はステータスの送信前に開く
+        try (Connection connection = connectionProvider.getConnection()) {
+            PayrollExportService exportService =
+                    new PayrollExportService(new AttendanceRecordDaoImpl(connection));
+
+            Writer body = response.openBody(200, csvHeaders(month));
+            long rows = exportService.writeMonthlyCsv(month, body);
+
+            context.getLogger().log("Exported payroll rows: " + rows);
+        } catch (SQLException e) {
+            throw new AttendanceException(ErrorCode.DATABASE_CONNECTION_ERROR,
+                    "データベースに接続できません", e);
+        }
+    }
+
+    /**
+     * 監査用の修正申請CSVエクスポート処理（管理者用、申請日の範囲で指定）
+     */
+    private void handleCorrectionExport(AuthenticatedUser user, StreamingRequest request,
+            StreamingResponse response, Context context) throws IOException {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            throw new AttendanceException(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        // レスポンスの送信開始後はエラーを返せないため、先に検索条件を検証する
+        CorrectionRequestSearch search = parseCorrectionSearch(request);
+        CorrectionService.validateSearch(search);
+
+        // レスポンスの送信開始後はエラーを返せないため、接続はステータスの送信前に開く
+        try (Connection connection = connectionProvider.getConnection()) {
+            CorrectionExportService exportService =
+                    new CorrectionExportService(new CorrectionRequestDaoImpl(connection));
+
+            Writer body = response.openBody(200,
+                    csvHeaders("corrections-" + search.getFrom() + "_" + search.getTo()));
+            long rows = exportService.writeCsv(search, body);
+
+            context.getLogger().log("Exported correction request rows: " + rows);
+        } catch (SQLException e) {
+            throw new AttendanceException(ErrorCode.DATABASE_CONNECTION_ERROR,
+                    "データベースに接続できません", e);
+        }
+    }
+
+    private Map<String, String> csvHeaders(YearMonth month) {
+        return csvHeaders("payroll-" + month);
+    }
+
+    private Map<String, String> csvHeaders(String fileName) {
+        return Map.of("Content-Type", "text/csv; charset=UTF-8", "Content-Disposition",
+                "attachment; filename=\"" + fileName + ".csv\"",
+                "Access-Control-Allow-Origin", "*", "Access-Control-Allow-Methods",
+                "GET, POST, PUT, DELETE, OPTIONS", "Access-Control-Allow-Headers",
+                "Content-Type, Authorization");
+    }
+
+    /**
+     * クエリパラメータから修正申請の検索条件を解析（開始日・終了日は必須）
+     */
+    private CorrectionRequestSearch parseCorrectionSearch(StreamingRequest request) {
+        String status = request.getQueryParameter("status");
+        String employeeId = request.getQueryParameter("employeeId");
+        try {
+            return new CorrectionRequestSearch(parseDate(request.getQueryParameter("from")),
+                    parseDate(request.getQueryParameter("to")),
+                    status != null ? CorrectionStatus.valueOf(status.toUpperCase()) : null,
+                    employeeId != null ? Long.parseLong(employeeId) : null);
+        } catch (IllegalArgumentException e) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "無効な従業員IDまたはステータスです");
+        }
+    }
+
+    /**
+     * クエリパラメータから日付を解析（必須）
+     */
+    private LocalDate parseDate(String date) {
+        if (date == null) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "申請日の開始日と終了日を指定してください");
+        }
+
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE,
+                    "無効な日付形式です（YYYY-MM-DD形式で指定してください）");
+        }
+    }
+
+    /**
+     * クエリパラメータからYearMonthを解析（必須）
+     */
+    private YearMonth parseYearMonth(String month) {
+        if (month == null) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER, "月を指定してください");
+        }
+
+        try {
+            return YearMonth.parse(month);
+        } catch (DateTimeParseException e) {
+            throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE,
+                    "無効な月形式です（YYYY-MM形式で指定してください）");
+        }
+    }
+}
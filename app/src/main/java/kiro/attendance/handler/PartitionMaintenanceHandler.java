@@ -0,0 +1,35 @@
+package kiro.attendance.handler;
+
+import java.time.LocalDate;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
+import kiro.attendance.dao.impl.EmployeeDaoImpl;
+import kiro.attendance.service.AttendanceService;
+import kiro.attendance.util.LazyConnectionProvider;
+
+/**
+ * 勤怠記録の月別パーティション作成Lambda関数ハンドラー（EventBridgeのスケジュールから毎日呼び出される）
+ *
+ * 打刻処理ではパーティションのDDLを実行せず、当月分の確認のみを行う
+ */
+public class PartitionMaintenanceHandler implements RequestHandler<ScheduledEvent, Void> {
+
+    @Override
+    public Void handleRequest(ScheduledEvent input, Context context) {
+        LocalDate today = LocalDate.now();
+        try (LazyConnectionProvider connectionProvider = new LazyConnectionProvider()) {
+            AttendanceService attendanceService = new AttendanceService(
+                    new AttendanceRecordDaoImpl(connectionProvider),
+                    new EmployeeDaoImpl(connectionProvider));
+            attendanceService.ensureUpcomingPartitions(today);
+            context.getLogger().log("Ensured attendance record partitions from " + today);
+            return null;
+        } catch (Exception e) {
+            // 呼び出しを失敗させ、EventBridgeの再試行とエラーメトリクスに任せる
+            context.getLogger().log("Failed to ensure attendance record partitions: " + e.getMessage());
+            throw new RuntimeException("Failed to ensure attendance record partitions", e);
+        }
+    }
+}
@@ -1,163 +1,389 @@
-package kiro.attendance.handler;
-
-import java.sql.Connection;
-import java.time.YearMonth;
-import java.time.format.DateTimeParseException;
-import java.util.List;
-import java.util.Map;
-import com.amazonaws.services.lambda.runtime.Context;
-import com.amazonaws.services.lambda.runtime.RequestHandler;
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
-import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
-import kiro.attendance.auth.AuthenticatedUser;
-import kiro.attendance.auth.CognitoAuthService;
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
-import kiro.attendance.dao.impl.EmployeeDaoImpl;
-import kiro.attendance.entity.AttendanceRecord;
-import kiro.attendance.entity.UserRole;
-import kiro.attendance.exception.AttendanceException;
-import kiro.attendance.exception.ErrorCode;
-import kiro.attendance.service.RecordService;
-import kiro.attendance.util.DatabaseConnectionUtil;
-import kiro.attendance.util.ResponseUtil;
-
-/**
- * 勤務記録管理Lambda関数ハンドラー
- */
-public class RecordHandler
-        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
-
-    private final CognitoAuthService authService =
-            new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
-                    System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION"));
-
-    @Override
-    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input,
-            Context context) {
-        try {
-            // 認証チェック
-            AuthenticatedUser user = authService.authenticate(input);
-            if (user == null) {
-                return ResponseUtil.createErrorResponse(ErrorCode.UNAUTHORIZED);
-            }
-
-            // HTTPメソッドとパスによる処理分岐
-            String httpMethod = input.getHttpMethod();
-            String path = input.getPath();
-            Map<String, String> pathParameters = input.getPathParameters();
-            Map<String, String> queryParameters = input.getQueryStringParameters();
-
-            try (Connection connection = DatabaseConnectionUtil.getConnection()) {
-                AttendanceRecordDao attendanceRecordDao = new AttendanceRecordDaoImpl(connection);
-                EmployeeDao employeeDao = new EmployeeDaoImpl(connection);
-                RecordService recordService = new RecordService(attendanceRecordDao, employeeDao);
-
-                if ("GET".equals(httpMethod)) {
-                    if (path.equals("/api/records")) {
-                        return handleGetAllRecords(recordService, user, queryParameters);
-                    } else if (path.matches("/api/records/\\d+$")) {
-                        Long employeeId = Long.parseLong(pathParameters.get("employeeId"));
-                        return handleGetEmployeeRecords(recordService, user, employeeId,
-                                queryParameters);
-                    } else if (path.matches("/api/records/\\d+/summary$")) {
-                        Long employeeId = Long.parseLong(pathParameters.get("employeeId"));
-                        return handleGetWorkingHoursSummary(recordService, user, employeeId,
-                                queryParameters);
-                    }
-                }
-
-                return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
-                        "不正なリクエストです");
-            }
-
-        } catch (AttendanceException e) {
-            context.getLogger().log("AttendanceException: " + e.getMessage());
-            return ResponseUtil.createErrorResponse(e.getErrorCode(), e.getMessage());
-        } catch (Exception e) {
-            context.getLogger().log("Unexpected error: " + e.getMessage());
-            return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
-                    "予期しないエラーが発生しました");
-        }
-    }
-
-    /**
-     * 勤務記録一覧取得処理（管理者用）
-     */
-    private APIGatewayProxyResponseEvent handleGetAllRecords(RecordService recordService,
-            AuthenticatedUser user, Map<String, String> queryParameters) {
-
-        // 管理者権限チェック
-        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
-            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
-        }
-
-        try {
-            YearMonth month = parseYearMonth(queryParameters);
-            List<AttendanceRecord> records = recordService.getAllRecords(month);
-            return ResponseUtil.createSuccessResponse(records);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤務記録一覧の取得に失敗しました", e);
-        }
-    }
-
-    /**
-     * 従業員別勤務記録取得処理
-     */
-    private APIGatewayProxyResponseEvent handleGetEmployeeRecords(RecordService recordService,
-            AuthenticatedUser user, Long employeeId, Map<String, String> queryParameters) {
-
-        // 権限チェック（自分の記録または管理者権限）
-        if (!user.getEmployeeId().equals(employeeId) && !user.hasRole(UserRole.MANAGER)
-                && !user.hasRole(UserRole.ADMIN)) {
-            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "他の従業員の記録を参照する権限がありません");
-        }
-
-        try {
-            YearMonth month = parseYearMonth(queryParameters);
-            List<AttendanceRecord> records = recordService.getEmployeeRecords(employeeId, month);
-            return ResponseUtil.createSuccessResponse(records);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "従業員勤務記録の取得に失敗しました", e);
-        }
-    }
-
-    /**
-     * 月別勤務時間サマリー取得処理
-     */
-    private APIGatewayProxyResponseEvent handleGetWorkingHoursSummary(RecordService recordService,
-            AuthenticatedUser user, Long employeeId, Map<String, String> queryParameters) {
-
-        // 権限チェック（自分の記録または管理者権限）
-        if (!user.getEmployeeId().equals(employeeId) && !user.hasRole(UserRole.MANAGER)
-                && !user.hasRole(UserRole.ADMIN)) {
-            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "他の従業員の記録を参照する権限がありません");
-        }
-
-        try {
-            YearMonth month = parseYearMonth(queryParameters);
-            RecordService.WorkingHoursSummary summary =
-                    recordService.getWorkingHoursSummary(employeeId, month);
-            return ResponseUtil.createSuccessResponse(summary);
-        } catch (Exception e) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤務時間サマリーの取得に失敗しました", e);
-        }
-    }
-
-    /**
-     * クエリパラメータからYearMonthを解析
-     */
-    private YearMonth parseYearMonth(Map<String, String> queryParameters) {
-        if (queryParameters == null || !queryParameters.containsKey("month")) {
-            return null;
-        }
-
-        try {
-            return YearMonth.parse(queryParameters.get("month"));
-        } catch (DateTimeParseException e) {
-            throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE,
-                    "無効な月形式です（YYYY-MM形式で指定してください）");
-        }
-    }
-}
+package kiro.attendance.handler;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import kiro.attendance.auth.AuthenticatedUser;
+import kiro.attendance.auth.CognitoAuthService;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.AttendanceRecordField;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.dao.impl.AttendanceRecordDaoImpl;
+import kiro.attendance.dao.impl.CorrectionRequestDaoImpl;
+import kiro.attendance.dao.impl.EmployeeDaoImpl;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.service.AttendanceImportService;
+import kiro.attendance.service.CountService;
+import kiro.attendance.service.EmployeeLoader;
+import kiro.attendance.service.PageResult;
+import kiro.attendance.service.RecordService;
+import kiro.attendance.util.ResponseUtil;
+import kiro.attendance.util.RoutingConnectionProvider;
+
+/**
+ * 勤務記録管理Lambda関数ハンドラー
+ */
+public class RecordHandler
+        implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+
+    private final CognitoAuthService authService =
+            new CognitoAuthService(System.getenv("COGNITO_USER_POOL_ID"),
+                    System.getenv("COGNITO_CLIENT_ID"), System.getenv("AWS_REGION"));
+
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent input,
+            Context context) {
+        try {
+            // 認証チェック
+            AuthenticatedUser user = authService.authenticate(input);
+            if (user == null) {
+                return ResponseUtil.createErrorResponse(ErrorCode.UNAUTHORIZED);
+            }
+
+            // HTTPメソッドとパスによる処理分岐
+            String httpMethod = input.getHttpMethod();
+            String path = input.getPath();
+            Map<String, String> pathParameters = input.getPathParameters();
+            Map<String, String> queryParameters = input.getQueryStringParameters();
+
+            // 接続はDAOが最初にSQLを実行する時点で開き、読み取り専用の処理はレプリカに振り分ける
+            try (RoutingConnectionProvider connectionProvider =
+                    RoutingConnectionProvider.forCaller(user.getEmployeeId())) {
+                AttendanceRecordDao attendanceRecordDao =
+                        new AttendanceRecordDaoImpl(connectionProvider);
+                EmployeeDao employeeDao = new EmployeeDaoImpl(connectionProvider);
+                RecordService recordService = new RecordService(attendanceRecordDao, employeeDao,
+                        connectionProvider);
+
+                if ("GET".equals(httpMethod)) {
+                    if (path.equals("/api/records")) {
+                        return handleGetAllRecords(recordService, new EmployeeLoader(employeeDao),
+                                user, queryParameters);
+                    } else if (path.matches("/api/records/\\d+$")) {
+                        Long employeeId = Long.parseLong(pathParameters.get("employeeId"));
+                        return handleGetEmployeeRecords(recordService, user, employeeId,
+                                queryParameters);
+                    } else if (path.matches("/api/records/\\d+/summary$")) {
+                        Long employeeId = Long.parseLong(pathParameters.get("employeeId"));
+                        return handleGetWorkingHoursSummary(recordService, user, employeeId,
+                                queryParameters);
+                    } else if (path.equals("/api/records/count")) {
+                        return handleCountRecords(
+                                countService(attendanceRecordDao, employeeDao, connectionProvider),
+                                user, null, queryParameters);
+                    } else if (path.matches("/api/records/\\d+/count$")) {
+                        Long employeeId = Long.parseLong(pathParameters.get("employeeId"));
+                        return handleCountRecords(
+                                countService(attendanceRecordDao, employeeDao, connectionProvider),
+                                user, employeeId, queryParameters);
+                    }
+                } else if ("POST".equals(httpMethod) && path.equals("/api/records/import")) {
+                    return handleImportRecords(new AttendanceImportService(attendanceRecordDao),
+                            user, input);
+                }
+
+                return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+                        "不正なリクエストです");
+            }
+
+        } catch (AttendanceException e) {
+            context.getLogger().log("AttendanceException: " + e.getMessage());
+            return ResponseUtil.createErrorResponse(e.getErrorCode(), e.getMessage());
+        } catch (Exception e) {
+            context.getLogger().log("Unexpected error: " + e.getMessage());
+            return ResponseUtil.createErrorResponse(ErrorCode.INTERNAL_SERVER_ERROR,
+                    "予期しないエラーが発生しました");
+        }
+    }
+
+    /**
+     * 勤務記録一覧取得処理（管理者用）
+     */
+    private APIGatewayProxyResponseEvent handleGetAllRecords(RecordService recordService,
+            EmployeeLoader employeeLoader, AuthenticatedUser user,
+            Map<String, String> queryParameters) {
+
+        // 管理者権限チェック
+        if (!user.hasRole(UserRole.MANAGER) && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "管理者権限が必要です");
+        }
+
+        try {
+            YearMonth month = parseYearMonth(queryParameters);
+            if (isColumnarRequested(queryParameters)) {
+                return ResponseUtil
+                        .createSuccessResponse(recordService.getAllRecordsColumnar(month));
+            }
+            Set<AttendanceRecordField> fields = parseFields(queryParameters);
+            if (isPageRequested(queryParameters)) {
+                PageResult<AttendanceRecord> page = recordService.getAllRecordsPage(month,
+                        queryParameters.get("cursor"), parseLimit(queryParameters),
+                        fieldsOrAll(fields));
+                return ResponseUtil.createSuccessResponse(withEmployees(toResponseData(page, fields),
+                        page.getItems(), employeeLoader, queryParameters));
+            }
+            List<AttendanceRecord> records = recordService.getAllRecords(month, fieldsOrAll(fields));
+            return ResponseUtil.createSuccessResponse(withEmployees(toResponseData(records, fields),
+                    records, employeeLoader, queryParameters));
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤務記録一覧の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 従業員別勤務記録取得処理
+     */
+    private APIGatewayProxyResponseEvent handleGetEmployeeRecords(RecordService recordService,
+            AuthenticatedUser user, Long employeeId, Map<String, String> queryParameters) {
+
+        // 権限チェック（自分の記録または管理者権限）
+        if (!user.getEmployeeId().equals(employeeId) && !user.hasRole(UserRole.MANAGER)
+                && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "他の従業員の記録を参照する権限がありません");
+        }
+
+        try {
+            YearMonth month = parseYearMonth(queryParameters);
+            if (isColumnarRequested(queryParameters)) {
+                if (month == null) {
+                    throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                            "カラムナ形式では月を指定してください");
+                }
+                return ResponseUtil.createSuccessResponse(
+                        recordService.getEmployeeRecordsColumnar(employeeId, month));
+            }
+            Set<AttendanceRecordField> fields = parseFields(queryParameters);
+            if (month == null && isPageRequested(queryParameters)) {
+                // 月指定なしの全履歴はcursorまたはlimitの指定時のみページングする
+                PageResult<AttendanceRecord> page = recordService.getEmployeeRecordsPage(
+                        employeeId, queryParameters.get("cursor"), parseLimit(queryParameters),
+                        fieldsOrAll(fields));
+                return ResponseUtil.createSuccessResponse(toResponseData(page, fields));
+            }
+            if (month == null) {
+                List<AttendanceRecord> records = recordService.getEmployeeRecords(employeeId, null);
+                return ResponseUtil.createSuccessResponse(toResponseData(records, fields));
+            }
+            List<AttendanceRecord> records =
+                    recordService.getEmployeeRecords(employeeId, month, fieldsOrAll(fields));
+            return ResponseUtil.createSuccessResponse(toResponseData(records, fields));
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "従業員勤務記録の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 月別勤務時間サマリー取得処理
+     */
+    private APIGatewayProxyResponseEvent handleGetWorkingHoursSummary(RecordService recordService,
+            AuthenticatedUser user, Long employeeId, Map<String, String> queryParameters) {
+
+        // 権限チェック（自分の記録または管理者権限）
+        if (!user.getEmployeeId().equals(employeeId) && !user.hasRole(UserRole.MANAGER)
+                && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "他の従業員の記録を参照する権限がありません");
+        }
+
+        try {
+            YearMonth month = parseYearMonth(queryParameters);
+            RecordService.WorkingHoursSummary summary =
+                    recordService.getWorkingHoursSummary(employeeId, month);
+            return ResponseUtil.createSuccessResponse(summary);
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤務時間サマリーの取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 勤務記録件数取得処理（従業員指定なしは月別の全従業員分で管理者用）
+     */
+    private APIGatewayProxyResponseEvent handleCountRecords(CountService countService,
+            AuthenticatedUser user, Long employeeId, Map<String, String> queryParameters) {
+
+        // 権限チェック（自分の記録または管理者権限）
+        if (!user.getEmployeeId().equals(employeeId) && !user.hasRole(UserRole.MANAGER)
+                && !user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN,
+                    employeeId == null ? "管理者権限が必要です" : "他の従業員の記録を参照する権限がありません");
+        }
+
+        try {
+            if (employeeId != null) {
+                return ResponseUtil
+                        .createCountResponse(countService.countRecordsByEmployee(employeeId));
+            }
+            YearMonth month = parseYearMonth(queryParameters);
+            return ResponseUtil.createCountResponse(countService.countRecordsByMonth(month));
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤務記録件数の取得に失敗しました", e);
+        }
+    }
+
+    /**
+     * 件数取得サービスを作成（件数取得時のみ使用するため都度作成する）
+     */
+    private CountService countService(AttendanceRecordDao attendanceRecordDao,
+            EmployeeDao employeeDao, RoutingConnectionProvider connectionProvider) {
+        return new CountService(attendanceRecordDao,
+                new CorrectionRequestDaoImpl(connectionProvider), employeeDao, connectionProvider);
+    }
+
+    /**
+     * 勤怠記録一括取り込み処理（システム管理者用）
+     */
+    private APIGatewayProxyResponseEvent handleImportRecords(
+            AttendanceImportService importService, AuthenticatedUser user,
+            APIGatewayProxyRequestEvent input) {
+
+        // システム管理者権限チェック
+        if (!user.hasRole(UserRole.ADMIN)) {
+            return ResponseUtil.createErrorResponse(ErrorCode.FORBIDDEN, "システム管理者権限が必要です");
+        }
+
+        String body = input.getBody();
+        if (body == null || body.isBlank()) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER, "取り込むCSVを指定してください");
+        }
+        if (Boolean.TRUE.equals(input.getIsBase64Encoded())) {
+            try {
+                body = new String(Base64.getDecoder().decode(body), StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                        "CSVのBase64エンコードが不正です");
+            }
+        }
+
+        try {
+            AttendanceImportService.ImportResult result =
+                    importService.importCsv(new StringReader(body));
+            return ResponseUtil.createSuccessResponse(result);
+        } catch (AttendanceException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "勤怠記録の一括取り込みに失敗しました", e);
+        }
+    }
+
+    /**
+     * レスポンス形式の指定を判定（未指定はjson、columnarでカラムナ形式）
+     */
+    private boolean isColumnarRequested(Map<String, String> queryParameters) {
+        String format = queryParameters != null ? queryParameters.get("format") : null;
+        if (format == null || "json".equals(format)) {
+            return false;
+        }
+        if ("columnar".equals(format)) {
+            return true;
+        }
+        throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                "無効なレスポンス形式です（json または columnar を指定してください）");
+    }
+
+    /**
+     * クエリパラメータから取得項目を解析（未指定の場合はnull）
+     */
+    private Set<AttendanceRecordField> parseFields(Map<String, String> queryParameters) {
+        if (queryParameters == null || !queryParameters.containsKey("fields")) {
+            return null;
+        }
+        return AttendanceRecordField.parse(queryParameters.get("fields"));
+    }
+
+    private Set<AttendanceRecordField> fieldsOrAll(Set<AttendanceRecordField> fields) {
+        return fields != null ? fields : AttendanceRecordField.ALL;
+    }
+
+    /**
+     * 取得項目の指定がある場合は指定項目のみのレスポンスデータに変換
+     */
+    private Object toResponseData(List<AttendanceRecord> records,
+            Set<AttendanceRecordField> fields) {
+        if (fields == null) {
+            return records;
+        }
+        return records.stream().map(record -> AttendanceRecordField.project(record, fields))
+                .toList();
+    }
+
+    private Object toResponseData(PageResult<AttendanceRecord> page,
+            Set<AttendanceRecordField> fields) {
+        if (fields == null) {
+            return page;
+        }
+        return new PageResult<>(page.getItems().stream()
+                .map(record -> AttendanceRecordField.project(record, fields)).toList(),
+                page.getNextCursor());
+    }
+
+    /**
+     * include=employees指定時は参照先の従業員概要を1回のクエリで取得して添える
+     */
+    private Object withEmployees(Object data, List<AttendanceRecord> records,
+            EmployeeLoader employeeLoader, Map<String, String> queryParameters) {
+        if (queryParameters == null || !"employees".equals(queryParameters.get("include"))) {
+            return data;
+        }
+        List<Long> employeeIds = records.stream().map(AttendanceRecord::getEmployeeId)
+                .filter(Objects::nonNull).distinct().toList();
+        return new EmployeeLoader.WithEmployees(data, employeeLoader.loadSummaries(employeeIds));
+    }
+
+    /**
+     * ページング指定（cursorまたはlimit）の有無を判定
+     */
+    private boolean isPageRequested(Map<String, String> queryParameters) {
+        return queryParameters != null
+                && (queryParameters.containsKey("cursor") || queryParameters.containsKey("limit"));
+    }
+
+    /**
+     * クエリパラメータから取得件数を解析
+     */
+    private Integer parseLimit(Map<String, String> queryParameters) {
+        if (queryParameters == null || !queryParameters.containsKey("limit")) {
+            return null;
+        }
+
+        try {
+            return Integer.parseInt(queryParameters.get("limit"));
+        } catch (NumberFormatException e) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "取得件数は数値で指定してください");
+        }
+    }
+
+    /**
+     * クエリパラメータからYearMonthを解析
+     */
+    private YearMonth parseYearMonth(Map<String, String> queryParameters) {
+        if (queryParameters == null || !queryParameters.containsKey("month")) {
+            return null;
+        }
+
+        try {
+            return YearMonth.parse(queryParameters.get("month"));
+        } catch (DateTimeParseException e) {
+            throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE,
+                    "無効な月形式です（YYYY-MM形式で指定してください）");
+        }
+    }
+}
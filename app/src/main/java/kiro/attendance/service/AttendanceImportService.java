@@ -0,0 +1,148 @@
+package kiro.attendance.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import kiro.attendance.dao.AttendanceImportRow;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.BulkImportResult;
+import kiro.attendance.dao.ImportRejectReason;
+
+/**
+ * 勤怠記録一括取り込みサービス
+ *
+ * CSV形式: employee_id,date,clock_in_time,clock_out_time（時刻は yyyy-MM-dd HH:mm:ss、未打刻は空欄）
+ */
+public class AttendanceImportService {
+
+    private static final String HEADER_PREFIX = "employee_id";
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final AttendanceRecordDao attendanceRecordDao;
+
+    public AttendanceImportService(AttendanceRecordDao attendanceRecordDao) {
+        this.attendanceRecordDao = attendanceRecordDao;
+    }
+
+    /**
+     * CSVを解析して一括登録し、行ごとの取り込み結果と処理性能を返す
+     */
+    public ImportResult importCsv(Reader csv) throws IOException {
+        long startTime = System.nanoTime();
+
+        List<AttendanceImportRow> rows = new ArrayList<>();
+        List<BulkImportResult.RejectedRow> rejectedRows = new ArrayList<>();
+        long totalRows = 0;
+
+        BufferedReader reader = new BufferedReader(csv);
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && line.startsWith(HEADER_PREFIX))) {
+                continue;
+            }
+            totalRows++;
+            parseLine(lineNumber, line, rows, rejectedRows);
+        }
+
+        long importedRows = 0;
+        if (!rows.isEmpty()) {
+            BulkImportResult result = attendanceRecordDao.bulkImport(rows);
+            importedRows = result.getInsertedCount();
+            rejectedRows.addAll(result.getRejectedRows());
+            rejectedRows.sort(Comparator.comparingLong(BulkImportResult.RejectedRow::getLineNumber));
+        }
+
+        long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+        return new ImportResult(totalRows, importedRows, rejectedRows, elapsedMillis);
+    }
+
+    private void parseLine(long lineNumber, String line, List<AttendanceImportRow> rows,
+            List<BulkImportResult.RejectedRow> rejectedRows) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != 4) {
+            rejectedRows.add(
+                    new BulkImportResult.RejectedRow(lineNumber, ImportRejectReason.INVALID_FORMAT));
+            return;
+        }
+
+        AttendanceImportRow row;
+        try {
+            row = new AttendanceImportRow(lineNumber, Long.parseLong(columns[0].trim()),
+                    LocalDate.parse(columns[1].trim()), parseTime(columns[2]),
+                    parseTime(columns[3]));
+        } catch (NumberFormatException | DateTimeParseException e) {
+            rejectedRows.add(
+                    new BulkImportResult.RejectedRow(lineNumber, ImportRejectReason.INVALID_FORMAT));
+            return;
+        }
+
+        // 退勤のみの打刻や、出勤より前の退勤は取り込まない
+        if (row.getClockOutTime() != null && (row.getClockInTime() == null
+                || row.getClockOutTime().isBefore(row.getClockInTime()))) {
+            rejectedRows.add(new BulkImportResult.RejectedRow(lineNumber,
+                    ImportRejectReason.INVALID_TIME_RANGE));
+            return;
+        }
+        rows.add(row);
+    }
+
+    private LocalDateTime parseTime(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : LocalDateTime.parse(trimmed, TIME_FORMATTER);
+    }
+
+    /**
+     * 一括取り込み結果
+     */
+    public static class ImportResult {
+        private final long totalRows;
+        private final long importedRows;
+        private final List<BulkImportResult.RejectedRow> rejectedRows;
+        private final long elapsedMillis;
+
+        public ImportResult(long totalRows, long importedRows,
+                List<BulkImportResult.RejectedRow> rejectedRows, long elapsedMillis) {
+            this.totalRows = totalRows;
+            this.importedRows = importedRows;
+            this.rejectedRows = rejectedRows;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public long getTotalRows() {
+            return totalRows;
+        }
+
+        public long getImportedRows() {
+            return importedRows;
+        }
+
+        public long getRejectedCount() {
+            return rejectedRows.size();
+        }
+
+        public List<BulkImportResult.RejectedRow> getRejectedRows() {
+            return rejectedRows;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /**
+         * 1秒あたりの処理行数
+         */
+        public long getRowsPerSecond() {
+            return elapsedMillis > 0 ? totalRows * 1000 / elapsedMillis : totalRows;
+        }
+    }
+}
@@ -1,116 +1,288 @@
-package kiro.attendance.service;
-
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.Optional;
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.entity.AttendanceRecord;
-import kiro.attendance.entity.AttendanceStatus;
-import kiro.attendance.exception.AttendanceException;
-import software.amazon.awssdk.services.cognitoidentity.model.ErrorCode;
-
-/**
- * 打刻サービス
- */
-public class AttendanceService {
-
-    private final AttendanceRecordDao attendanceRecordDao;
-    private final EmployeeDao employeeDao;
-
-    public AttendanceService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao) {
-        this.attendanceRecordDao = attendanceRecordDao;
-        this.employeeDao = employeeDao;
-    }
-
-    /**
-     * 出勤打刻
-     */
-    public AttendanceRecord clockIn(Long employeeId) {
-        // 従業員の存在確認
-        if (!employeeDao.findById(employeeId).isPresent()) {
-            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
-        }
-
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
-
-        // 既に出勤打刻済みかチェック
-        Optional<AttendanceRecord> existingRecord =
-                attendanceRecordDao.findByEmployeeIdAndDate(employeeId, today);
-        if (existingRecord.isPresent() && existingRecord.get().getClockInTime() != null) {
-            throw new AttendanceException(ErrorCode.ALREADY_CLOCKED_IN, "既に出勤打刻済みです");
-        }
-
-        AttendanceRecord record;
-        if (existingRecord.isPresent()) {
-            // 既存レコードを更新
-            record = existingRecord.get();
-            record.setClockInTime(now);
-            record.setStatus(AttendanceStatus.PARTIAL);
-            record = attendanceRecordDao.update(record);
-        } else {
-            // 新規レコードを作成
-            record = new AttendanceRecord(employeeId, today, now, null, 0L,
-                    AttendanceStatus.PARTIAL);
-            record = attendanceRecordDao.insert(record);
-        }
-
-        return record;
-    }
-
-    /**
-     * 退勤打刻
-     */
-    public AttendanceRecord clockOut(Long employeeId) {
-        // 従業員の存在確認
-        if (!employeeDao.findById(employeeId).isPresent()) {
-            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
-        }
-
-        LocalDate today = LocalDate.now();
-        LocalDateTime now = LocalDateTime.now();
-
-        // 出勤打刻済みかチェック
-        Optional<AttendanceRecord> existingRecord =
-                attendanceRecordDao.findByEmployeeIdAndDate(employeeId, today);
-        if (!existingRecord.isPresent() || existingRecord.get().getClockInTime() == null) {
-            throw new AttendanceException(ErrorCode.NOT_CLOCKED_IN, "出勤打刻されていません");
-        }
-
-        AttendanceRecord record = existingRecord.get();
-        if (record.getClockOutTime() != null) {
-            throw new AttendanceException(ErrorCode.ALREADY_CLOCKED_OUT, "既に退勤打刻済みです");
-        }
-
-        // 退勤時刻と勤務時間を設定
-        record.setClockOutTime(now);
-        long workingMinutes = ChronoUnit.MINUTES.between(record.getClockInTime(), now);
-        record.setWorkingMinutes(workingMinutes);
-        record.setStatus(AttendanceStatus.PRESENT);
-
-        return attendanceRecordDao.update(record);
-    }
-
-    /**
-     * 打刻状態取得
-     */
-    public AttendanceRecord getAttendanceStatus(Long employeeId) {
-        // 従業員の存在確認
-        if (!employeeDao.findById(employeeId).isPresent()) {
-            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
-        }
-
-        LocalDate today = LocalDate.now();
-        Optional<AttendanceRecord> record =
-                attendanceRecordDao.findByEmployeeIdAndDate(employeeId, today);
-
-        if (!record.isPresent()) {
-            // 今日の記録がない場合は空のレコードを返す
-            return new AttendanceRecord(employeeId, today, null, null, 0L, AttendanceStatus.ABSENT);
-        }
-
-        return record.get();
-    }
-}
+package kiro.attendance.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * 打刻サービス
+ */
+public class AttendanceService {
+
+    private static final Logger LOGGER = Logger.getLogger(AttendanceService.class.getName());
+
+    /**
+     * 先行して作成しておく月別パーティションの月数
+     */
+    static final int PARTITION_MONTHS_AHEAD = 3;
+
+    /**
+     * 月別パーティションを確認済みの月（確認に成功するまでは打刻ごとに再確認する）
+     */
+    private static volatile YearMonth partitionsEnsuredMonth;
+
+    private final AttendanceRecordDao attendanceRecordDao;
+    private final EmployeeDao employeeDao;
+    private final PresenceRegistry presenceRegistry;
+    private final EmployeeCache employeeCache;
+    private final EmployeeDirectory employeeDirectory;
+
+    public AttendanceService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao) {
+        this(attendanceRecordDao, employeeDao, PresenceRegistry.getInstance());
+    }
+
+    public AttendanceService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao,
+            PresenceRegistry presenceRegistry) {
+        this(attendanceRecordDao, employeeDao, presenceRegistry, EmployeeCache.getInstance(),
+                EmployeeDirectory.getInstance());
+    }
+
+    public AttendanceService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao,
+            PresenceRegistry presenceRegistry, EmployeeCache employeeCache,
+            EmployeeDirectory employeeDirectory) {
+        this.attendanceRecordDao = attendanceRecordDao;
+        this.employeeDao = employeeDao;
+        this.presenceRegistry = presenceRegistry;
+        this.employeeCache = employeeCache;
+        this.employeeDirectory = employeeDirectory;
+    }
+
+    /**
+     * 出勤打刻
+     */
+    public AttendanceRecord clockIn(Long employeeId) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        ensureCurrentPartition(today);
+
+        // 記録の作成・更新を1文で行う（従業員の存在は外部キー制約で確認される）
+        AttendanceRecord record = attendanceRecordDao.upsertClockIn(employeeId, today, now)
+                .orElseThrow(() -> new AttendanceException(ErrorCode.ALREADY_CLOCKED_IN,
+                        "既に出勤打刻済みです"));
+        presenceRegistry.apply(record);
+        return record;
+    }
+
+    /**
+     * 退勤打刻
+     */
+    public AttendanceRecord clockOut(Long employeeId) {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 退勤時刻・勤務時間・ステータスを1文で更新する
+        Optional<AttendanceRecord> record =
+                attendanceRecordDao.updateClockOut(employeeId, today, now);
+        if (record.isPresent()) {
+            presenceRegistry.apply(record.get());
+            return record.get();
+        }
+
+        // 更新対象がない場合のみ、原因を特定するために記録を参照する
+        Optional<AttendanceRecord> existingRecord =
+                attendanceRecordDao.findByEmployeeIdAndDate(employeeId, today);
+        if (!existingRecord.isPresent()
+                && !employeeCache.exists(employeeId, employeeDao::findById)) {
+            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+        }
+        if (existingRecord.isPresent() && existingRecord.get().getClockInTime() != null
+                && existingRecord.get().getClockOutTime() != null) {
+            throw new AttendanceException(ErrorCode.ALREADY_CLOCKED_OUT, "既に退勤打刻済みです");
+        }
+        throw new AttendanceException(ErrorCode.NOT_CLOCKED_IN, "出勤打刻されていません");
+    }
+
+    /**
+     * 打刻状態取得
+     */
+    public AttendanceRecord getAttendanceStatus(Long employeeId) {
+        // 従業員の存在確認
+        if (!employeeCache.exists(employeeId, employeeDao::findById)) {
+            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+        }
+
+        LocalDate today = LocalDate.now();
+        Optional<AttendanceRecord> record =
+                attendanceRecordDao.findByEmployeeIdAndDate(employeeId, today);
+
+        if (!record.isPresent()) {
+            // 今日の記録がない場合は空のレコードを返す
+            return new AttendanceRecord(employeeId, today, null, null, 0L, AttendanceStatus.ABSENT);
+        }
+
+        return record.get();
+    }
+
+    /**
+     * 当月から先行月数分の月別パーティションを作成（スケジュール実行から呼び出される）
+     */
+    public void ensureUpcomingPartitions(LocalDate today) {
+        attendanceRecordDao.ensurePartitions(YearMonth.from(today), PARTITION_MONTHS_AHEAD);
+        partitionsEnsuredMonth = YearMonth.from(today);
+    }
+
+    /**
+     * 当月の月別パーティションの確認（スケジュール実行が止まっていた場合の補完）
+     *
+     * 通常はカタログの参照のみで、未作成の場合だけ当月分を作成する。
+     * 作成できなかった場合も当月の記録はデフォルトパーティションに入るため、打刻は継続し次回の打刻で再確認する
+     */
+    private void ensureCurrentPartition(LocalDate today) {
+        YearMonth month = YearMonth.from(today);
+        if (month.equals(partitionsEnsuredMonth)) {
+            return;
+        }
+        try {
+            if (!attendanceRecordDao.partitionExists(month)) {
+                attendanceRecordDao.ensurePartitions(month, 0);
+            }
+            partitionsEnsuredMonth = month;
+        } catch (RuntimeException e) {
+            // 原因のSQLエラーを確認できるよう、例外ごと記録する
+            LOGGER.log(Level.WARNING, "Failed to ensure attendance record partition for " + month, e);
+        }
+    }
+
+    /**
+     * 確認済みの月をクリア（テスト用）
+     */
+    static void resetPartitionCheck() {
+        partitionsEnsuredMonth = null;
+    }
+
+    /**
+     * 在席状況取得（在席人数と在席従業員ID）
+     */
+    public PresenceSummary getPresence() {
+        presenceRegistry.ensureLoaded(attendanceRecordDao, LocalDate.now());
+        return new PresenceSummary(presenceRegistry.getDate(), presenceRegistry.getHeadcount(),
+                presenceRegistry.getPresentEmployeeIds());
+    }
+
+    /**
+     * 在席判定
+     */
+    public boolean isPresent(Long employeeId) {
+        presenceRegistry.ensureLoaded(attendanceRecordDao, LocalDate.now());
+        return presenceRegistry.isPresent(employeeId);
+    }
+
+    /**
+     * チーム勤怠ボード取得（当日の打刻状態を一覧で取得）
+     *
+     * 従業員と当日の勤怠記録をそれぞれ1回のクエリで取得し、記録のない従業員は欠勤として補完する。
+     * employeeIdsがnullの場合は全従業員を対象とする
+     */
+    public List<TeamBoardEntry> getTeamBoard(Collection<Long> employeeIds) {
+        LocalDate today = LocalDate.now();
+
+        List<Employee> employees;
+        List<AttendanceRecord> records;
+        if (employeeIds == null) {
+            employees = employeeDirectory.current(employeeDao).getAll();
+            records = attendanceRecordDao.findAllByDate(today);
+        } else {
+            if (employeeIds.isEmpty()) {
+                return List.of();
+            }
+            employees = employeeDao.findByIds(employeeIds);
+            records = attendanceRecordDao.findByEmployeeIdsAndDate(employeeIds, today);
+        }
+
+        Map<Long, AttendanceRecord> recordsByEmployee = records.stream()
+                .collect(Collectors.toMap(AttendanceRecord::getEmployeeId, Function.identity()));
+
+        return employees.stream()
+                .sorted(Comparator.comparing(Employee::getEmployeeNumber))
+                .map(employee -> TeamBoardEntry.of(employee, today,
+                        recordsByEmployee.get(employee.getId())))
+                .toList();
+    }
+
+    /**
+     * 在席状況クラス
+     */
+    public static class PresenceSummary {
+        private final LocalDate date;
+        private final int headcount;
+        private final List<Long> employeeIds;
+
+        public PresenceSummary(LocalDate date, int headcount, List<Long> employeeIds) {
+            this.date = date;
+            this.headcount = headcount;
+            this.employeeIds = employeeIds;
+        }
+
+        public LocalDate getDate() { return date; }
+        public int getHeadcount() { return headcount; }
+        public List<Long> getEmployeeIds() { return employeeIds; }
+    }
+
+    /**
+     * チーム勤怠ボードの行クラス
+     */
+    public static class TeamBoardEntry {
+        private final Long employeeId;
+        private final String employeeName;
+        private final String employeeNumber;
+        private final LocalDate date;
+        private final LocalDateTime clockInTime;
+        private final LocalDateTime clockOutTime;
+        private final Long workingMinutes;
+        private final AttendanceStatus status;
+
+        public TeamBoardEntry(Long employeeId, String employeeName, String employeeNumber,
+                LocalDate date, LocalDateTime clockInTime, LocalDateTime clockOutTime,
+                Long workingMinutes, AttendanceStatus status) {
+            this.employeeId = employeeId;
+            this.employeeName = employeeName;
+            this.employeeNumber = employeeNumber;
+            this.date = date;
+            this.clockInTime = clockInTime;
+            this.clockOutTime = clockOutTime;
+            this.workingMinutes = workingMinutes;
+            this.status = status;
+        }
+
+        /**
+         * 従業員と当日の記録から作成（記録がない場合は欠勤）
+         */
+        public static TeamBoardEntry of(Employee employee, LocalDate date,
+                AttendanceRecord record) {
+            if (record == null) {
+                return new TeamBoardEntry(employee.getId(), employee.getName(),
+                        employee.getEmployeeNumber(), date, null, null, 0L,
+                        AttendanceStatus.ABSENT);
+            }
+            return new TeamBoardEntry(employee.getId(), employee.getName(),
+                    employee.getEmployeeNumber(), date, record.getClockInTime(),
+                    record.getClockOutTime(), record.getWorkingMinutes(), record.getStatus());
+        }
+
+        // Getters
+        public Long getEmployeeId() { return employeeId; }
+        public String getEmployeeName() { return employeeName; }
+        public String getEmployeeNumber() { return employeeNumber; }
+        public LocalDate getDate() { return date; }
+        public LocalDateTime getClockInTime() { return clockInTime; }
+        public LocalDateTime getClockOutTime() { return clockOutTime; }
+        public Long getWorkingMinutes() { return workingMinutes; }
+        public AttendanceStatus getStatus() { return status; }
+    }
+}
@@ -0,0 +1,68 @@
+package kiro.attendance.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.entity.CorrectionRequest;
+
+/**
+ * 監査用の修正申請CSVエクスポートサービス
+ */
+public class CorrectionExportService {
+
+    private static final String HEADER =
+            "id,employee_id,original_record_id,requested_clock_in,requested_clock_out,reason,"
+                    + "status,request_date,processed_date" + CsvFormat.LINE_SEPARATOR;
+
+    private final CorrectionRequestDao correctionRequestDao;
+
+    public CorrectionExportService(CorrectionRequestDao correctionRequestDao) {
+        this.correctionRequestDao = correctionRequestDao;
+    }
+
+    /**
+     * 申請日の範囲の修正申請を申請日時の古い順にCSVで書き出し、出力した行数を返す
+     *
+     * 行はカーソルから読み出すたびにwriterへ書き込むため、期間全体を保持しない
+     */
+    public long writeCsv(CorrectionRequestSearch search, Writer writer) throws IOException {
+        CorrectionService.validateSearch(search);
+        writer.write(HEADER);
+
+        long[] count = {0};
+        StringBuilder line = new StringBuilder(256);
+        try {
+            correctionRequestDao.forEachByRequestDateRange(search, request -> {
+                line.setLength(0);
+                appendRow(line, request);
+                try {
+                    writer.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return count[0];
+    }
+
+    private void appendRow(StringBuilder line, CorrectionRequest request) {
+        line.append(request.getId()).append(',').append(request.getEmployeeId()).append(',')
+                .append(request.getOriginalRecordId()).append(',');
+        CsvFormat.appendTime(line, request.getRequestedClockIn());
+        line.append(',');
+        CsvFormat.appendTime(line, request.getRequestedClockOut());
+        line.append(',');
+        CsvFormat.appendEscaped(line, request.getReason());
+        line.append(',').append(request.getStatus().name()).append(',');
+        CsvFormat.appendTime(line, request.getRequestDate());
+        line.append(',');
+        CsvFormat.appendTime(line, request.getProcessedDate());
+        line.append(CsvFormat.LINE_SEPARATOR);
+    }
+}
@@ -1,206 +1,552 @@
-package kiro.attendance.service;
-
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.CorrectionRequestDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.entity.AttendanceRecord;
-import kiro.attendance.entity.CorrectionRequest;
-import kiro.attendance.entity.CorrectionStatus;import kiro.attendance.exception.AttendanceException;
-import kiro.attendance.exception.ErrorCode;
-
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Optional;
-
-/**
- * 修正申請サービス
- */
-public class CorrectionService {
-
-    private final CorrectionRequestDao correctionRequestDao;
-    private final AttendanceRecordDao attendanceRecordDao;
-    private final EmployeeDao employeeDao;
-
-    public CorrectionService(CorrectionRequestDao correctionRequestDao, 
-            AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao) {
-        this.correctionRequestDao = correctionRequestDao;
-        this.attendanceRecordDao = attendanceRecordDao;
-        this.employeeDao = employeeDao;
-    }
-
-    /**
-     * 修正申請提出
-     */
-    public CorrectionRequest submitCorrectionRequest(CorrectionRequestSubmission submission) {
-        // 従業員の存在確認
-        if (!employeeDao.findById(submission.getEmployeeId()).isPresent()) {
-            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
-        }
-
-        // 元の勤怠記録の存在確認
-        Optional<AttendanceRecord> originalRecord = attendanceRecordDao.findById(submission.getOriginalRecordId());
-        if (!originalRecord.isPresent()) {
-            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正対象の勤怠記録が見つかりません");
-        }
-
-        // 権限チェック（自分の記録のみ修正申請可能）
-        if (!originalRecord.get().getEmployeeId().equals(submission.getEmployeeId())) {
-            throw new AttendanceException(ErrorCode.FORBIDDEN, "他の従業員の記録は修正申請できません");
-        }
-
-        // 時間の妥当性チェック
-        if (submission.getRequestedClockIn() != null && submission.getRequestedClockOut() != null) {
-            if (submission.getRequestedClockIn().isAfter(submission.getRequestedClockOut())) {
-                throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE, "出勤時刻は退勤時刻より前である必要があります");
-            }
-        }
-
-        CorrectionRequest request = new CorrectionRequest(
-                submission.getEmployeeId(),
-                submission.getOriginalRecordId(),
-                submission.getRequestedClockIn(),
-                submission.getRequestedClockOut(),
-                submission.getReason()
-        );
-
-        return correctionRequestDao.insert(request);
-    }
-
-    /**
-     * 修正申請一覧取得
-     */
-    public List<CorrectionRequest> getCorrectionRequests(Long employeeId, CorrectionStatus status) {
-        if (employeeId != null) {
-            return correctionRequestDao.findByEmployeeId(employeeId);
-        } else if (status != null) {
-            return correctionRequestDao.findByStatus(status);
-        } else {
-            return correctionRequestDao.findPendingRequests();
-        }
-    }
-
-    /**
-     * 修正申請承認
-     */
-    public CorrectionRequest approveCorrectionRequest(Long requestId) {
-        // 修正申請の取得
-        Optional<CorrectionRequest> optionalRequest = correctionRequestDao.findById(requestId);
-        if (!optionalRequest.isPresent()) {
-            throw new AttendanceException(ErrorCode.CORRECTION_REQUEST_NOT_FOUND, "修正申請が見つかりません");
-        }
-
-        CorrectionRequest request = optionalRequest.get();
-
-        // 既に処理済みかチェック
-        if (request.getStatus() != CorrectionStatus.PENDING) {
-            throw new AttendanceException(ErrorCode.CORRECTION_ALREADY_PROCESSED, "修正申請は既に処理済みです");
-        }
-
-        // 元の勤怠記録を更新
-        Optional<AttendanceRecord> optionalRecord = attendanceRecordDao.findById(request.getOriginalRecordId());
-        if (optionalRecord.isPresent()) {
-            AttendanceRecord record = optionalRecord.get();
-            
-            if (request.getRequestedClockIn() != null) {
-                record.setClockInTime(request.getRequestedClockIn());
-            }
-            if (request.getRequestedClockOut() != null) {
-                record.setClockOutTime(request.getRequestedClockOut());
-            }
-
-            // 勤務時間を再計算
-            if (record.getClockInTime() != null && record.getClockOutTime() != null) {
-                long workingMinutes = ChronoUnit.MINUTES.between(record.getClockInTime(), record.getClockOutTime());
-                record.setWorkingMinutes(workingMinutes);
-            }
-
-            attendanceRecordDao.update(record);
-        }
-
-        // 修正申請のステータスを更新
-        request.setStatus(CorrectionStatus.APPROVED);
-        request.setProcessedDate(LocalDateTime.now());
-
-        return correctionRequestDao.update(request);
-    }
-
-    /**
-     * 修正申請却下
-     */
-    public CorrectionRequest rejectCorrectionRequest(Long requestId, String rejectionReason) {
-        // 修正申請の取得
-        Optional<CorrectionRequest> optionalRequest = correctionRequestDao.findById(requestId);
-        if (!optionalRequest.isPresent()) {
-            throw new AttendanceException(ErrorCode.CORRECTION_REQUEST_NOT_FOUND, "修正申請が見つかりません");
-        }
-
-        CorrectionRequest request = optionalRequest.get();
-
-        // 既に処理済みかチェック
-        if (request.getStatus() != CorrectionStatus.PENDING) {
-            throw new AttendanceException(ErrorCode.CORRECTION_ALREADY_PROCESSED, "修正申請は既に処理済みです");
-        }
-
-        // 修正申請のステータスを更新
-        request.setStatus(CorrectionStatus.REJECTED);
-        request.setProcessedDate(LocalDateTime.now());
-        
-        // 却下理由があれば追記
-        if (rejectionReason != null && !rejectionReason.trim().isEmpty()) {
-            request.setReason(request.getReason() + "\n[却下理由] " + rejectionReason);
-        }
-
-        return correctionRequestDao.update(request);
-    }
-
-    /**
-     * 修正申請提出リクエスト
-     */
-    public static class CorrectionRequestSubmission {
-        private Long employeeId;
-        private Long originalRecordId;
-        private LocalDateTime requestedClockIn;
-        private LocalDateTime requestedClockOut;
-        private String reason;
-
-        public CorrectionRequestSubmission() {}
-
-        public CorrectionRequestSubmission(Long employeeId, Long originalRecordId,
-                LocalDateTime requestedClockIn, LocalDateTime requestedClockOut, String reason) {
-            this.employeeId = employeeId;
-            this.originalRecordId = originalRecordId;
-            this.requestedClockIn = requestedClockIn;
-            this.requestedClockOut = requestedClockOut;
-            this.reason = reason;
-        }
-
-        // Getters and Setters
-        public Long getEmployeeId() { return employeeId; }
-        public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
-        public Long getOriginalRecordId() { return originalRecordId; }
-        public void setOriginalRecordId(Long originalRecordId) { this.originalRecordId = originalRecordId; }
-        public LocalDateTime getRequestedClockIn() { return requestedClockIn; }
-        public void setRequestedClockIn(LocalDateTime requestedClockIn) { this.requestedClockIn = requestedClockIn; }
-        public LocalDateTime getRequestedClockOut() { return requestedClockOut; }
-        public void setRequestedClockOut(LocalDateTime requestedClockOut) { this.requestedClockOut = requestedClockOut; }
-        public String getReason() { return reason; }
-        public void setReason(String reason) { this.reason = reason; }
-    }
-
-    /**
-     * 修正申請却下リクエスト
-     */
-    public static class CorrectionRejectionRequest {
-        private String rejectionReason;
-
-        public CorrectionRejectionRequest() {}
-
-        public CorrectionRejectionRequest(String rejectionReason) {
-            this.rejectionReason = rejectionReason;
-        }
-
-        public String getRejectionReason() { return rejectionReason; }
-        public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
-    }
-}
\ No newline at end of file
+package kiro.attendance.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.dao.CorrectionRequestView;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.CorrectionRequest;
+import kiro.attendance.entity.CorrectionStatus;import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.util.PageCursorUtil;
+import kiro.attendance.util.ReadRouting;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 修正申請サービス
+ */
+public class CorrectionService {
+
+    /**
+     * 一括処理できる修正申請の上限件数
+     */
+    public static final int MAX_BULK_SIZE = 200;
+
+    private final CorrectionRequestDao correctionRequestDao;
+    private final AttendanceRecordDao attendanceRecordDao;
+    private final EmployeeDao employeeDao;
+    private final PresenceRegistry presenceRegistry;
+    private final ReadRouting readRouting;
+    private final EmployeeCache employeeCache;
+
+    public CorrectionService(CorrectionRequestDao correctionRequestDao, 
+            AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao) {
+        this(correctionRequestDao, attendanceRecordDao, employeeDao,
+                PresenceRegistry.getInstance(), ReadRouting.PRIMARY_ONLY);
+    }
+
+    public CorrectionService(CorrectionRequestDao correctionRequestDao,
+            AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao,
+            PresenceRegistry presenceRegistry, ReadRouting readRouting) {
+        this(correctionRequestDao, attendanceRecordDao, employeeDao, presenceRegistry,
+                readRouting, EmployeeCache.getInstance());
+    }
+
+    public CorrectionService(CorrectionRequestDao correctionRequestDao,
+            AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao,
+            PresenceRegistry presenceRegistry, ReadRouting readRouting,
+            EmployeeCache employeeCache) {
+        this.correctionRequestDao = correctionRequestDao;
+        this.attendanceRecordDao = attendanceRecordDao;
+        this.employeeDao = employeeDao;
+        this.presenceRegistry = presenceRegistry;
+        this.readRouting = readRouting;
+        this.employeeCache = employeeCache;
+    }
+
+    /**
+     * 修正申請提出
+     */
+    public CorrectionRequest submitCorrectionRequest(CorrectionRequestSubmission submission) {
+        // 従業員の存在確認
+        if (!employeeCache.exists(submission.getEmployeeId(), employeeDao::findById)) {
+            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+        }
+
+        // 元の勤怠記録の存在確認
+        Optional<AttendanceRecord> originalRecord = attendanceRecordDao.findById(submission.getOriginalRecordId());
+        if (!originalRecord.isPresent()) {
+            throw new AttendanceException(ErrorCode.INTERNAL_SERVER_ERROR, "修正対象の勤怠記録が見つかりません");
+        }
+
+        // 権限チェック（自分の記録のみ修正申請可能）
+        if (!originalRecord.get().getEmployeeId().equals(submission.getEmployeeId())) {
+            throw new AttendanceException(ErrorCode.FORBIDDEN, "他の従業員の記録は修正申請できません");
+        }
+
+        // 時間の妥当性チェック
+        if (submission.getRequestedClockIn() != null && submission.getRequestedClockOut() != null) {
+            if (submission.getRequestedClockIn().isAfter(submission.getRequestedClockOut())) {
+                throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE, "出勤時刻は退勤時刻より前である必要があります");
+            }
+        }
+
+        CorrectionRequest request = new CorrectionRequest(
+                submission.getEmployeeId(),
+                submission.getOriginalRecordId(),
+                submission.getRequestedClockIn(),
+                submission.getRequestedClockOut(),
+                submission.getReason()
+        );
+
+        return correctionRequestDao.insert(request);
+    }
+
+    /**
+     * 修正申請一覧取得
+     */
+    public List<CorrectionRequest> getCorrectionRequests(Long employeeId, CorrectionStatus status) {
+        if (employeeId != null) {
+            return readRouting.readOnlyFor(employeeId,
+                    () -> correctionRequestDao.findByEmployeeId(employeeId));
+        } else if (status != null) {
+            return readRouting.readOnly(() -> correctionRequestDao.findByStatus(status));
+        } else {
+            return readRouting.readOnly(correctionRequestDao::findPendingRequests);
+        }
+    }
+
+    /**
+     * 修正申請一覧ページ取得（申請日時・IDのキーセットページング）
+     *
+     * 承認待ちキュー（従業員・ステータスの指定なし）は申請日時の古い順、それ以外は新しい順に返す
+     */
+    public PageResult<CorrectionRequest> getCorrectionRequestsPage(Long employeeId,
+            CorrectionStatus status, String cursor, Integer limit) {
+        int pageSize = PageResult.normalizeLimit(limit);
+        RequestCursor position = RequestCursor.decode(cursor);
+
+        List<CorrectionRequest> requests;
+        if (employeeId != null) {
+            requests = readRouting.readOnlyFor(employeeId, () -> correctionRequestDao
+                    .findByEmployeeIdBefore(employeeId, position.requestDate, position.id,
+                            pageSize + 1));
+        } else if (status != null) {
+            requests = readRouting.readOnly(() -> correctionRequestDao
+                    .findByStatusBefore(status, position.requestDate, position.id, pageSize + 1));
+        } else {
+            requests = readRouting.readOnly(() -> correctionRequestDao
+                    .findPendingRequestsAfter(position.requestDate, position.id, pageSize + 1));
+        }
+        return PageResult.of(requests, pageSize, RequestCursor::encode);
+    }
+
+    /**
+     * 修正申請一覧ページを元の勤怠記録・申請者名とともに取得（一覧画面用）
+     *
+     * ページングと並び順はgetCorrectionRequestsPageと同じ。1ページを1回の結合クエリで取得する
+     */
+    public PageResult<CorrectionRequestView> getCorrectionRequestViewsPage(Long employeeId,
+            CorrectionStatus status, String cursor, Integer limit) {
+        int pageSize = PageResult.normalizeLimit(limit);
+        RequestCursor position = RequestCursor.decode(cursor);
+
+        List<CorrectionRequestView> views;
+        if (employeeId != null) {
+            views = readRouting.readOnlyFor(employeeId, () -> correctionRequestDao
+                    .findViewsByEmployeeIdBefore(employeeId, position.requestDate, position.id,
+                            pageSize + 1));
+        } else if (status != null) {
+            views = readRouting.readOnly(() -> correctionRequestDao
+                    .findViewsByStatusBefore(status, position.requestDate, position.id,
+                            pageSize + 1));
+        } else {
+            views = readRouting.readOnly(() -> correctionRequestDao
+                    .findPendingViewsAfter(position.requestDate, position.id, pageSize + 1));
+        }
+        return PageResult.of(views, pageSize, last -> RequestCursor.encode(last.getRequest()));
+    }
+
+    /**
+     * 申請日の範囲で修正申請を検索（申請日時・IDの降順のキーセットページング）
+     */
+    public PageResult<CorrectionRequest> searchCorrectionRequestsPage(
+            CorrectionRequestSearch search, String cursor, Integer limit) {
+        validateSearch(search);
+        int pageSize = PageResult.normalizeLimit(limit);
+        RequestCursor position = RequestCursor.decode(cursor);
+
+        List<CorrectionRequest> requests;
+        if (search.getEmployeeId() != null) {
+            requests = readRouting.readOnlyFor(search.getEmployeeId(),
+                    () -> correctionRequestDao.findByRequestDateRangeBefore(search,
+                            position.requestDate, position.id, pageSize + 1));
+        } else {
+            requests = readRouting.readOnly(() -> correctionRequestDao
+                    .findByRequestDateRangeBefore(search, position.requestDate, position.id,
+                            pageSize + 1));
+        }
+        return PageResult.of(requests, pageSize, RequestCursor::encode);
+    }
+
+    /**
+     * 検索条件の申請日の範囲を検証
+     */
+    public static void validateSearch(CorrectionRequestSearch search) {
+        if (search.getFrom() == null || search.getTo() == null) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "申請日の開始日と終了日を指定してください");
+        }
+        if (search.getFrom().isAfter(search.getTo())) {
+            throw new AttendanceException(ErrorCode.INVALID_TIME_RANGE,
+                    "申請日の開始日は終了日以前を指定してください");
+        }
+    }
+
+    /**
+     * 修正申請承認
+     *
+     * 呼び出し側で1トランザクションとして実行し、コミット後にapplyToPresenceで在席状況へ反映すること
+     */
+    public ProcessResult<CorrectionRequest> approveCorrectionRequest(Long requestId) {
+        // 修正申請の取得
+        Optional<CorrectionRequest> optionalRequest = correctionRequestDao.findById(requestId);
+        if (!optionalRequest.isPresent()) {
+            throw new AttendanceException(ErrorCode.CORRECTION_REQUEST_NOT_FOUND, "修正申請が見つかりません");
+        }
+
+        CorrectionRequest request = optionalRequest.get();
+
+        // 既に処理済みかチェック
+        if (request.getStatus() != CorrectionStatus.PENDING) {
+            throw new AttendanceException(ErrorCode.CORRECTION_ALREADY_PROCESSED, "修正申請は既に処理済みです");
+        }
+
+        // 元の勤怠記録を更新
+        List<AttendanceRecord> modifiedRecords = new ArrayList<>();
+        Optional<AttendanceRecord> optionalRecord = attendanceRecordDao.findByIdAndDate(
+                request.getOriginalRecordId(), request.getOriginalRecordDate());
+        if (optionalRecord.isPresent()) {
+            AttendanceRecord record = optionalRecord.get();
+
+            // 修正内容を反映して勤務時間を再計算
+            applyCorrection(record, request);
+
+            attendanceRecordDao.update(record);
+            modifiedRecords.add(record);
+        }
+
+        // 修正申請のステータスを更新
+        request.setStatus(CorrectionStatus.APPROVED);
+        request.setProcessedDate(LocalDateTime.now());
+
+        return new ProcessResult<>(correctionRequestDao.update(request), modifiedRecords);
+    }
+
+    /**
+     * 修正申請却下
+     */
+    public CorrectionRequest rejectCorrectionRequest(Long requestId, String rejectionReason) {
+        // 修正申請の取得
+        Optional<CorrectionRequest> optionalRequest = correctionRequestDao.findById(requestId);
+        if (!optionalRequest.isPresent()) {
+            throw new AttendanceException(ErrorCode.CORRECTION_REQUEST_NOT_FOUND, "修正申請が見つかりません");
+        }
+
+        CorrectionRequest request = optionalRequest.get();
+
+        // 既に処理済みかチェック
+        if (request.getStatus() != CorrectionStatus.PENDING) {
+            throw new AttendanceException(ErrorCode.CORRECTION_ALREADY_PROCESSED, "修正申請は既に処理済みです");
+        }
+
+        // 修正申請のステータスを更新
+        request.setStatus(CorrectionStatus.REJECTED);
+        request.setProcessedDate(LocalDateTime.now());
+        
+        // 却下理由があれば追記
+        if (rejectionReason != null && !rejectionReason.trim().isEmpty()) {
+            request.setReason(request.getReason() + "\n[却下理由] " + rejectionReason);
+        }
+
+        return correctionRequestDao.update(request);
+    }
+
+    /**
+     * 修正申請一括承認
+     *
+     * 申請と勤怠記録をまとめて取得し、勤務時間をメモリ上で再計算してバッチで更新する
+     * 呼び出し側で1トランザクションとして実行し、コミット後にapplyToPresenceで在席状況へ反映すること
+     */
+    public ProcessResult<List<BulkProcessOutcome>> approveCorrectionRequests(List<Long> requestIds) {
+        return processCorrectionRequests(requestIds, CorrectionStatus.APPROVED, null);
+    }
+
+    /**
+     * 修正申請一括却下
+     *
+     * 呼び出し側で1トランザクションとして実行すること
+     */
+    public ProcessResult<List<BulkProcessOutcome>> rejectCorrectionRequests(List<Long> requestIds,
+            String rejectionReason) {
+        return processCorrectionRequests(requestIds, CorrectionStatus.REJECTED, rejectionReason);
+    }
+
+    private ProcessResult<List<BulkProcessOutcome>> processCorrectionRequests(List<Long> requestIds,
+            CorrectionStatus newStatus, String rejectionReason) {
+        if (requestIds == null || requestIds.isEmpty()) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER, "修正申請IDを指定してください");
+        }
+        Set<Long> ids = new LinkedHashSet<>(requestIds);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "一度に処理できる修正申請は" + MAX_BULK_SIZE + "件までです");
+        }
+
+        // 修正申請を一括取得（同時に処理されないよう行ロックを取得する）
+        Map<Long, CorrectionRequest> requestsById = new HashMap<>();
+        for (CorrectionRequest request : correctionRequestDao.findByIdsForUpdate(ids)) {
+            requestsById.put(request.getId(), request);
+        }
+
+        // 承認時は修正対象の勤怠記録を一括取得
+        Map<Long, AttendanceRecord> recordsById = new LinkedHashMap<>();
+        if (newStatus == CorrectionStatus.APPROVED) {
+            // 勤怠記録は主キー (id, date) で取得し、該当月のパーティションのみを参照させる
+            Map<Long, LocalDate> recordKeys = new LinkedHashMap<>();
+            for (CorrectionRequest request : requestsById.values()) {
+                if (request.getStatus() == CorrectionStatus.PENDING) {
+                    recordKeys.put(request.getOriginalRecordId(), request.getOriginalRecordDate());
+                }
+            }
+            if (!recordKeys.isEmpty()) {
+                for (AttendanceRecord record : attendanceRecordDao.findByIdsAndDates(recordKeys)) {
+                    recordsById.put(record.getId(), record);
+                }
+            }
+        }
+
+        LocalDateTime processedDate = LocalDateTime.now();
+        List<CorrectionRequest> processedRequests = new ArrayList<>();
+        Set<AttendanceRecord> modifiedRecords = new LinkedHashSet<>();
+        List<BulkProcessOutcome> outcomes = new ArrayList<>();
+
+        for (Long id : ids) {
+            CorrectionRequest request = requestsById.get(id);
+            if (request == null) {
+                outcomes.add(BulkProcessOutcome.failure(id, ErrorCode.CORRECTION_REQUEST_NOT_FOUND));
+                continue;
+            }
+            if (request.getStatus() != CorrectionStatus.PENDING) {
+                outcomes.add(BulkProcessOutcome.failure(id, ErrorCode.CORRECTION_ALREADY_PROCESSED));
+                continue;
+            }
+
+            if (newStatus == CorrectionStatus.APPROVED) {
+                AttendanceRecord record = recordsById.get(request.getOriginalRecordId());
+                if (record != null) {
+                    applyCorrection(record, request);
+                    modifiedRecords.add(record);
+                }
+            } else if (rejectionReason != null && !rejectionReason.trim().isEmpty()) {
+                request.setReason(request.getReason() + "\n[却下理由] " + rejectionReason);
+            }
+
+            request.setStatus(newStatus);
+            request.setProcessedDate(processedDate);
+            processedRequests.add(request);
+            outcomes.add(BulkProcessOutcome.success(id, newStatus));
+        }
+
+        if (!modifiedRecords.isEmpty()) {
+            attendanceRecordDao.updateAll(new ArrayList<>(modifiedRecords));
+        }
+        if (!processedRequests.isEmpty()) {
+            correctionRequestDao.updateAll(processedRequests);
+        }
+        return new ProcessResult<>(outcomes, new ArrayList<>(modifiedRecords));
+    }
+
+    /**
+     * 処理で更新した勤怠記録をコンテナ単位の在席状況に反映
+     *
+     * ロールバックされた更新を反映しないよう、トランザクションのコミット後に呼び出すこと
+     */
+    public void applyToPresence(ProcessResult<?> result) {
+        result.getModifiedRecords().forEach(presenceRegistry::apply);
+    }
+
+    /**
+     * 修正内容を勤怠記録に反映し、勤務時間を再計算
+     */
+    private void applyCorrection(AttendanceRecord record, CorrectionRequest request) {
+        if (request.getRequestedClockIn() != null) {
+            record.setClockInTime(request.getRequestedClockIn());
+        }
+        if (request.getRequestedClockOut() != null) {
+            record.setClockOutTime(request.getRequestedClockOut());
+        }
+        if (record.getClockInTime() != null && record.getClockOutTime() != null) {
+            record.setWorkingMinutes(
+                    ChronoUnit.MINUTES.between(record.getClockInTime(), record.getClockOutTime()));
+        }
+    }
+
+    /**
+     * 修正申請の処理結果（コミット後に在席状況へ反映する勤怠記録を含む）
+     */
+    public static class ProcessResult<T> {
+        private final T value;
+        private final List<AttendanceRecord> modifiedRecords;
+
+        ProcessResult(T value, List<AttendanceRecord> modifiedRecords) {
+            this.value = value;
+            this.modifiedRecords = modifiedRecords;
+        }
+
+        public T getValue() { return value; }
+        public List<AttendanceRecord> getModifiedRecords() { return modifiedRecords; }
+    }
+
+    /**
+     * 修正申請一覧のページカーソル（前ページ末尾の申請日時とID）
+     */
+    private static class RequestCursor {
+        private static final RequestCursor FIRST_PAGE = new RequestCursor(null, null);
+
+        private final LocalDateTime requestDate;
+        private final Long id;
+
+        private RequestCursor(LocalDateTime requestDate, Long id) {
+            this.requestDate = requestDate;
+            this.id = id;
+        }
+
+        static RequestCursor decode(String cursor) {
+            if (cursor == null) {
+                return FIRST_PAGE;
+            }
+            String[] keys = PageCursorUtil.decode(cursor, 2);
+            try {
+                return new RequestCursor(LocalDateTime.parse(keys[0]), Long.parseLong(keys[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw PageCursorUtil.invalidCursor();
+            }
+        }
+
+        static String encode(CorrectionRequest last) {
+            return PageCursorUtil.encode(last.getRequestDate().toString(),
+                    String.valueOf(last.getId()));
+        }
+    }
+
+    /**
+     * 修正申請提出リクエスト
+     */
+    public static class CorrectionRequestSubmission {
+        private Long employeeId;
+        private Long originalRecordId;
+        private LocalDateTime requestedClockIn;
+        private LocalDateTime requestedClockOut;
+        private String reason;
+
+        public CorrectionRequestSubmission() {}
+
+        public CorrectionRequestSubmission(Long employeeId, Long originalRecordId,
+                LocalDateTime requestedClockIn, LocalDateTime requestedClockOut, String reason) {
+            this.employeeId = employeeId;
+            this.originalRecordId = originalRecordId;
+            this.requestedClockIn = requestedClockIn;
+            this.requestedClockOut = requestedClockOut;
+            this.reason = reason;
+        }
+
+        // Getters and Setters
+        public Long getEmployeeId() { return employeeId; }
+        public void setEmployeeId(Long employeeId) { this.employeeId = employeeId; }
+        public Long getOriginalRecordId() { return originalRecordId; }
+        public void setOriginalRecordId(Long originalRecordId) { this.originalRecordId = originalRecordId; }
+        public LocalDateTime getRequestedClockIn() { return requestedClockIn; }
+        public void setRequestedClockIn(LocalDateTime requestedClockIn) { this.requestedClockIn = requestedClockIn; }
+        public LocalDateTime getRequestedClockOut() { return requestedClockOut; }
+        public void setRequestedClockOut(LocalDateTime requestedClockOut) { this.requestedClockOut = requestedClockOut; }
+        public String getReason() { return reason; }
+        public void setReason(String reason) { this.reason = reason; }
+    }
+
+    /**
+     * 修正申請却下リクエスト
+     */
+    public static class CorrectionRejectionRequest {
+        private String rejectionReason;
+
+        public CorrectionRejectionRequest() {}
+
+        public CorrectionRejectionRequest(String rejectionReason) {
+            this.rejectionReason = rejectionReason;
+        }
+
+        public String getRejectionReason() { return rejectionReason; }
+        public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
+    }
+
+    /**
+     * 修正申請一括処理リクエスト
+     */
+    public static class BulkProcessRequest {
+        private List<Long> ids;
+        private String rejectionReason;
+
+        public BulkProcessRequest() {}
+
+        public BulkProcessRequest(List<Long> ids, String rejectionReason) {
+            this.ids = ids;
+            this.rejectionReason = rejectionReason;
+        }
+
+        public List<Long> getIds() { return ids; }
+        public void setIds(List<Long> ids) { this.ids = ids; }
+        public String getRejectionReason() { return rejectionReason; }
+        public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
+    }
+
+    /**
+     * 修正申請一括処理の申請ごとの結果
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class BulkProcessOutcome {
+        private final Long id;
+        private final boolean success;
+        private final CorrectionStatus status;
+        private final String errorCode;
+        private final String message;
+
+        private BulkProcessOutcome(Long id, boolean success, CorrectionStatus status,
+                String errorCode, String message) {
+            this.id = id;
+            this.success = success;
+            this.status = status;
+            this.errorCode = errorCode;
+            this.message = message;
+        }
+
+        static BulkProcessOutcome success(Long id, CorrectionStatus status) {
+            return new BulkProcessOutcome(id, true, status, null, null);
+        }
+
+        static BulkProcessOutcome failure(Long id, ErrorCode errorCode) {
+            return new BulkProcessOutcome(id, false, null, errorCode.getCode(),
+                    errorCode.getMessage());
+        }
+
+        public Long getId() { return id; }
+        public boolean isSuccess() { return success; }
+        public CorrectionStatus getStatus() { return status; }
+        public String getErrorCode() { return errorCode; }
+        public String getMessage() { return message; }
+    }
+}
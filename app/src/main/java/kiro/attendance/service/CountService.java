@@ -0,0 +1,99 @@
+package kiro.attendance.service;
+
+import java.time.YearMonth;
+import java.util.function.Supplier;
+import com.attendance.util.CacheManager;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.util.ReadRouting;
+
+/**
+ * 件数取得サービス（ページングの総件数・バッジ表示用）
+ *
+ * 一覧を取得せずにCOUNTクエリで件数を求め、コンテナ内でTTL_MINUTESの間キャッシュする。
+ * キャッシュ中の登録・更新は反映されないため、表示用の件数として扱う
+ */
+public class CountService {
+
+    /**
+     * 件数をキャッシュする時間（分）
+     */
+    static final long TTL_MINUTES = 1;
+
+    private static final String KEY_PREFIX = "kiro.attendance.count.";
+
+    private final AttendanceRecordDao attendanceRecordDao;
+    private final CorrectionRequestDao correctionRequestDao;
+    private final EmployeeDao employeeDao;
+    private final ReadRouting readRouting;
+    private final CacheManager cache = CacheManager.getInstance();
+
+    public CountService(AttendanceRecordDao attendanceRecordDao,
+            CorrectionRequestDao correctionRequestDao, EmployeeDao employeeDao) {
+        this(attendanceRecordDao, correctionRequestDao, employeeDao, ReadRouting.PRIMARY_ONLY);
+    }
+
+    public CountService(AttendanceRecordDao attendanceRecordDao,
+            CorrectionRequestDao correctionRequestDao, EmployeeDao employeeDao,
+            ReadRouting readRouting) {
+        this.attendanceRecordDao = attendanceRecordDao;
+        this.correctionRequestDao = correctionRequestDao;
+        this.employeeDao = employeeDao;
+        this.readRouting = readRouting;
+    }
+
+    /**
+     * 指定月の勤怠記録数（未指定の場合は当月）
+     */
+    public long countRecordsByMonth(YearMonth month) {
+        YearMonth targetMonth = month != null ? month : YearMonth.now();
+        return cached("records.month." + targetMonth,
+                () -> attendanceRecordDao.countByMonth(targetMonth));
+    }
+
+    /**
+     * 従業員の勤怠記録数
+     */
+    public long countRecordsByEmployee(Long employeeId) {
+        return cached("records.employee." + employeeId,
+                () -> attendanceRecordDao.countByEmployeeId(employeeId));
+    }
+
+    /**
+     * ステータスごとの修正申請数（承認待ちは専用のクエリで数える）
+     */
+    public long countCorrectionsByStatus(CorrectionStatus status) {
+        if (status == CorrectionStatus.PENDING) {
+            return cached("corrections.status.PENDING", correctionRequestDao::countPendingRequests);
+        }
+        return cached("corrections.status." + status,
+                () -> correctionRequestDao.countByStatus(status));
+    }
+
+    /**
+     * 従業員の修正申請数
+     */
+    public long countCorrectionsByEmployee(Long employeeId) {
+        return cached("corrections.employee." + employeeId,
+                () -> correctionRequestDao.countByEmployeeId(employeeId));
+    }
+
+    /**
+     * 従業員数（ロール指定時はそのロールの従業員数）
+     */
+    public long countEmployees(UserRole role) {
+        if (role == null) {
+            return cached("employees", employeeDao::count);
+        }
+        return cached("employees.role." + role, () -> employeeDao.countByRole(role));
+    }
+
+    private long cached(String key, Supplier<Long> counter) {
+        Long count = cache.getOrCompute(KEY_PREFIX + key, () -> readRouting.readOnly(counter),
+                TTL_MINUTES);
+        return count;
+    }
+}
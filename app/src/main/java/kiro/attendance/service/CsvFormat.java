@@ -0,0 +1,42 @@
+package kiro.attendance.service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CSVエクスポートの値の書式
+ */
+final class CsvFormat {
+
+    static final String LINE_SEPARATOR = "\r\n";
+
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private CsvFormat() {}
+
+    /**
+     * 日時を書き出す（nullの場合は空欄）
+     */
+    static void appendTime(StringBuilder line, LocalDateTime time) {
+        if (time != null) {
+            TIME_FORMATTER.formatTo(time, line);
+        }
+    }
+
+    /**
+     * RFC 4180に従い、区切り文字・引用符・改行を含む値を引用符で囲む
+     */
+    static void appendEscaped(StringBuilder line, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+}
@@ -0,0 +1,120 @@
+package kiro.attendance.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import kiro.attendance.entity.Employee;
+
+/**
+ * 従業員の存在確認・参照用キャッシュ（コンテナ単位、件数上限付き）
+ *
+ * 打刻・勤務記録の各処理で行う従業員の存在確認を、キャッシュにある場合はクエリなしで済ませる。
+ * 見つかった従業員のみ保持するため、他のコンテナで登録された従業員は次の参照で読み込まれる。
+ * このコンテナでの登録・更新・削除はEmployeeServiceが破棄し、他のコンテナでの変更はTTLの経過で
+ * 反映される。その間に削除済みの従業員を存在すると判定しても、書き込みは外部キー制約で拒否される。
+ * 保持・返却する従業員は複製し、呼び出し元の変更がキャッシュや他のリクエストに影響しないようにする
+ */
+public class EmployeeCache {
+
+    /**
+     * 保持する従業員数の上限（超えた場合は最も長く参照されていないものから破棄）
+     */
+    static final int MAX_ENTRIES = 1000;
+
+    /**
+     * 他コンテナでの更新・削除を取り込むための有効期間
+     */
+    static final Duration TTL = Duration.ofMinutes(5);
+
+    private static final EmployeeCache INSTANCE = new EmployeeCache();
+
+    private final Map<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * コンテナ内で共有するインスタンスを取得
+     */
+    public static EmployeeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 従業員取得（キャッシュにない場合はloaderで読み込み、見つかった場合のみ保持）
+     */
+    public Optional<Employee> findById(Long employeeId,
+            Function<Long, Optional<Employee>> loader) {
+        if (employeeId == null) {
+            return Optional.empty();
+        }
+        Employee cached = get(employeeId);
+        if (cached != null) {
+            return Optional.of(new Employee(cached));
+        }
+        Optional<Employee> employee = loader.apply(employeeId);
+        employee.ifPresent(this::put);
+        return employee;
+    }
+
+    /**
+     * 従業員の存在確認
+     */
+    public boolean exists(Long employeeId, Function<Long, Optional<Employee>> loader) {
+        return findById(employeeId, loader).isPresent();
+    }
+
+    /**
+     * 従業員を破棄（登録・更新・削除時に呼び出す）
+     */
+    public synchronized void invalidate(Long employeeId) {
+        entries.remove(employeeId);
+    }
+
+    /**
+     * 全件破棄
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 保持している従業員数
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Employee get(Long employeeId) {
+        Entry entry = entries.get(employeeId);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() - entry.loadedAtMillis >= TTL.toMillis()) {
+            entries.remove(employeeId);
+            return null;
+        }
+        return entry.employee;
+    }
+
+    private synchronized void put(Employee employee) {
+        if (employee.getId() != null) {
+            entries.put(employee.getId(),
+                    new Entry(new Employee(employee), System.currentTimeMillis()));
+        }
+    }
+
+    private static class Entry {
+        private final Employee employee;
+        private final long loadedAtMillis;
+
+        Entry(Employee employee, long loadedAtMillis) {
+            this.employee = employee;
+            this.loadedAtMillis = loadedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package kiro.attendance.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.dao.EmployeeTableVersion;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+
+/**
+ * 従業員名簿（コンテナ単位、版付きのスナップショット）
+ *
+ * 全従業員をID・従業員番号・ロールで引けるスナップショットとして保持し、一覧と参照をメモリから返す。
+ * employeesテーブルの版（件数と最終更新日時）をCHECK_INTERVALごとに確認し、変わった場合のみ
+ * 全件を読み直す。版は同時に実行された更新の順序によっては変わらないことがあるため、
+ * このコンテナでの登録・更新・削除はEmployeeServiceが破棄し、MAX_AGEを過ぎた場合も読み直す
+ */
+public class EmployeeDirectory {
+
+    /**
+     * 版を確認する間隔（この間は版も確認せずにスナップショットを返す）
+     */
+    static final Duration CHECK_INTERVAL = Duration.ofSeconds(10);
+
+    /**
+     * 版が変わらなくても読み直すまでの時間
+     */
+    static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    private static final EmployeeDirectory INSTANCE = new EmployeeDirectory();
+
+    private final Duration checkInterval;
+    private Snapshot snapshot;
+    private long loadedAtMillis;
+    private long checkedAtMillis;
+
+    public EmployeeDirectory() {
+        this(CHECK_INTERVAL);
+    }
+
+    EmployeeDirectory(Duration checkInterval) {
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * コンテナ内で共有するインスタンスを取得
+     */
+    public static EmployeeDirectory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 現在のスナップショットを取得（版が変わっている場合は読み直す）
+     */
+    public synchronized Snapshot current(EmployeeDao employeeDao) {
+        long now = System.currentTimeMillis();
+        if (snapshot != null && now - checkedAtMillis < checkInterval.toMillis()) {
+            return snapshot;
+        }
+
+        // 版を先に取得する（読み込み中の変更は次の確認で版の違いとして検出される）
+        EmployeeTableVersion version = employeeDao.findTableVersion();
+        if (snapshot == null || !Objects.equals(version, snapshot.getVersion())
+                || now - loadedAtMillis >= MAX_AGE.toMillis()) {
+            snapshot = new Snapshot(version, employeeDao.findAll());
+            loadedAtMillis = now;
+        }
+        checkedAtMillis = now;
+        return snapshot;
+    }
+
+    /**
+     * スナップショットを破棄（登録・更新・削除時に呼び出す）
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * 従業員名簿のスナップショット（読み込み後は変更しない）
+     *
+     * 保持する従業員は読み込み時に複製し、返す際も複製を返す（呼び出し元の変更は共有されない）
+     */
+    public static class Snapshot {
+        private final EmployeeTableVersion version;
+        private final List<Employee> employees;
+        private final Map<Long, Employee> byId;
+        private final Map<String, Employee> byEmployeeNumber;
+        private final Map<UserRole, List<Employee>> byRole;
+
+        Snapshot(EmployeeTableVersion version, List<Employee> employees) {
+            Map<Long, Employee> ids = new HashMap<>();
+            Map<String, Employee> numbers = new HashMap<>();
+            Map<UserRole, List<Employee>> roles = new EnumMap<>(UserRole.class);
+            List<Employee> copies = new ArrayList<>(employees.size());
+            for (Employee source : employees) {
+                Employee employee = new Employee(source);
+                copies.add(employee);
+                ids.put(employee.getId(), employee);
+                numbers.put(employee.getEmployeeNumber(), employee);
+                roles.computeIfAbsent(employee.getRole(), role -> new ArrayList<>()).add(employee);
+            }
+            roles.replaceAll((role, list) -> List.copyOf(list));
+
+            this.version = version;
+            this.employees = List.copyOf(copies);
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byEmployeeNumber = Collections.unmodifiableMap(numbers);
+            this.byRole = Collections.unmodifiableMap(roles);
+        }
+
+        public EmployeeTableVersion getVersion() {
+            return version;
+        }
+
+        /**
+         * 全従業員（従業員番号順）
+         */
+        public List<Employee> getAll() {
+            return copyOf(employees);
+        }
+
+        public Optional<Employee> findById(Long id) {
+            return Optional.ofNullable(byId.get(id)).map(Employee::new);
+        }
+
+        public Optional<Employee> findByEmployeeNumber(String employeeNumber) {
+            return Optional.ofNullable(byEmployeeNumber.get(employeeNumber)).map(Employee::new);
+        }
+
+        /**
+         * 指定ロールの従業員（従業員番号順）
+         */
+        public List<Employee> findByRole(UserRole role) {
+            return copyOf(byRole.getOrDefault(role, List.of()));
+        }
+
+        public int size() {
+            return employees.size();
+        }
+
+        private static List<Employee> copyOf(List<Employee> employees) {
+            List<Employee> copies = new ArrayList<>(employees.size());
+            for (Employee employee : employees) {
+                copies.add(new Employee(employee));
+            }
+            return copies;
+        }
+    }
+}
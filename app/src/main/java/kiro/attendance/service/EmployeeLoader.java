@@ -0,0 +1,130 @@
+package kiro.attendance.service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.Employee;
+
+/**
+ * 従業員のバッチローダー
+ *
+ * 一覧の各行が参照する従業員IDをregisterで集めておき、最初の取得時に未取得のIDをまとめて
+ * findByIdsの1回のクエリで読み込む。取得結果はインスタンスが保持するため、ハンドラ呼び出しごとに
+ * 生成し、呼び出しをまたいで共有しないこと
+ */
+public class EmployeeLoader {
+
+    private final EmployeeDao employeeDao;
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    private final Set<Long> resolvedIds = new HashSet<>();
+    private final Map<Long, Employee> employees = new HashMap<>();
+
+    public EmployeeLoader(EmployeeDao employeeDao) {
+        this.employeeDao = employeeDao;
+    }
+
+    /**
+     * 取得対象の従業員IDを登録（取得済みのIDは無視する）
+     */
+    public void register(Long employeeId) {
+        if (employeeId != null && !resolvedIds.contains(employeeId)) {
+            pendingIds.add(employeeId);
+        }
+    }
+
+    /**
+     * 取得対象の従業員IDをまとめて登録
+     */
+    public void registerAll(Collection<Long> employeeIds) {
+        employeeIds.forEach(this::register);
+    }
+
+    /**
+     * 従業員を取得（登録済みの未取得IDも同じクエリで読み込む）
+     */
+    public Optional<Employee> load(Long employeeId) {
+        register(employeeId);
+        dispatch();
+        return Optional.ofNullable(employees.get(employeeId));
+    }
+
+    /**
+     * 複数の従業員を取得（存在しないIDは結果に含まれない）
+     */
+    public Map<Long, Employee> loadAll(Collection<Long> employeeIds) {
+        registerAll(employeeIds);
+        dispatch();
+
+        Map<Long, Employee> result = new LinkedHashMap<>();
+        for (Long employeeId : employeeIds) {
+            Employee employee = employees.get(employeeId);
+            if (employee != null) {
+                result.put(employeeId, employee);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 従業員IDごとの概要（レスポンスに添える表示用の項目のみ）を取得
+     */
+    public Map<Long, EmployeeSummary> loadSummaries(Collection<Long> employeeIds) {
+        Map<Long, EmployeeSummary> summaries = new LinkedHashMap<>();
+        loadAll(employeeIds).forEach((id, employee) -> summaries.put(id,
+                new EmployeeSummary(id, employee.getName(), employee.getEmployeeNumber())));
+        return summaries;
+    }
+
+    private void dispatch() {
+        if (pendingIds.isEmpty()) {
+            return;
+        }
+        for (Employee employee : employeeDao.findByIds(List.copyOf(pendingIds))) {
+            employees.put(employee.getId(), employee);
+        }
+        resolvedIds.addAll(pendingIds);
+        pendingIds.clear();
+    }
+
+    /**
+     * 従業員概要クラス
+     */
+    public static class EmployeeSummary {
+        private final Long id;
+        private final String name;
+        private final String employeeNumber;
+
+        public EmployeeSummary(Long id, String name, String employeeNumber) {
+            this.id = id;
+            this.name = name;
+            this.employeeNumber = employeeNumber;
+        }
+
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getEmployeeNumber() { return employeeNumber; }
+    }
+
+    /**
+     * 一覧データと参照先の従業員概要をまとめたレスポンス
+     */
+    public static class WithEmployees {
+        private final Object data;
+        private final Map<Long, EmployeeSummary> employees;
+
+        public WithEmployees(Object data, Map<Long, EmployeeSummary> employees) {
+            this.data = data;
+            this.employees = employees;
+        }
+
+        public Object getData() { return data; }
+        public Map<Long, EmployeeSummary> getEmployees() { return employees; }
+    }
+}
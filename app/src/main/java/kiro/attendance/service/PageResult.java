@@ -0,0 +1,62 @@
+package kiro.attendance.service;
+
+import java.util.List;
+import java.util.function.Function;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * キーセットページングの結果
+ */
+public class PageResult<T> {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public PageResult(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 取得件数を正規化（未指定はデフォルト、上限超過は上限に丸める）
+     */
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit < 1) {
+            throw new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER,
+                    "取得件数は1以上で指定してください");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * limit + 1件で取得した行からページを作成
+     *
+     * 余分な1行が存在する場合のみ、ページ末尾の行から次ページのカーソルを作成する
+     */
+    public static <T> PageResult<T> of(List<T> fetched, int limit, Function<T, String> cursorOf) {
+        if (fetched.size() <= limit) {
+            return new PageResult<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, limit);
+        return new PageResult<>(items, cursorOf.apply(items.get(limit - 1)));
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,65 @@
+package kiro.attendance.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.YearMonth;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.PayrollExportRow;
+
+/**
+ * 給与計算用CSVエクスポートサービス
+ */
+public class PayrollExportService {
+
+    private static final String HEADER =
+            "employee_id,employee_number,employee_name,date,clock_in_time,clock_out_time,"
+                    + "working_minutes,status" + CsvFormat.LINE_SEPARATOR;
+
+    private final AttendanceRecordDao attendanceRecordDao;
+
+    public PayrollExportService(AttendanceRecordDao attendanceRecordDao) {
+        this.attendanceRecordDao = attendanceRecordDao;
+    }
+
+    /**
+     * 月別勤怠記録をCSVで書き出し、出力した行数を返す
+     *
+     * 行はカーソルから読み出すたびにwriterへ書き込むため、月全体を保持しない
+     */
+    public long writeMonthlyCsv(YearMonth month, Writer writer) throws IOException {
+        writer.write(HEADER);
+
+        long[] count = {0};
+        StringBuilder line = new StringBuilder(128);
+        try {
+            attendanceRecordDao.forEachPayrollRow(month, row -> {
+                line.setLength(0);
+                appendRow(line, row);
+                try {
+                    writer.append(line);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return count[0];
+    }
+
+    private void appendRow(StringBuilder line, PayrollExportRow row) {
+        line.append(row.getEmployeeId()).append(',');
+        CsvFormat.appendEscaped(line, row.getEmployeeNumber());
+        line.append(',');
+        CsvFormat.appendEscaped(line, row.getEmployeeName());
+        line.append(',').append(row.getDate()).append(',');
+        CsvFormat.appendTime(line, row.getClockInTime());
+        line.append(',');
+        CsvFormat.appendTime(line, row.getClockOutTime());
+        line.append(',').append(row.getWorkingMinutes()).append(',')
+                .append(row.getStatus().name()).append(CsvFormat.LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,115 @@
+package kiro.attendance.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.entity.AttendanceRecord;
+
+/**
+ * 在席（出勤打刻済みかつ未退勤）従業員のレジストリ
+ *
+ * 従業員IDをインデックスとするビットマップで当日の在席状態を保持し、在席判定と人数取得をO(1)で行う。
+ * 初回参照時と日付の切り替わり時に1回のクエリで再構築し、以降は打刻と修正承認で更新する。
+ * レジストリはコンテナごとに保持されるため、他のコンテナで行われた打刻は再構築まで反映されない。
+ * その差を一定時間に抑えるため、REFRESH_INTERVALを過ぎた場合も再構築する
+ */
+public class PresenceRegistry {
+
+    /**
+     * 他コンテナでの打刻を取り込むための再構築間隔
+     */
+    static final Duration REFRESH_INTERVAL = Duration.ofMinutes(1);
+
+    private static final PresenceRegistry INSTANCE = new PresenceRegistry();
+
+    private final BitSet present = new BitSet();
+    private int headcount;
+    private LocalDate date;
+    private long loadedAtMillis;
+
+    /**
+     * コンテナ内で共有するインスタンスを取得
+     */
+    public static PresenceRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 未構築、日付の切り替わり、再構築間隔の経過のいずれかの場合に当日の在席状態を再構築
+     */
+    public synchronized void ensureLoaded(AttendanceRecordDao attendanceRecordDao,
+            LocalDate today) {
+        if (today.equals(date)
+                && System.currentTimeMillis() - loadedAtMillis < REFRESH_INTERVAL.toMillis()) {
+            return;
+        }
+        present.clear();
+        headcount = 0;
+        for (Long employeeId : attendanceRecordDao.findClockedInEmployeeIds(today)) {
+            set(employeeId, true);
+        }
+        date = today;
+        loadedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * 勤怠記録の状態を反映（構築済みの日付の記録のみ対象、それ以外は再構築時に取り込まれる）
+     */
+    public synchronized void apply(AttendanceRecord record) {
+        if (record == null || date == null || !date.equals(record.getDate())) {
+            return;
+        }
+        set(record.getEmployeeId(),
+                record.getClockInTime() != null && record.getClockOutTime() == null);
+    }
+
+    /**
+     * 在席判定
+     */
+    public synchronized boolean isPresent(Long employeeId) {
+        return isIndexable(employeeId) && present.get(employeeId.intValue());
+    }
+
+    /**
+     * 在席人数
+     */
+    public synchronized int getHeadcount() {
+        return headcount;
+    }
+
+    /**
+     * 在席従業員のID一覧（ID順）
+     */
+    public synchronized List<Long> getPresentEmployeeIds() {
+        List<Long> employeeIds = new ArrayList<>(headcount);
+        for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+            employeeIds.add((long) i);
+        }
+        return employeeIds;
+    }
+
+    /**
+     * 構築済みの日付
+     */
+    public synchronized LocalDate getDate() {
+        return date;
+    }
+
+    private void set(Long employeeId, boolean value) {
+        if (!isIndexable(employeeId)) {
+            return;
+        }
+        int index = employeeId.intValue();
+        if (present.get(index) != value) {
+            present.set(index, value);
+            headcount += value ? 1 : -1;
+        }
+    }
+
+    private boolean isIndexable(Long employeeId) {
+        return employeeId != null && employeeId >= 0 && employeeId <= Integer.MAX_VALUE;
+    }
+}
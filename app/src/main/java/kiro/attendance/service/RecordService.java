@@ -1,147 +1,407 @@
-package kiro.attendance.service;
-
-import java.time.YearMonth;
-import java.util.List;
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.entity.AttendanceRecord;
-import kiro.attendance.exception.AttendanceException;
-import kiro.attendance.exception.ErrorCode;
-
-/**
- * 勤務記録サービス
- */
-public class RecordService {
-
-    private final AttendanceRecordDao attendanceRecordDao;
-    private final EmployeeDao employeeDao;
-
-    public RecordService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao) {
-        this.attendanceRecordDao = attendanceRecordDao;
-        this.employeeDao = employeeDao;
-    }
-
-    /**
-     * 勤務記録一覧取得（管理者用）
-     */
-    public List<AttendanceRecord> getAllRecords(YearMonth month) {
-        if (month == null) {
-            month = YearMonth.now();
-        }
-        return attendanceRecordDao.findAllByMonth(month);
-    }
-
-    /**
-     * 従業員別勤務記録取得
-     */
-    public List<AttendanceRecord> getEmployeeRecords(Long employeeId, YearMonth month) {
-        // 従業員の存在確認
-        if (!employeeDao.findById(employeeId).isPresent()) {
-            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
-        }
-
-        if (month == null) {
-            return attendanceRecordDao.findByEmployeeId(employeeId);
-        } else {
-            return attendanceRecordDao.findByEmployeeIdAndMonth(employeeId, month);
-        }
-    }
-
-    /**
-     * 月別勤務時間サマリー取得
-     */
-    public WorkingHoursSummary getWorkingHoursSummary(Long employeeId, YearMonth month) {
-        // 従業員の存在確認
-        var employee = employeeDao.findById(employeeId);
-        if (!employee.isPresent()) {
-            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
-        }
-
-        if (month == null) {
-            month = YearMonth.now();
-        }
-
-        List<AttendanceRecord> records =
-                attendanceRecordDao.findByEmployeeIdAndMonth(employeeId, month);
-
-        // 勤務時間の集計
-        long totalWorkingMinutes =
-                records.stream().mapToLong(AttendanceRecord::getWorkingMinutes).sum();
-
-        int requiredMonthlyHours = employee.get().getRequiredMonthlyHours();
-        long requiredMinutes = requiredMonthlyHours * 60L;
-        long differenceMinutes = totalWorkingMinutes - requiredMinutes;
-
-        return new WorkingHoursSummary(employeeId, month, totalWorkingMinutes, requiredMinutes,
-                differenceMinutes, records.size());
-    }
-
-    /**
-     * 勤務時間サマリークラス
-     */
-    public static class WorkingHoursSummary {
-        private final Long employeeId;
-        private final YearMonth month;
-        private final long totalWorkingMinutes;
-        private final long requiredMinutes;
-        private final long differenceMinutes;
-        private final int workingDays;
-
-        public WorkingHoursSummary(Long employeeId, YearMonth month, long totalWorkingMinutes,
-                long requiredMinutes, long differenceMinutes, int workingDays) {
-            this.employeeId = employeeId;
-            this.month = month;
-            this.totalWorkingMinutes = totalWorkingMinutes;
-            this.requiredMinutes = requiredMinutes;
-            this.differenceMinutes = differenceMinutes;
-            this.workingDays = workingDays;
-        }
-
-        // Getters
-        public Long getEmployeeId() {
-            return employeeId;
-        }
-
-        public YearMonth getMonth() {
-            return month;
-        }
-
-        public long getTotalWorkingMinutes() {
-            return totalWorkingMinutes;
-        }
-
-        public long getRequiredMinutes() {
-            return requiredMinutes;
-        }
-
-        public long getDifferenceMinutes() {
-            return differenceMinutes;
-        }
-
-        public int getWorkingDays() {
-            return workingDays;
-        }
-
-        // 時間単位での取得
-        public double getTotalWorkingHours() {
-            return totalWorkingMinutes / 60.0;
-        }
-
-        public double getRequiredHours() {
-            return requiredMinutes / 60.0;
-        }
-
-        public double getDifferenceHours() {
-            return differenceMinutes / 60.0;
-        }
-
-        // 過不足判定
-        public boolean isOvertime() {
-            return differenceMinutes > 0;
-        }
-
-        public boolean isUndertime() {
-            return differenceMinutes < 0;
-        }
-    }
-}
+package kiro.attendance.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.AttendanceRecordField;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.util.PageCursorUtil;
+import kiro.attendance.util.ReadRouting;
+
+/**
+ * 勤務記録サービス
+ */
+public class RecordService {
+
+    /**
+     * カラムナ形式で使用する項目（作成・更新日時は含めない）
+     */
+    private static final Set<AttendanceRecordField> COLUMNAR_FIELDS = EnumSet.of(
+            AttendanceRecordField.ID, AttendanceRecordField.EMPLOYEE_ID, AttendanceRecordField.DATE,
+            AttendanceRecordField.CLOCK_IN_TIME, AttendanceRecordField.CLOCK_OUT_TIME,
+            AttendanceRecordField.WORKING_MINUTES, AttendanceRecordField.STATUS);
+
+    private final AttendanceRecordDao attendanceRecordDao;
+    private final EmployeeDao employeeDao;
+    private final ReadRouting readRouting;
+    private final EmployeeCache employeeCache;
+
+    public RecordService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao) {
+        this(attendanceRecordDao, employeeDao, ReadRouting.PRIMARY_ONLY);
+    }
+
+    public RecordService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao,
+            ReadRouting readRouting) {
+        this(attendanceRecordDao, employeeDao, readRouting, EmployeeCache.getInstance());
+    }
+
+    public RecordService(AttendanceRecordDao attendanceRecordDao, EmployeeDao employeeDao,
+            ReadRouting readRouting, EmployeeCache employeeCache) {
+        this.attendanceRecordDao = attendanceRecordDao;
+        this.employeeDao = employeeDao;
+        this.readRouting = readRouting;
+        this.employeeCache = employeeCache;
+    }
+
+    /**
+     * 勤務記録一覧取得（管理者用）
+     */
+    public List<AttendanceRecord> getAllRecords(YearMonth month) {
+        return getAllRecords(month, AttendanceRecordField.ALL);
+    }
+
+    /**
+     * 勤務記録一覧取得（管理者用、指定項目のみ）
+     */
+    public List<AttendanceRecord> getAllRecords(YearMonth month,
+            Set<AttendanceRecordField> fields) {
+        YearMonth targetMonth = month != null ? month : YearMonth.now();
+        return readRouting.readOnly(() -> attendanceRecordDao.findAllByMonth(targetMonth, fields));
+    }
+
+    /**
+     * 従業員別勤務記録取得
+     */
+    public List<AttendanceRecord> getEmployeeRecords(Long employeeId, YearMonth month) {
+        return readRouting.readOnlyFor(employeeId, () -> {
+            // 従業員の存在確認
+            if (!employeeCache.exists(employeeId, employeeDao::findById)) {
+                throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+            }
+
+            if (month == null) {
+                return attendanceRecordDao.findByEmployeeId(employeeId);
+            } else {
+                return attendanceRecordDao.findByEmployeeIdAndMonth(employeeId, month);
+            }
+        });
+    }
+
+    /**
+     * 従業員別月次勤務記録取得（指定項目のみ）
+     */
+    public List<AttendanceRecord> getEmployeeRecords(Long employeeId, YearMonth month,
+            Set<AttendanceRecordField> fields) {
+        return readRouting.readOnlyFor(employeeId, () -> {
+            // 従業員の存在確認
+            if (!employeeCache.exists(employeeId, employeeDao::findById)) {
+                throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+            }
+
+            return attendanceRecordDao.findByEmployeeIdAndMonth(employeeId, month, fields);
+        });
+    }
+
+    /**
+     * 勤務記録一覧ページ取得（管理者用、従業員ID・日付順のキーセットページング）
+     */
+    public PageResult<AttendanceRecord> getAllRecordsPage(YearMonth month, String cursor,
+            Integer limit, Set<AttendanceRecordField> fields) {
+        YearMonth targetMonth = month != null ? month : YearMonth.now();
+        int pageSize = PageResult.normalizeLimit(limit);
+
+        Long afterEmployeeId = null;
+        LocalDate afterDate = null;
+        if (cursor != null) {
+            String[] keys = PageCursorUtil.decode(cursor, 2);
+            try {
+                afterEmployeeId = Long.parseLong(keys[0]);
+                afterDate = LocalDate.parse(keys[1]);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw PageCursorUtil.invalidCursor();
+            }
+        }
+
+        Long afterId = afterEmployeeId;
+        LocalDate after = afterDate;
+        List<AttendanceRecord> records = readRouting.readOnly(() -> attendanceRecordDao
+                .findAllByMonthAfter(targetMonth, afterId, after, pageSize + 1, fields));
+        return PageResult.of(records, pageSize, last -> PageCursorUtil
+                .encode(String.valueOf(last.getEmployeeId()), last.getDate().toString()));
+    }
+
+    /**
+     * 従業員別勤務記録ページ取得（日付降順のキーセットページング）
+     */
+    public PageResult<AttendanceRecord> getEmployeeRecordsPage(Long employeeId, String cursor,
+            Integer limit, Set<AttendanceRecordField> fields) {
+        int pageSize = PageResult.normalizeLimit(limit);
+
+        // 従業員内で日付は一意のため、日付のみをキーとする
+        LocalDate beforeDate = null;
+        if (cursor != null) {
+            String[] keys = PageCursorUtil.decode(cursor, 1);
+            try {
+                beforeDate = LocalDate.parse(keys[0]);
+            } catch (DateTimeParseException e) {
+                throw PageCursorUtil.invalidCursor();
+            }
+        }
+
+        LocalDate before = beforeDate;
+        List<AttendanceRecord> records = readRouting.readOnlyFor(employeeId, () -> {
+            // 従業員の存在確認
+            if (!employeeCache.exists(employeeId, employeeDao::findById)) {
+                throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+            }
+            return attendanceRecordDao.findByEmployeeIdBefore(employeeId, before, pageSize + 1,
+                    fields);
+        });
+        return PageResult.of(records, pageSize,
+                last -> PageCursorUtil.encode(last.getDate().toString()));
+    }
+
+    /**
+     * 月別勤務記録一覧をカラムナ形式で取得（管理者用）
+     */
+    public ColumnarMonthlyRecords getAllRecordsColumnar(YearMonth month) {
+        YearMonth targetMonth = month != null ? month : YearMonth.now();
+        List<AttendanceRecord> records = readRouting
+                .readOnly(() -> attendanceRecordDao.findAllByMonth(targetMonth, COLUMNAR_FIELDS));
+        return ColumnarMonthlyRecords.of(targetMonth, null, records);
+    }
+
+    /**
+     * 従業員別月次勤務記録をカラムナ形式で取得
+     */
+    public ColumnarMonthlyRecords getEmployeeRecordsColumnar(Long employeeId, YearMonth month) {
+        List<AttendanceRecord> records = getEmployeeRecords(employeeId, month, COLUMNAR_FIELDS);
+        return ColumnarMonthlyRecords.of(month, employeeId, records);
+    }
+
+    /**
+     * 月別勤務時間サマリー取得
+     */
+    public WorkingHoursSummary getWorkingHoursSummary(Long employeeId, YearMonth month) {
+        return readRouting.readOnlyFor(employeeId, () -> summarize(employeeId,
+                month != null ? month : YearMonth.now()));
+    }
+
+    private WorkingHoursSummary summarize(Long employeeId, YearMonth month) {
+        // 従業員の存在確認
+        var employee = employeeCache.findById(employeeId, employeeDao::findById);
+        if (!employee.isPresent()) {
+            throw new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません");
+        }
+
+        List<AttendanceRecord> records =
+                attendanceRecordDao.findByEmployeeIdAndMonth(employeeId, month);
+
+        // 勤務時間の集計
+        long totalWorkingMinutes =
+                records.stream().mapToLong(AttendanceRecord::getWorkingMinutes).sum();
+
+        int requiredMonthlyHours = employee.get().getRequiredMonthlyHours();
+        long requiredMinutes = requiredMonthlyHours * 60L;
+        long differenceMinutes = totalWorkingMinutes - requiredMinutes;
+
+        return new WorkingHoursSummary(employeeId, month, totalWorkingMinutes, requiredMinutes,
+                differenceMinutes, records.size());
+    }
+
+    /**
+     * カラムナ形式の月次勤務記録
+     *
+     * 行ごとにキーを繰り返さず、項目ごとの並列配列で返す。日付は日（1-31）、打刻時刻は記録日の
+     * 0時からの経過分、ステータスはstatusCodesのインデックスで表す。
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ColumnarMonthlyRecords {
+        private static final List<String> STATUS_CODES =
+                Arrays.stream(AttendanceStatus.values()).map(Enum::name).toList();
+
+        private final String month;
+        private final Long employeeId;
+        private final int count;
+        private final long[] ids;
+        private final long[] employeeIds;
+        private final int[] days;
+        private final Integer[] clockIn;
+        private final Integer[] clockOut;
+        private final long[] workingMinutes;
+        private final int[] status;
+
+        private ColumnarMonthlyRecords(String month, Long employeeId, int count, long[] ids,
+                long[] employeeIds, int[] days, Integer[] clockIn, Integer[] clockOut,
+                long[] workingMinutes, int[] status) {
+            this.month = month;
+            this.employeeId = employeeId;
+            this.count = count;
+            this.ids = ids;
+            this.employeeIds = employeeIds;
+            this.days = days;
+            this.clockIn = clockIn;
+            this.clockOut = clockOut;
+            this.workingMinutes = workingMinutes;
+            this.status = status;
+        }
+
+        /**
+         * 勤怠記録一覧から作成（employeeId指定時は従業員IDの配列を省略）
+         */
+        public static ColumnarMonthlyRecords of(YearMonth month, Long employeeId,
+                List<AttendanceRecord> records) {
+            int count = records.size();
+            long[] ids = new long[count];
+            long[] employeeIds = employeeId == null ? new long[count] : null;
+            int[] days = new int[count];
+            Integer[] clockIn = new Integer[count];
+            Integer[] clockOut = new Integer[count];
+            long[] workingMinutes = new long[count];
+            int[] status = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                AttendanceRecord record = records.get(i);
+                LocalDateTime startOfDay = record.getDate().atStartOfDay();
+                ids[i] = record.getId();
+                if (employeeIds != null) {
+                    employeeIds[i] = record.getEmployeeId();
+                }
+                days[i] = record.getDate().getDayOfMonth();
+                clockIn[i] = minutesFrom(startOfDay, record.getClockInTime());
+                clockOut[i] = minutesFrom(startOfDay, record.getClockOutTime());
+                workingMinutes[i] =
+                        record.getWorkingMinutes() != null ? record.getWorkingMinutes() : 0L;
+                status[i] = record.getStatus().ordinal();
+            }
+
+            return new ColumnarMonthlyRecords(month.toString(), employeeId, count, ids,
+                    employeeIds, days, clockIn, clockOut, workingMinutes, status);
+        }
+
+        // 日を跨いだ退勤は1440分以上となる
+        private static Integer minutesFrom(LocalDateTime startOfDay, LocalDateTime time) {
+            return time != null ? (int) ChronoUnit.MINUTES.between(startOfDay, time) : null;
+        }
+
+        // Getters
+        public String getFormat() {
+            return "columnar";
+        }
+
+        public String getMonth() {
+            return month;
+        }
+
+        public Long getEmployeeId() {
+            return employeeId;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public List<String> getStatusCodes() {
+            return STATUS_CODES;
+        }
+
+        public long[] getIds() {
+            return ids;
+        }
+
+        public long[] getEmployeeIds() {
+            return employeeIds;
+        }
+
+        public int[] getDays() {
+            return days;
+        }
+
+        public Integer[] getClockIn() {
+            return clockIn;
+        }
+
+        public Integer[] getClockOut() {
+            return clockOut;
+        }
+
+        public long[] getWorkingMinutes() {
+            return workingMinutes;
+        }
+
+        public int[] getStatus() {
+            return status;
+        }
+    }
+
+    /**
+     * 勤務時間サマリークラス
+     */
+    public static class WorkingHoursSummary {
+        private final Long employeeId;
+        private final YearMonth month;
+        private final long totalWorkingMinutes;
+        private final long requiredMinutes;
+        private final long differenceMinutes;
+        private final int workingDays;
+
+        public WorkingHoursSummary(Long employeeId, YearMonth month, long totalWorkingMinutes,
+                long requiredMinutes, long differenceMinutes, int workingDays) {
+            this.employeeId = employeeId;
+            this.month = month;
+            this.totalWorkingMinutes = totalWorkingMinutes;
+            this.requiredMinutes = requiredMinutes;
+            this.differenceMinutes = differenceMinutes;
+            this.workingDays = workingDays;
+        }
+
+        // Getters
+        public Long getEmployeeId() {
+            return employeeId;
+        }
+
+        public YearMonth getMonth() {
+            return month;
+        }
+
+        public long getTotalWorkingMinutes() {
+            return totalWorkingMinutes;
+        }
+
+        public long getRequiredMinutes() {
+            return requiredMinutes;
+        }
+
+        public long getDifferenceMinutes() {
+            return differenceMinutes;
+        }
+
+        public int getWorkingDays() {
+            return workingDays;
+        }
+
+        // 時間単位での取得
+        public double getTotalWorkingHours() {
+            return totalWorkingMinutes / 60.0;
+        }
+
+        public double getRequiredHours() {
+            return requiredMinutes / 60.0;
+        }
+
+        public double getDifferenceHours() {
+            return differenceMinutes / 60.0;
+        }
+
+        // 過不足判定
+        public boolean isOvertime() {
+            return differenceMinutes > 0;
+        }
+
+        public boolean isUndertime() {
+            return differenceMinutes < 0;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package kiro.attendance.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * データベース接続の提供元
+ *
+ * DAOはSQLの実行時に接続を取得する。接続の解放は提供元の所有者が行う
+ */
+@FunctionalInterface
+public interface ConnectionProvider {
+
+    /**
+     * データベース接続を取得
+     */
+    Connection getConnection() throws SQLException;
+}
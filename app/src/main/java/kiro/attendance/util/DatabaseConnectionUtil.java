@@ -1,34 +1,77 @@
-package kiro.attendance.util;
-
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
-
-/**
- * データベース接続ユーティリティ
- */
-public class DatabaseConnectionUtil {
-
-    private static final String DB_URL = System.getenv("DB_URL");
-    private static final String DB_USERNAME = System.getenv("DB_USERNAME");
-    private static final String DB_PASSWORD = System.getenv("DB_PASSWORD");
-
-    static {
-        try {
-            Class.forName("org.postgresql.Driver");
-        } catch (ClassNotFoundException e) {
-            throw new RuntimeException("PostgreSQL driver not found", e);
-        }
-    }
-
-    /**
-     * データベース接続を取得
-     */
-    public static Connection getConnection() throws SQLException {
-        if (DB_URL == null || DB_USERNAME == null || DB_PASSWORD == null) {
-            throw new SQLException("Database connection parameters not configured");
-        }
-
-        return DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
-    }
-}
+package kiro.attendance.util;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * データベース接続ユーティリティ
+ */
+public class DatabaseConnectionUtil {
+
+    private static final String DB_URL = System.getenv("DB_URL");
+    private static final String DB_USERNAME = System.getenv("DB_USERNAME");
+    private static final String DB_PASSWORD = System.getenv("DB_PASSWORD");
+    private static final String DB_REPLICA_URL = System.getenv("DB_REPLICA_URL");
+    private static final String DB_REPLICA_MAX_STALENESS_SECONDS =
+            System.getenv("DB_REPLICA_MAX_STALENESS_SECONDS");
+
+    /**
+     * レプリカの遅延上限のデフォルト
+     */
+    private static final Duration DEFAULT_REPLICA_MAX_STALENESS = Duration.ofSeconds(30);
+
+    static {
+        try {
+            Class.forName("org.postgresql.Driver");
+        } catch (ClassNotFoundException e) {
+            throw new RuntimeException("PostgreSQL driver not found", e);
+        }
+    }
+
+    /**
+     * データベース接続を取得
+     */
+    public static Connection getConnection() throws SQLException {
+        if (DB_URL == null || DB_USERNAME == null || DB_PASSWORD == null) {
+            throw new SQLException("Database connection parameters not configured");
+        }
+
+        return DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+    }
+
+    /**
+     * 読み取り用レプリカが設定されているかどうか
+     */
+    public static boolean isReplicaConfigured() {
+        return DB_REPLICA_URL != null && !DB_REPLICA_URL.isEmpty();
+    }
+
+    /**
+     * 読み取り用レプリカの接続を取得（認証情報はプライマリと共通）
+     */
+    public static Connection getReplicaConnection() throws SQLException {
+        if (!isReplicaConfigured() || DB_USERNAME == null || DB_PASSWORD == null) {
+            throw new SQLException("Replica connection parameters not configured");
+        }
+
+        Connection connection = DriverManager.getConnection(DB_REPLICA_URL, DB_USERNAME, DB_PASSWORD);
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    /**
+     * レプリカに振り分ける遅延の上限
+     */
+    public static Duration getReplicaMaxStaleness() {
+        if (DB_REPLICA_MAX_STALENESS_SECONDS == null) {
+            return DEFAULT_REPLICA_MAX_STALENESS;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(DB_REPLICA_MAX_STALENESS_SECONDS));
+        } catch (NumberFormatException e) {
+            return DEFAULT_REPLICA_MAX_STALENESS;
+        }
+    }
+}
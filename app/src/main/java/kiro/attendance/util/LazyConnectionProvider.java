@@ -0,0 +1,50 @@
+package kiro.attendance.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 最初の取得時に接続を開く接続提供元（リクエスト単位）
+ *
+ * 権限エラーや入力エラー、不正なルートなどデータベースに触れないリクエストでは接続を開かない。
+ * ハンドラでtry-with-resourcesにより生成し、リクエストの終了時に開いた接続のみを閉じる
+ */
+public class LazyConnectionProvider implements ConnectionProvider, AutoCloseable {
+
+    private final ConnectionProvider delegate;
+    private Connection connection;
+
+    public LazyConnectionProvider() {
+        this(DatabaseConnectionUtil::getConnection);
+    }
+
+    public LazyConnectionProvider(ConnectionProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = delegate.getConnection();
+        }
+        return connection;
+    }
+
+    /**
+     * 接続を開いたかどうか
+     */
+    public boolean isOpened() {
+        return connection != null;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (connection != null) {
+            try {
+                connection.close();
+            } finally {
+                connection = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package kiro.attendance.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * キーセットページング用カーソルユーティリティ
+ *
+ * カーソルは最終行のキー値を区切り文字で連結し、URLセーフなBase64でエンコードした不透明な文字列
+ */
+public class PageCursorUtil {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * キー値からカーソルを作成
+     */
+    public static String encode(String... keys) {
+        String raw = String.join(SEPARATOR, keys);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * カーソルをキー値に分解
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + SEPARATOR, -1);
+            if (keys.length != expectedKeys) {
+                throw invalidCursor();
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    /**
+     * 不正なカーソルの例外を作成
+     */
+    public static AttendanceException invalidCursor() {
+        return new AttendanceException(ErrorCode.INVALID_REQUEST_PARAMETER, "無効なページカーソルです");
+    }
+}
@@ -0,0 +1,37 @@
+package kiro.attendance.util;
+
+import java.util.function.Supplier;
+
+/**
+ * 読み取り専用の意図をサービスから接続の提供元に伝えるAPI
+ *
+ * readOnlyの中で実行したSQLはレプリカに振り分けられる場合がある。レプリカは遅延するため、
+ * 更新直後の結果を読む必要がある処理はreadOnlyの外、またはreadOnlyForで実行すること
+ */
+public interface ReadRouting {
+
+    /**
+     * 常にプライマリで実行する振り分け（レプリカ未構成時・テスト用）
+     */
+    ReadRouting PRIMARY_ONLY = new ReadRouting() {
+        @Override
+        public <T> T readOnly(Supplier<T> action) {
+            return action.get();
+        }
+
+        @Override
+        public <T> T readOnlyFor(Long employeeId, Supplier<T> action) {
+            return action.get();
+        }
+    };
+
+    /**
+     * 集計・一覧など、遅延を許容する読み取りとして実行
+     */
+    <T> T readOnly(Supplier<T> action);
+
+    /**
+     * 特定従業員の記録の読み取りとして実行（呼び出し元本人の記録は自分の打刻を読めるようプライマリで実行）
+     */
+    <T> T readOnlyFor(Long employeeId, Supplier<T> action);
+}
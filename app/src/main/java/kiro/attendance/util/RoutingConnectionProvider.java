@@ -0,0 +1,127 @@
+package kiro.attendance.util;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * プライマリとレプリカを振り分ける接続提供元（リクエスト単位）
+ *
+ * readOnlyの中で実行したSQLのみレプリカに振り分ける。レプリカの遅延はリクエスト内で最初に
+ * 振り分ける時に1回だけ確認し、上限を超えている場合や確認できない場合はプライマリを使う。
+ * 呼び出し元本人の記録の読み取りは、直前の打刻を確実に読めるよう常にプライマリを使う
+ */
+public class RoutingConnectionProvider implements ConnectionProvider, ReadRouting, AutoCloseable {
+
+    /**
+     * レプリカの状態（リカバリ中か、受信済みのWALをすべて適用済みか、最後に適用したトランザクションからの経過ミリ秒）
+     *
+     * 経過時間はプライマリに更新がない間も増え続けるため、適用が追いついていない場合のみ遅延として扱う
+     */
+    private static final String REPLICATION_LAG_SQL = "SELECT pg_is_in_recovery(), "
+            + "pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn(), "
+            + "EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000";
+
+    private final LazyConnectionProvider primary;
+    private final LazyConnectionProvider replica;
+    private final Duration maxStaleness;
+    private final Long callerEmployeeId;
+    private int readOnlyDepth;
+    private Boolean replicaUsable;
+
+    public RoutingConnectionProvider(ConnectionProvider primary, ConnectionProvider replica,
+            Duration maxStaleness, Long callerEmployeeId) {
+        this.primary = new LazyConnectionProvider(primary);
+        this.replica = replica != null ? new LazyConnectionProvider(replica) : null;
+        this.maxStaleness = maxStaleness;
+        this.callerEmployeeId = callerEmployeeId;
+    }
+
+    /**
+     * 環境変数の設定で作成（レプリカ未設定の場合は常にプライマリ）
+     */
+    public static RoutingConnectionProvider forCaller(Long callerEmployeeId) {
+        return new RoutingConnectionProvider(DatabaseConnectionUtil::getConnection,
+                DatabaseConnectionUtil.isReplicaConfigured()
+                        ? DatabaseConnectionUtil::getReplicaConnection : null,
+                DatabaseConnectionUtil.getReplicaMaxStaleness(), callerEmployeeId);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (readOnlyDepth > 0 && isReplicaUsable()) {
+            return replica.getConnection();
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public <T> T readOnly(Supplier<T> action) {
+        if (replica == null) {
+            return action.get();
+        }
+        readOnlyDepth++;
+        try {
+            return action.get();
+        } finally {
+            readOnlyDepth--;
+        }
+    }
+
+    @Override
+    public <T> T readOnlyFor(Long employeeId, Supplier<T> action) {
+        if (Objects.equals(employeeId, callerEmployeeId)) {
+            return action.get();
+        }
+        return readOnly(action);
+    }
+
+    /**
+     * レプリカに振り分けたかどうか
+     */
+    public boolean isReplicaOpened() {
+        return replica != null && replica.isOpened();
+    }
+
+    private boolean isReplicaUsable() {
+        if (replicaUsable == null) {
+            replicaUsable = checkReplicationLag();
+        }
+        return replicaUsable;
+    }
+
+    private boolean checkReplicationLag() {
+        try (Statement stmt = replica.getConnection().createStatement();
+                ResultSet rs = stmt.executeQuery(REPLICATION_LAG_SQL)) {
+            if (!rs.next()) {
+                return false;
+            }
+            // プライマリに昇格した場合と、受信済みのWALをすべて適用済みの場合は遅延なし
+            boolean inRecovery = rs.getBoolean(1);
+            boolean caughtUp = rs.getBoolean(2);
+            if (!inRecovery || caughtUp) {
+                return true;
+            }
+            double lagMillis = rs.getDouble(3);
+            return !rs.wasNull() && lagMillis <= maxStaleness.toMillis();
+        } catch (SQLException e) {
+            // レプリカに接続できない場合はプライマリで処理を続ける
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            primary.close();
+        } finally {
+            if (replica != null) {
+                replica.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package kiro.attendance.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * トランザクションユーティリティ
+ */
+public class TransactionUtil {
+
+    /**
+     * 処理を1トランザクションで実行（例外発生時はロールバック）
+     */
+    public static <T> T executeInTransaction(Connection connection, Supplier<T> action) {
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                T result = action.get();
+                connection.commit();
+                return result;
+            } catch (RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new AttendanceException(ErrorCode.DATABASE_CONNECTION_ERROR,
+                    "トランザクションの処理に失敗しました", e);
+        }
+    }
+}
@@ -1,3 +1,3 @@
-SELECT COUNT(*) 
-FROM attendance_records 
+SELECT COUNT(*) 
+FROM attendance_records 
 WHERE employee_id = /* employeeId */1
\ No newline at end of file
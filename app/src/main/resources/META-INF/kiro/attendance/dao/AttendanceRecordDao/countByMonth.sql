@@ -1,4 +1,4 @@
-SELECT COUNT(*) 
-FROM attendance_records 
-WHERE date >= /* yearMonth.atDay(1) */'2024-01-01'
+SELECT COUNT(*) 
+FROM attendance_records 
+WHERE date >= /* yearMonth.atDay(1) */'2024-01-01'
   AND date <= /* yearMonth.atEndOfMonth() */'2024-01-31'
\ No newline at end of file
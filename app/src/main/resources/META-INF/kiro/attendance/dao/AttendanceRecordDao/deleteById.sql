@@ -1,2 +1,2 @@
-DELETE FROM attendance_records 
+DELETE FROM attendance_records 
 WHERE id = /* id */1
\ No newline at end of file
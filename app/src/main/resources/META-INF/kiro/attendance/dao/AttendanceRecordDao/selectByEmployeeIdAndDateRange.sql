@@ -1,15 +1,15 @@
-SELECT 
-    id,
-    employee_id,
-    date,
-    clock_in_time,
-    clock_out_time,
-    working_minutes,
-    status,
-    created_at,
-    updated_at
-FROM attendance_records 
-WHERE employee_id = /* employeeId */1
-  AND date >= /* startDate */'2024-01-01'
-  AND date <= /* endDate */'2024-01-31'
+SELECT 
+    id,
+    employee_id,
+    date,
+    clock_in_time,
+    clock_out_time,
+    working_minutes,
+    status,
+    created_at,
+    updated_at
+FROM attendance_records 
+WHERE employee_id = /* employeeId */1
+  AND date >= /* startDate */'2024-01-01'
+  AND date <= /* endDate */'2024-01-31'
 ORDER BY date
\ No newline at end of file
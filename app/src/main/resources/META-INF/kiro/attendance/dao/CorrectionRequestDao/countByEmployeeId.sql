@@ -1,3 +1,3 @@
-SELECT COUNT(*) 
-FROM correction_requests 
+SELECT COUNT(*) 
+FROM correction_requests 
 WHERE employee_id = /* employeeId */1
\ No newline at end of file
@@ -1,3 +1,3 @@
-SELECT COUNT(*) 
-FROM correction_requests 
+SELECT COUNT(*) 
+FROM correction_requests 
 WHERE status = 'PENDING'
\ No newline at end of file
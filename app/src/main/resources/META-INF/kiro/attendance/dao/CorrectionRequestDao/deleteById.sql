@@ -1,2 +1,2 @@
-DELETE FROM correction_requests 
+DELETE FROM correction_requests 
 WHERE id = /* id */1
\ No newline at end of file
@@ -1,16 +1,17 @@
-SELECT 
-    id,
-    employee_id,
-    original_record_id,
-    requested_clock_in,
-    requested_clock_out,
-    reason,
-    status,
-    request_date,
-    processed_date,
-    created_at,
-    updated_at
-FROM correction_requests 
-WHERE employee_id = /* employeeId */1
-  AND status = /* status */'PENDING'
+SELECT 
+    id,
+    employee_id,
+    original_record_id,
+    requested_clock_in,
+    requested_clock_out,
+    reason,
+    status,
+    request_date,
+    processed_date,
+    created_at,
+    updated_at,
+    original_record_date
+FROM correction_requests 
+WHERE employee_id = /* employeeId */1
+  AND status = /* status */'PENDING'
 ORDER BY request_date DESC
\ No newline at end of file
@@ -1,2 +1,2 @@
-SELECT COUNT(*) 
+SELECT COUNT(*) 
 FROM employees
\ No newline at end of file
@@ -1,3 +1,3 @@
-SELECT COUNT(*) 
-FROM employees 
+SELECT COUNT(*) 
+FROM employees 
 WHERE role = /* role */'EMPLOYEE'
\ No newline at end of file
@@ -1,2 +1,2 @@
-DELETE FROM employees 
+DELETE FROM employees 
 WHERE id = /* id */1
\ No newline at end of file
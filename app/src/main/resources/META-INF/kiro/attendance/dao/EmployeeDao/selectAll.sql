@@ -1,10 +1,10 @@
-SELECT 
-    id,
-    name,
-    employee_number,
-    required_monthly_hours,
-    role,
-    created_at,
-    updated_at
-FROM employees 
+SELECT 
+    id,
+    name,
+    employee_number,
+    required_monthly_hours,
+    role,
+    created_at,
+    updated_at
+FROM employees 
 ORDER BY employee_number
\ No newline at end of file
@@ -1,10 +1,10 @@
-SELECT 
-    id,
-    name,
-    employee_number,
-    required_monthly_hours,
-    role,
-    created_at,
-    updated_at
-FROM employees 
+SELECT 
+    id,
+    name,
+    employee_number,
+    required_monthly_hours,
+    role,
+    created_at,
+    updated_at
+FROM employees 
 WHERE id = /* id */1
\ No newline at end of file
@@ -1,11 +1,11 @@
-SELECT 
-    id,
-    name,
-    employee_number,
-    required_monthly_hours,
-    role,
-    created_at,
-    updated_at
-FROM employees 
-WHERE role = /* role */'EMPLOYEE'
+SELECT 
+    id,
+    name,
+    employee_number,
+    required_monthly_hours,
+    role,
+    created_at,
+    updated_at
+FROM employees 
+WHERE role = /* role */'EMPLOYEE'
 ORDER BY employee_number
\ No newline at end of file
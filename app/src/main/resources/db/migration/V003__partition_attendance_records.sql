@@ -0,0 +1,135 @@
+-- attendance_records の月別レンジパーティション化
+-- V003__partition_attendance_records.sql
+--
+-- date による月単位のレンジパーティションに移行する。月指定の検索とVACUUMの対象は該当月の
+-- パーティションのみとなる。パーティションの主キー・一意制約にはパーティションキーが必要なため、
+-- 主キーは (id, date) とし、correction_requests からの参照は (original_record_id, original_record_date)
+-- の複合外部キーとする。
+
+-- 月別パーティション作成関数（作成済みの場合は何もしない）
+CREATE OR REPLACE FUNCTION create_attendance_records_partition(p_month DATE)
+RETURNS VOID AS $$
+DECLARE
+    v_start DATE := date_trunc('month', p_month)::DATE;
+    v_end DATE := (date_trunc('month', p_month) + INTERVAL '1 month')::DATE;
+    v_name TEXT := 'attendance_records_' || to_char(p_month, 'YYYYMM');
+BEGIN
+    IF to_regclass(v_name) IS NOT NULL THEN
+        RETURN;
+    END IF;
+
+    -- デフォルトパーティションに該当月の行がある場合は作成できないため、手動移行に任せる
+    IF EXISTS (SELECT 1 FROM attendance_records_default WHERE date >= v_start AND date < v_end) THEN
+        RAISE WARNING 'attendance_records_default has rows for %, partition % not created', v_start, v_name;
+        RETURN;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF attendance_records FOR VALUES FROM (%L) TO (%L)',
+                   v_name, v_start, v_end);
+END;
+$$ language 'plpgsql';
+
+-- 指定月から指定月数先までのパーティションを作成（アプリケーションから月に1回呼び出される）
+CREATE OR REPLACE FUNCTION ensure_attendance_records_partitions(p_from DATE, p_months_ahead INTEGER)
+RETURNS VOID AS $$
+BEGIN
+    FOR i IN 0..p_months_ahead LOOP
+        PERFORM create_attendance_records_partition(
+            (date_trunc('month', p_from) + make_interval(months => i))::DATE);
+    END LOOP;
+END;
+$$ language 'plpgsql';
+
+-- 既存テーブルを退避（インデックス名を新テーブルで再利用するため先に削除）
+ALTER TABLE correction_requests DROP CONSTRAINT correction_requests_original_record_id_fkey;
+DROP INDEX idx_attendance_records_employee_id;
+DROP INDEX idx_attendance_records_date;
+DROP INDEX idx_attendance_records_employee_date;
+DROP INDEX idx_attendance_records_status;
+DROP TRIGGER update_attendance_records_updated_at ON attendance_records;
+ALTER TABLE attendance_records RENAME TO attendance_records_old;
+ALTER TABLE attendance_records_old RENAME CONSTRAINT attendance_records_pkey TO attendance_records_old_pkey;
+ALTER TABLE attendance_records_old
+    RENAME CONSTRAINT attendance_records_employee_id_date_key TO attendance_records_old_employee_id_date_key;
+
+-- パーティション化した attendance_records テーブル
+CREATE TABLE attendance_records (
+    id BIGINT NOT NULL DEFAULT nextval('attendance_records_id_seq'),
+    employee_id BIGINT NOT NULL REFERENCES employees(id) ON DELETE CASCADE,
+    date DATE NOT NULL,
+    clock_in_time TIMESTAMP,
+    clock_out_time TIMESTAMP,
+    working_minutes BIGINT DEFAULT 0,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PRESENT', 'ABSENT', 'PARTIAL')),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (id, date),
+    UNIQUE (employee_id, date)
+) PARTITION BY RANGE (date);
+
+-- 範囲外の日付を受けるデフォルトパーティション
+CREATE TABLE attendance_records_default PARTITION OF attendance_records DEFAULT;
+
+-- 既存データの範囲と12か月先までのパーティションを作成
+DO $$
+DECLARE
+    v_first DATE := COALESCE((SELECT MIN(date) FROM attendance_records_old), CURRENT_DATE);
+    v_months INTEGER := ((EXTRACT(YEAR FROM CURRENT_DATE) - EXTRACT(YEAR FROM v_first)) * 12
+                         + EXTRACT(MONTH FROM CURRENT_DATE) - EXTRACT(MONTH FROM v_first))::INTEGER;
+BEGIN
+    PERFORM ensure_attendance_records_partitions(v_first, v_months + 12);
+END;
+$$;
+
+INSERT INTO attendance_records (id, employee_id, date, clock_in_time, clock_out_time, working_minutes,
+                                status, created_at, updated_at)
+SELECT id, employee_id, date, clock_in_time, clock_out_time, working_minutes, status, created_at, updated_at
+FROM attendance_records_old;
+
+ALTER SEQUENCE attendance_records_id_seq OWNED BY attendance_records.id;
+
+-- attendance_records テーブルのインデックス（各パーティションに作成される）
+CREATE INDEX idx_attendance_records_employee_id ON attendance_records(employee_id);
+CREATE INDEX idx_attendance_records_date ON attendance_records(date);
+CREATE INDEX idx_attendance_records_employee_date ON attendance_records(employee_id, date);
+CREATE INDEX idx_attendance_records_status ON attendance_records(status);
+
+CREATE TRIGGER update_attendance_records_updated_at
+    BEFORE UPDATE ON attendance_records
+    FOR EACH ROW EXECUTE FUNCTION update_updated_at_column();
+
+-- correction_requests から元記録を (id, date) で参照する
+ALTER TABLE correction_requests ADD COLUMN original_record_date DATE;
+
+ALTER TABLE correction_requests DISABLE TRIGGER update_correction_requests_updated_at;
+UPDATE correction_requests c
+SET original_record_date = r.date
+FROM attendance_records r
+WHERE r.id = c.original_record_id;
+ALTER TABLE correction_requests ENABLE TRIGGER update_correction_requests_updated_at;
+
+ALTER TABLE correction_requests ALTER COLUMN original_record_date SET NOT NULL;
+
+ALTER TABLE correction_requests
+    ADD CONSTRAINT correction_requests_original_record_fkey
+    FOREIGN KEY (original_record_id, original_record_date)
+    REFERENCES attendance_records(id, date) ON DELETE CASCADE;
+
+-- 申請登録時に元記録の日付を補完するトリガー関数
+CREATE OR REPLACE FUNCTION fill_correction_original_record_date()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF NEW.original_record_date IS NULL THEN
+        SELECT date INTO NEW.original_record_date
+        FROM attendance_records
+        WHERE id = NEW.original_record_id;
+    END IF;
+    RETURN NEW;
+END;
+$$ language 'plpgsql';
+
+CREATE TRIGGER fill_correction_requests_original_record_date
+    BEFORE INSERT ON correction_requests
+    FOR EACH ROW EXECUTE FUNCTION fill_correction_original_record_date();
+
+DROP TABLE attendance_records_old;
@@ -0,0 +1,24 @@
+-- attendance_records のカバリングインデックス化と冗長インデックスの削除
+-- V004__covering_indexes.sql
+--
+-- 月別集計・在席確認のクエリが読む列をインデックスに含め、テーブルを読まずに（Index Only Scan）
+-- 処理できるようにする。一意制約と重複するインデックス、DAOが条件に使わない status の
+-- インデックスは削除し、打刻ごとに更新するインデックスの数を減らす。
+
+-- 一意制約 (employee_id, date) と先頭列が重複するため削除
+DROP INDEX idx_attendance_records_employee_id;
+DROP INDEX idx_attendance_records_employee_date;
+
+-- 選択性が低く、status のみを条件とするクエリもないため削除
+DROP INDEX idx_attendance_records_status;
+
+-- 従業員別の月次クエリ用: 一意制約に集計対象の列を含める
+ALTER TABLE attendance_records DROP CONSTRAINT attendance_records_employee_id_date_key;
+ALTER TABLE attendance_records
+    ADD CONSTRAINT attendance_records_employee_id_date_key
+    UNIQUE (employee_id, date) INCLUDE (working_minutes, clock_in_time, clock_out_time);
+
+-- 日付・月単位の全従業員クエリ用（従業員別集計、在席確認）
+DROP INDEX idx_attendance_records_date;
+CREATE INDEX idx_attendance_records_date_covering
+    ON attendance_records(date, employee_id) INCLUDE (working_minutes, clock_in_time, clock_out_time);
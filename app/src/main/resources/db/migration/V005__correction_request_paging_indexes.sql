@@ -0,0 +1,20 @@
+-- correction_requests のキーセットページング用インデックス
+-- V005__correction_request_paging_indexes.sql
+--
+-- 修正申請の一覧は (request_date, id) のキーセットでページングする。承認済み・却下済みの履歴が
+-- 増えても1ページ分のインデックス範囲だけを読めるよう、絞り込み列に続けて (request_date, id) を
+-- 持つインデックスを作成する。先頭列が重複する単一列のインデックスは削除する。
+
+-- 管理者の承認待ちキュー用: 承認待ちの行のみを持つため、履歴の件数に関係なく小さいまま保たれる
+CREATE INDEX idx_correction_requests_pending
+    ON correction_requests(request_date, id) WHERE status = 'PENDING';
+
+-- ステータス別の履歴用（status のみの検索もこのインデックスで処理できる）
+DROP INDEX idx_correction_requests_status;
+CREATE INDEX idx_correction_requests_status_request_date
+    ON correction_requests(status, request_date, id);
+
+-- 従業員別の申請一覧用（外部キーの参照もこのインデックスで処理できる）
+DROP INDEX idx_correction_requests_employee_id;
+CREATE INDEX idx_correction_requests_employee_request_date
+    ON correction_requests(employee_id, request_date, id);
@@ -0,0 +1,129 @@
+package com.attendance.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingLambdaHandlerTest {
+
+    private static final String EVENT = "{\"resource\":\"/api/export/{id}\","
+            + "\"path\":\"/api/export/1\",\"httpMethod\":\"GET\","
+            + "\"headers\":{\"authorization\":\"Bearer token-123\",\"Host\":\"example.com\"},"
+            + "\"multiValueHeaders\":{\"Host\":[\"example.com\"]},"
+            + "\"queryStringParameters\":{\"month\":\"2024-01\"},"
+            + "\"pathParameters\":{\"id\":\"1\"},"
+            + "\"requestContext\":{\"authorizer\":{\"claims\":{\"sub\":\"user-123\"}}},"
+            + "\"body\":null,\"isBase64Encoded\":false}";
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private LambdaLogger logger;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(context.getLogger()).thenReturn(logger);
+    }
+
+    @Test
+    void testParseRequest_ReadsOnlyUsedFields() throws Exception {
+        // When
+        StreamingLambdaHandler.StreamingRequest request = StreamingLambdaHandler
+                .parseRequest(new ByteArrayInputStream(EVENT.getBytes(StandardCharsets.UTF_8)));
+
+        // Then
+        assertThat(request.getHttpMethod()).isEqualTo("GET");
+        assertThat(request.getPath()).isEqualTo("/api/export/1");
+        assertThat(request.getPathParameter("id")).isEqualTo("1");
+        assertThat(request.getQueryParameter("month")).isEqualTo("2024-01");
+        assertThat(request.getAuthorization()).isEqualTo("Bearer token-123");
+        assertThat(request.getBody()).isNull();
+        assertThat(request.toProxyEvent().getHeaders())
+                .containsEntry("Authorization", "Bearer token-123");
+    }
+
+    @Test
+    void testHandleRequest_StreamsBodyIntoEnvelope() throws Exception {
+        // Given
+        StreamingLambdaHandler handler = new StreamingLambdaHandler() {
+            @Override
+            protected void processRequest(StreamingRequest request, StreamingResponse response,
+                    Context context) throws Exception {
+                Writer body = response.openBody(200, Map.of("Content-Type", "text/csv"));
+                body.write("id,name\r\n");
+                body.write("1,\"a\"\r\n");
+            }
+        };
+
+        // When
+        JsonNode response = invoke(handler);
+
+        // Then
+        assertThat(response.get("statusCode").asInt()).isEqualTo(200);
+        assertThat(response.get("headers").get("Content-Type").asText()).isEqualTo("text/csv");
+        assertThat(response.get("body").asText()).isEqualTo("id,name\r\n1,\"a\"\r\n");
+    }
+
+    @Test
+    void testHandleRequest_ErrorBeforeCommit_WritesErrorResponse() throws Exception {
+        // Given
+        StreamingLambdaHandler handler = new StreamingLambdaHandler() {
+            @Override
+            protected void processRequest(StreamingRequest request, StreamingResponse response,
+                    Context context) throws Exception {
+                throw new IllegalArgumentException("bad request");
+            }
+        };
+
+        // When
+        JsonNode response = invoke(handler);
+
+        // Then
+        assertThat(response.get("statusCode").asInt()).isEqualTo(500);
+        assertThat(objectMapper.readTree(response.get("body").asText()).get("message").asText())
+                .isEqualTo("bad request");
+    }
+
+    @Test
+    void testHandleRequest_ErrorAfterCommit_FailsInvocation() {
+        // Given
+        StreamingLambdaHandler handler = new StreamingLambdaHandler() {
+            @Override
+            protected void processRequest(StreamingRequest request, StreamingResponse response,
+                    Context context) throws Exception {
+                response.openBody(200, Map.of()).write("partial");
+                throw new IllegalStateException("cursor closed");
+            }
+        };
+
+        // When & Then
+        assertThatThrownBy(() -> invoke(handler)).isInstanceOf(IOException.class)
+                .hasRootCauseMessage("cursor closed");
+    }
+
+    private JsonNode invoke(StreamingLambdaHandler handler) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        handler.handleRequest(new ByteArrayInputStream(EVENT.getBytes(StandardCharsets.UTF_8)),
+                output, context);
+        return objectMapper.readTree(output.toByteArray());
+    }
+}
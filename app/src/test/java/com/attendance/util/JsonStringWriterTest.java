@@ -0,0 +1,37 @@
+package com.attendance.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class JsonStringWriterTest {
+
+    @Test
+    void testWrite_EscapesControlCharactersAndQuotes() throws Exception {
+        // Given
+        StringWriter out = new StringWriter();
+
+        // When
+        try (JsonStringWriter writer = new JsonStringWriter(out)) {
+            writer.write("a,\"b\"\r\nc\\d\u0001");
+        }
+
+        // Then
+        assertThat(out.toString()).isEqualTo("a,\\\"b\\\"\\r\\nc\\\\d\\u0001");
+    }
+
+    @Test
+    void testWrite_CharArrayRangeIsEscapedLikeString() throws Exception {
+        // Given
+        StringWriter out = new StringWriter();
+        char[] buffer = "xx\"\t\u001fyy".toCharArray();
+
+        // When
+        try (JsonStringWriter writer = new JsonStringWriter(out)) {
+            writer.write(buffer, 2, 3);
+        }
+
+        // Then
+        assertThat(out.toString()).isEqualTo("\\\"\\t\\u001f");
+    }
+}
@@ -1,7 +1,7 @@
-/*
- * This source file was generated by the Gradle 'init' task
- */
-package kiro;
+/*
+ * This source file was generated by the Gradle 'init' task
+ */
+package kiro;
 
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
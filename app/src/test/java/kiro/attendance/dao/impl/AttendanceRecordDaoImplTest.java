@@ -0,0 +1,164 @@
+package kiro.attendance.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import kiro.attendance.dao.AttendanceImportRow;
+import kiro.attendance.dao.AttendanceRecordField;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+
+/**
+ * AttendanceRecordDaoImplのテスト（JDBCはモックで代替）
+ */
+class AttendanceRecordDaoImplTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private AttendanceRecordDaoImpl attendanceRecordDao;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        attendanceRecordDao = new AttendanceRecordDaoImpl(connection);
+    }
+
+    @Test
+    void findById_列を明示して位置で変換する() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        LocalDateTime clockIn = date.atTime(9, 0);
+        LocalDateTime updatedAt = date.atTime(18, 0);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(10L);
+        when(resultSet.getLong(2)).thenReturn(1L);
+        when(resultSet.getObject(3, LocalDate.class)).thenReturn(date);
+        when(resultSet.getObject(4, LocalDateTime.class)).thenReturn(clockIn);
+        when(resultSet.getLong(6)).thenReturn(0L);
+        when(resultSet.getString(7)).thenReturn("PARTIAL");
+        when(resultSet.getObject(8, LocalDateTime.class)).thenReturn(clockIn);
+        when(resultSet.getObject(9, LocalDateTime.class)).thenReturn(updatedAt);
+
+        // When
+        Optional<AttendanceRecord> result = attendanceRecordDao.findById(10L);
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue()).doesNotContain("*").startsWith(
+                "SELECT id, employee_id, date, clock_in_time, clock_out_time, working_minutes, "
+                        + "status, created_at, updated_at FROM");
+
+        assertThat(result).isPresent();
+        AttendanceRecord record = result.get();
+        assertThat(record.getId()).isEqualTo(10L);
+        assertThat(record.getEmployeeId()).isEqualTo(1L);
+        assertThat(record.getDate()).isEqualTo(date);
+        assertThat(record.getClockInTime()).isEqualTo(clockIn);
+        assertThat(record.getClockOutTime()).isNull();
+        assertThat(record.getStatus()).isEqualTo(AttendanceStatus.PARTIAL);
+        assertThat(record.getUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    void findAllByMonth_指定項目は項目セットの順の位置で変換する() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getObject(1, LocalDate.class)).thenReturn(date);
+        when(resultSet.getLong(2)).thenReturn(480L);
+
+        // When
+        List<AttendanceRecord> records = attendanceRecordDao.findAllByMonth(YearMonth.of(2024, 1),
+                EnumSet.of(AttendanceRecordField.WORKING_MINUTES, AttendanceRecordField.DATE));
+
+        // Then
+        assertThat(records).hasSize(1);
+        assertThat(records.get(0).getDate()).isEqualTo(date);
+        assertThat(records.get(0).getWorkingMinutes()).isEqualTo(480L);
+    }
+
+    @Test
+    void updateAll_パーティションキーの日付を条件に含める() throws Exception {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        AttendanceRecord record = new AttendanceRecord(1L, date, date.atTime(9, 0),
+                date.atTime(18, 0), 540L, AttendanceStatus.PRESENT);
+        record.setId(10L);
+
+        // When
+        attendanceRecordDao.updateAll(List.of(record));
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(connection).prepareStatement(sql.capture());
+        assertThat(sql.getValue()).endsWith("WHERE id = ? AND date = ?");
+        verify(statement).setObject(6, date);
+        verify(statement).executeBatch();
+    }
+
+    @Test
+    void bulkImport_登録前に取り込む月のパーティションを作成する() throws Exception {
+        // Given
+        Statement ddl = mock(Statement.class);
+        PGConnection pgConnection = mock(PGConnection.class);
+        CopyManager copyManager = mock(CopyManager.class);
+        CopyIn copyIn = mock(CopyIn.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(ddl);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        when(resultSet.next()).thenReturn(false);
+        LocalDate date = LocalDate.of(2019, 4, 1);
+
+        // When
+        attendanceRecordDao.bulkImport(List.of(new AttendanceImportRow(1L, 1L, date,
+                date.atTime(9, 0), date.atTime(18, 0))));
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(ddl, atLeastOnce()).execute(sql.capture());
+        assertThat(sql.getAllValues()).anySatisfy(value -> assertThat(value)
+                .contains("create_attendance_records_partition")
+                .contains("FROM attendance_import_staging"));
+        InOrder order = inOrder(copyIn, ddl, connection);
+        order.verify(copyIn).endCopy();
+        order.verify(ddl).execute(contains("create_attendance_records_partition"));
+        order.verify(connection).prepareStatement(contains("INSERT INTO attendance_records"));
+        order.verify(connection).commit();
+    }
+}
@@ -0,0 +1,86 @@
+package kiro.attendance.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * attendance_recordsのカバリングインデックスの実行計画テスト
+ *
+ * マイグレーション適用済みのローカルPostgreSQLが必要なため、TEST_DB_URL（TEST_DB_USERNAME、
+ * TEST_DB_PASSWORD）が設定されている場合のみ実行する
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_DB_URL", matches = ".+")
+class AttendanceRecordIndexPlanTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(System.getenv("TEST_DB_URL"),
+                System.getenv("TEST_DB_USERNAME"), System.getenv("TEST_DB_PASSWORD"));
+        try (Statement stmt = connection.createStatement()) {
+            // Index Only Scanには可視性マップが必要
+            stmt.execute("VACUUM ANALYZE attendance_records");
+            // 少量のデータでもインデックスを使った計画を比較できるようにする
+            stmt.execute("SET enable_seqscan = off");
+            stmt.execute("SET enable_bitmapscan = off");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void 在席従業員ID取得_Index_Only_Scanで処理される() throws Exception {
+        String plan = explain(AttendanceRecordDaoImpl.CLOCKED_IN_EMPLOYEE_IDS_SQL,
+                LocalDate.of(2024, 1, 15));
+
+        assertThat(plan).contains("Index Only Scan").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void 従業員別勤務時間合計_Index_Only_Scanで処理される() throws Exception {
+        YearMonth month = YearMonth.of(2024, 1);
+        String plan = explain(AttendanceRecordDaoImpl.SUM_WORKING_MINUTES_BY_EMPLOYEE_SQL,
+                month.atDay(1), month.plusMonths(1).atDay(1));
+
+        assertThat(plan).contains("Index Only Scan").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void 従業員別月次取得_集計対象の項目のみ_Index_Only_Scanで処理される() throws Exception {
+        YearMonth month = YearMonth.of(2024, 1);
+        String plan = explain("SELECT date, working_minutes, clock_in_time, clock_out_time "
+                + "FROM attendance_records WHERE employee_id = ? AND date >= ? AND date < ? "
+                + "ORDER BY date", 1L, month.atDay(1), month.plusMonths(1).atDay(1));
+
+        assertThat(plan).contains("Index Only Scan").doesNotContain("Seq Scan");
+    }
+
+    private String explain(String sql, Object... parameters) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement stmt = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+}
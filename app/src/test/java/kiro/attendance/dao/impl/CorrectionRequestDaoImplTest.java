@@ -0,0 +1,46 @@
+package kiro.attendance.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+
+/**
+ * CorrectionRequestDaoImplのテスト
+ */
+class CorrectionRequestDaoImplTest {
+
+    @Test
+    void isEmployeeForeignKeyViolation_従業員の外部キー制約違反の場合_true() {
+        // Given
+        SQLException e = serverError("23503", "correction_requests_employee_id_fkey");
+
+        // When / Then
+        assertThat(CorrectionRequestDaoImpl.isEmployeeForeignKeyViolation(e)).isTrue();
+    }
+
+    @Test
+    void isEmployeeForeignKeyViolation_他の外部キー制約違反の場合_false() {
+        // Given
+        SQLException e = serverError("23503", "correction_requests_original_record_fkey");
+
+        // When / Then
+        assertThat(CorrectionRequestDaoImpl.isEmployeeForeignKeyViolation(e)).isFalse();
+    }
+
+    @Test
+    void isEmployeeForeignKeyViolation_メッセージに制約名を含むだけの場合_false() {
+        // Given
+        SQLException e = new SQLException(
+                "violates foreign key constraint \"correction_requests_employee_id_fkey\"", "23503");
+
+        // When / Then
+        assertThat(CorrectionRequestDaoImpl.isEmployeeForeignKeyViolation(e)).isFalse();
+    }
+
+    private static PSQLException serverError(String sqlState, String constraint) {
+        return new PSQLException(new ServerErrorMessage(
+                "SERROR\0C" + sqlState + "\0Mforeign key violation\0n" + constraint + "\0"));
+    }
+}
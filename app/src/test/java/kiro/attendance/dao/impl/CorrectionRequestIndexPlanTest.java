@@ -0,0 +1,95 @@
+package kiro.attendance.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+/**
+ * correction_requestsのキーセットページングの実行計画テスト
+ *
+ * マイグレーション適用済みのローカルPostgreSQLが必要なため、TEST_DB_URL（TEST_DB_USERNAME、
+ * TEST_DB_PASSWORD）が設定されている場合のみ実行する
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_DB_URL", matches = ".+")
+class CorrectionRequestIndexPlanTest {
+
+    private static final LocalDateTime CURSOR_DATE = LocalDateTime.of(2024, 1, 15, 9, 0);
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = DriverManager.getConnection(System.getenv("TEST_DB_URL"),
+                System.getenv("TEST_DB_USERNAME"), System.getenv("TEST_DB_PASSWORD"));
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute("ANALYZE correction_requests");
+            // 少量のデータでもインデックスを使った計画を比較できるようにする
+            stmt.execute("SET enable_seqscan = off");
+            stmt.execute("SET enable_bitmapscan = off");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        connection.close();
+    }
+
+    @Test
+    void 承認待ちキュー_部分インデックスをソートせずに走査する() throws Exception {
+        String plan = explain(CorrectionRequestDaoImpl.pageSql(
+                CorrectionRequestDaoImpl.PENDING_CONDITION, true, true), CURSOR_DATE, 10L, 51);
+
+        assertThat(plan).contains("idx_correction_requests_pending").doesNotContain("Sort");
+    }
+
+    @Test
+    void ステータス別履歴_降順でもソートせずに走査する() throws Exception {
+        String plan = explain(CorrectionRequestDaoImpl.pageSql("status = ?", false, true),
+                "APPROVED", CURSOR_DATE, 10L, 51);
+
+        assertThat(plan).contains("idx_correction_requests_status_request_date")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void 従業員別一覧_降順でもソートせずに走査する() throws Exception {
+        String plan = explain(CorrectionRequestDaoImpl.pageSql("employee_id = ?", false, true),
+                1L, CURSOR_DATE, 10L, 51);
+
+        assertThat(plan).contains("idx_correction_requests_employee_request_date")
+                .doesNotContain("Sort");
+    }
+
+    @Test
+    void 一覧表示_1ページ分の申請のみを勤怠記録と従業員に結合する() throws Exception {
+        String plan = explain(CorrectionRequestDaoImpl.viewSql(
+                CorrectionRequestDaoImpl.PageQuery.pending(CURSOR_DATE, 10L, 51)),
+                CURSOR_DATE, 10L, 51);
+
+        assertThat(plan).contains("idx_correction_requests_pending").contains("Nested Loop")
+                .doesNotContain("Sort");
+    }
+
+    private String explain(String sql, Object... parameters) throws Exception {
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement stmt = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                stmt.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+            }
+        }
+        return plan.toString();
+    }
+}
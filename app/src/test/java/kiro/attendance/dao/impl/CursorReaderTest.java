@@ -0,0 +1,80 @@
+package kiro.attendance.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+/**
+ * CursorReaderのテスト
+ */
+class CursorReaderTest {
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong(1)).thenReturn(1L, 2L);
+    }
+
+    @Test
+    void forEach_自動コミットの接続では読み出し用のトランザクションを終了して元に戻す() throws Exception {
+        // Given
+        when(connection.getAutoCommit()).thenReturn(true);
+        List<Long> rows = new ArrayList<>();
+
+        // When
+        CursorReader.forEach(connection, "SELECT id FROM employees WHERE id > ?", List.of(0L),
+                100, rs -> rs.getLong(1), rows::add);
+
+        // Then
+        assertThat(rows).containsExactly(1L, 2L);
+        verify(statement).setFetchSize(100);
+        verify(statement).setObject(1, 0L);
+        InOrder order = inOrder(connection);
+        order.verify(connection).setAutoCommit(false);
+        order.verify(connection).rollback();
+        order.verify(connection).setAutoCommit(true);
+    }
+
+    @Test
+    void forEach_呼び出し元のトランザクション内ではコミット状態を変更しない() throws Exception {
+        // Given
+        when(connection.getAutoCommit()).thenReturn(false);
+        List<Long> rows = new ArrayList<>();
+
+        // When
+        CursorReader.forEach(connection, "SELECT id FROM employees", List.of(), 100,
+                rs -> rs.getLong(1), rows::add);
+
+        // Then
+        assertThat(rows).containsExactly(1L, 2L);
+        verify(connection, never()).setAutoCommit(anyBoolean());
+        verify(connection, never()).rollback();
+    }
+}
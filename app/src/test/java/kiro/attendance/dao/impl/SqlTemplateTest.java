@@ -0,0 +1,93 @@
+package kiro.attendance.dao.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.AttendanceRecordField;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.entity.CorrectionStatus;
+
+/**
+ * SqlTemplate・SqlTemplateRegistryのテスト
+ */
+class SqlTemplateTest {
+
+    @Test
+    void parse_バインド変数を位置パラメータに置き換え_空白を詰める() {
+        // Given
+        String source = "SELECT COUNT(*) \nFROM attendance_records \n"
+                + "WHERE employee_id = /* employeeId */1\n"
+                + "  AND date >= /* yearMonth.atDay(1) */'2024-01-01'\n"
+                + "  AND status = 'PRESENT'  /* 固定条件 */";
+
+        // When
+        SqlTemplate template = SqlTemplate.parse("test", source);
+
+        // Then
+        assertThat(template.getSql()).isEqualTo("SELECT COUNT(*) FROM attendance_records "
+                + "WHERE employee_id = ? AND date >= ? AND status = 'PRESENT' /* 固定条件 */");
+        assertThat(template.getParameterNames()).containsExactly("employeeId",
+                "yearMonth.atDay(1)");
+    }
+
+    @Test
+    void bind_列挙型は名前で設定し_パラメータ数が異なる場合は例外() throws Exception {
+        // Given
+        SqlTemplate template = SqlTemplate.parse("test",
+                "SELECT id FROM correction_requests WHERE employee_id = /* employeeId */1 "
+                        + "AND status = /* status */'PENDING'");
+        PreparedStatement stmt = mock(PreparedStatement.class);
+
+        // When
+        template.bind(stmt, 1L, CorrectionStatus.APPROVED);
+
+        // Then
+        verify(stmt).setObject(1, 1L);
+        verify(stmt).setString(2, "APPROVED");
+        assertThatThrownBy(() -> template.bind(stmt, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void registry_全テンプレートを解析でき_DAOの取得列の順に並ぶ() throws Exception {
+        // Given
+        URL root = getClass().getClassLoader().getResource("META-INF/kiro/attendance/dao");
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(Paths.get(root.toURI()))) {
+            files = paths.filter(path -> path.toString().endsWith(".sql")).toList();
+        }
+
+        // When
+        for (Path file : files) {
+            SqlTemplate template = SqlTemplate.parse(file.toString(), Files.readString(file));
+
+            // Then
+            assertThat(template.getSql()).as(file.toString()).doesNotContain("/*");
+            assertThat(template.getParameterNames().size()).as(file.toString())
+                    .isEqualTo(template.getSql().chars().filter(c -> c == '?').count());
+        }
+        assertThat(files).isNotEmpty();
+        assertThat(SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectById").getSql())
+                .startsWith("SELECT " + AttendanceRecordField.toSelectList(AttendanceRecordField.ALL)
+                        + " FROM attendance_records");
+        assertThat(SqlTemplateRegistry.get(CorrectionRequestDao.class, "selectByStatus")
+                .getSql()).startsWith("SELECT id, employee_id, original_record_id, "
+                        + "requested_clock_in, requested_clock_out, reason, status, request_date, "
+                        + "processed_date, created_at, updated_at, original_record_date "
+                        + "FROM correction_requests");
+        assertThat(SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectAllByDate"))
+                .isSameAs(SqlTemplateRegistry.get(AttendanceRecordDao.class, "selectAllByDate"));
+        assertThatThrownBy(() -> SqlTemplateRegistry.get(AttendanceRecordDao.class, "missing"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
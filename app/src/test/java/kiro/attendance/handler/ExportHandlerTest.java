@@ -0,0 +1,89 @@
+package kiro.attendance.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kiro.attendance.auth.AuthenticatedUser;
+import kiro.attendance.auth.CognitoAuthService;
+import kiro.attendance.exception.ErrorCode;
+
+@ExtendWith(MockitoExtension.class)
+class ExportHandlerTest {
+
+    @Mock
+    private CognitoAuthService authService;
+
+    @Mock
+    private Context context;
+
+    @Mock
+    private LambdaLogger logger;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ExportHandler exportHandler;
+
+    @BeforeEach
+    void setUp() {
+        exportHandler = new ExportHandler(authService, () -> {
+            throw new SQLException("Connection refused");
+        });
+        AuthenticatedUser manager = new AuthenticatedUser("user-456", "manager@example.com",
+                "EMP002", "MANAGER", List.of("managers"));
+        when(authService.authenticate(any(APIGatewayProxyRequestEvent.class))).thenReturn(manager);
+        lenient().when(context.getLogger()).thenReturn(logger);
+    }
+
+    @Test
+    void testPayrollExport_ConnectionFailure_ReturnsErrorResponse() throws Exception {
+        // When
+        JsonNode response = invoke("/api/export/payroll", "{\"month\":\"2024-01\"}");
+
+        // Then
+        assertDatabaseConnectionError(response);
+    }
+
+    @Test
+    void testCorrectionExport_ConnectionFailure_ReturnsErrorResponse() throws Exception {
+        // When
+        JsonNode response =
+                invoke("/api/export/corrections", "{\"from\":\"2024-01-01\",\"to\":\"2024-01-31\"}");
+
+        // Then
+        assertDatabaseConnectionError(response);
+    }
+
+    private void assertDatabaseConnectionError(JsonNode response) throws IOException {
+        assertThat(response.get("statusCode").asInt())
+                .isEqualTo(ErrorCode.DATABASE_CONNECTION_ERROR.getHttpStatus());
+        assertThat(objectMapper.readTree(response.get("body").asText()).get("error").get("code")
+                .asText()).isEqualTo(ErrorCode.DATABASE_CONNECTION_ERROR.getCode());
+    }
+
+    private JsonNode invoke(String path, String queryParameters) throws IOException {
+        String event = "{\"path\":\"" + path + "\",\"httpMethod\":\"GET\","
+                + "\"headers\":{\"Authorization\":\"Bearer token-456\"},"
+                + "\"queryStringParameters\":" + queryParameters + ",\"body\":null}";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportHandler.handleRequest(new ByteArrayInputStream(event.getBytes(StandardCharsets.UTF_8)),
+                output, context);
+        return objectMapper.readTree(output.toByteArray());
+    }
+}
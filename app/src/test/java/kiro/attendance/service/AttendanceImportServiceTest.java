@@ -0,0 +1,89 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.AttendanceImportRow;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.BulkImportResult;
+import kiro.attendance.dao.ImportRejectReason;
+
+/**
+ * AttendanceImportServiceのテスト
+ */
+class AttendanceImportServiceTest {
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    private AttendanceImportService attendanceImportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        attendanceImportService = new AttendanceImportService(attendanceRecordDao);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importCsv_不正な行を除いて一括登録し_行ごとの結果を返す() throws Exception {
+        // Given
+        String csv = "employee_id,date,clock_in_time,clock_out_time\r\n"
+                + "1,2024-01-15,2024-01-15 09:00:00,2024-01-15 18:00:00\r\n"
+                + "2,2024-01-15,2024-01-15 09:30:00,\r\n"
+                + "abc,2024-01-15,,\r\n"
+                + "3,2024-01-15,2024-01-15 18:00:00,2024-01-15 09:00:00\r\n"
+                + "4,2024-01-15,2024-01-15 09:00:00,2024-01-15 17:00:00\r\n";
+        when(attendanceRecordDao.bulkImport(any())).thenReturn(new BulkImportResult(2,
+                List.of(new BulkImportResult.RejectedRow(6, ImportRejectReason.EMPLOYEE_NOT_FOUND))));
+
+        // When
+        AttendanceImportService.ImportResult result =
+                attendanceImportService.importCsv(new StringReader(csv));
+
+        // Then
+        ArgumentCaptor<List<AttendanceImportRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(attendanceRecordDao).bulkImport(rows.capture());
+        assertThat(rows.getValue()).extracting(AttendanceImportRow::getLineNumber)
+                .containsExactly(2L, 3L, 6L);
+        AttendanceImportRow first = rows.getValue().get(0);
+        assertThat(first.getDate()).isEqualTo(LocalDate.of(2024, 1, 15));
+        assertThat(first.getClockOutTime()).isEqualTo(LocalDateTime.of(2024, 1, 15, 18, 0));
+        assertThat(rows.getValue().get(1).getClockOutTime()).isNull();
+
+        assertThat(result.getTotalRows()).isEqualTo(5);
+        assertThat(result.getImportedRows()).isEqualTo(2);
+        assertThat(result.getRejectedRows())
+                .extracting(BulkImportResult.RejectedRow::getLineNumber,
+                        BulkImportResult.RejectedRow::getReason)
+                .containsExactly(
+                        tuple(4L, ImportRejectReason.INVALID_FORMAT),
+                        tuple(5L,
+                                ImportRejectReason.INVALID_TIME_RANGE),
+                        tuple(6L,
+                                ImportRejectReason.EMPLOYEE_NOT_FOUND));
+    }
+
+    @Test
+    void importCsv_取り込み対象がない場合_DAOを呼び出さない() throws Exception {
+        // When
+        AttendanceImportService.ImportResult result = attendanceImportService
+                .importCsv(new StringReader("employee_id,date,clock_in_time,clock_out_time\n"));
+
+        // Then
+        assertThat(result.getTotalRows()).isZero();
+        verify(attendanceRecordDao, never()).bulkImport(any());
+    }
+}
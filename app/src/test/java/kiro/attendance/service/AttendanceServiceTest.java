@@ -1,196 +1,362 @@
-package kiro.attendance.service;
-
-import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.Optional;
-import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
-import kiro.attendance.dao.AttendanceRecordDao;
-import kiro.attendance.dao.EmployeeDao;
-import kiro.attendance.entity.AttendanceRecord;
-import kiro.attendance.entity.AttendanceStatus;
-import kiro.attendance.entity.Employee;
-import kiro.attendance.entity.UserRole;
-import kiro.attendance.exception.AttendanceException;
-import kiro.attendance.exception.ErrorCode;
-
-/**
- * AttendanceServiceのテスト
- */
-class AttendanceServiceTest {
-
-    @Mock
-    private AttendanceRecordDao attendanceRecordDao;
-
-    @Mock
-    private EmployeeDao employeeDao;
-
-    private AttendanceService attendanceService;
-
-    @BeforeEach
-    void setUp() {
-        MockitoAnnotations.openMocks(this);
-        attendanceService = new AttendanceService(attendanceRecordDao, employeeDao);
-    }
-
-    @Test
-    void clockIn_正常ケース_新規記録作成() {
-        // Given
-        Long employeeId = 1L;
-        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
-        employee.setId(employeeId);
-
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
-                .thenReturn(Optional.empty());
-        when(attendanceRecordDao.insert(any(AttendanceRecord.class))).thenAnswer(invocation -> {
-            AttendanceRecord record = invocation.getArgument(0);
-            record.setId(1L);
-            return record;
-        });
-
-        // When
-        AttendanceRecord result = attendanceService.clockIn(employeeId);
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getEmployeeId()).isEqualTo(employeeId);
-        assertThat(result.getClockInTime()).isNotNull();
-        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.PARTIAL);
-        verify(attendanceRecordDao).insert(any(AttendanceRecord.class));
-    }
-
-    @Test
-    void clockIn_従業員が存在しない場合_例外発生() {
-        // Given
-        Long employeeId = 999L;
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.empty());
-
-        // When & Then
-        assertThatThrownBy(() -> attendanceService.clockIn(employeeId))
-                .isInstanceOf(AttendanceException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMPLOYEE_NOT_FOUND);
-    }
-
-    @Test
-    void clockIn_既に出勤打刻済み_例外発生() {
-        // Given
-        Long employeeId = 1L;
-        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
-        employee.setId(employeeId);
-
-        AttendanceRecord existingRecord = new AttendanceRecord();
-        existingRecord.setEmployeeId(employeeId);
-        existingRecord.setClockInTime(LocalDateTime.now().minusHours(1));
-
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
-                .thenReturn(Optional.of(existingRecord));
-
-        // When & Then
-        assertThatThrownBy(() -> attendanceService.clockIn(employeeId))
-                .isInstanceOf(AttendanceException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_CLOCKED_IN);
-    }
-
-    @Test
-    void clockOut_正常ケース() {
-        // Given
-        Long employeeId = 1L;
-        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
-        employee.setId(employeeId);
-
-        AttendanceRecord existingRecord = new AttendanceRecord();
-        existingRecord.setId(1L);
-        existingRecord.setEmployeeId(employeeId);
-        existingRecord.setClockInTime(LocalDateTime.now().minusHours(8));
-        existingRecord.setStatus(AttendanceStatus.PARTIAL);
-
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
-                .thenReturn(Optional.of(existingRecord));
-        when(attendanceRecordDao.update(any(AttendanceRecord.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        // When
-        AttendanceRecord result = attendanceService.clockOut(employeeId);
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getClockOutTime()).isNotNull();
-        assertThat(result.getWorkingMinutes()).isGreaterThan(0);
-        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.PRESENT);
-        verify(attendanceRecordDao).update(any(AttendanceRecord.class));
-    }
-
-    @Test
-    void clockOut_出勤打刻されていない場合_例外発生() {
-        // Given
-        Long employeeId = 1L;
-        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
-        employee.setId(employeeId);
-
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
-                .thenReturn(Optional.empty());
-
-        // When & Then
-        assertThatThrownBy(() -> attendanceService.clockOut(employeeId))
-                .isInstanceOf(AttendanceException.class)
-                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_CLOCKED_IN);
-    }
-
-    @Test
-    void getAttendanceStatus_記録が存在する場合() {
-        // Given
-        Long employeeId = 1L;
-        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
-        employee.setId(employeeId);
-
-        AttendanceRecord record = new AttendanceRecord();
-        record.setEmployeeId(employeeId);
-        record.setClockInTime(LocalDateTime.now().minusHours(4));
-        record.setStatus(AttendanceStatus.PARTIAL);
-
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
-                .thenReturn(Optional.of(record));
-
-        // When
-        AttendanceRecord result = attendanceService.getAttendanceStatus(employeeId);
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getEmployeeId()).isEqualTo(employeeId);
-        assertThat(result.getClockInTime()).isNotNull();
-    }
-
-    @Test
-    void getAttendanceStatus_記録が存在しない場合() {
-        // Given
-        Long employeeId = 1L;
-        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
-        employee.setId(employeeId);
-
-        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
-        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
-                .thenReturn(Optional.empty());
-
-        // When
-        AttendanceRecord result = attendanceService.getAttendanceStatus(employeeId);
-
-        // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getEmployeeId()).isEqualTo(employeeId);
-        assertThat(result.getClockInTime()).isNull();
-        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
-    }
-}
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * AttendanceServiceのテスト
+ */
+class AttendanceServiceTest {
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    private AttendanceService attendanceService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // コンテナ単位のキャッシュ・名簿が他のテストの従業員を返さないようにする
+        EmployeeCache.getInstance().clear();
+        EmployeeDirectory.getInstance().invalidate();
+        AttendanceService.resetPartitionCheck();
+        attendanceService = new AttendanceService(attendanceRecordDao, employeeDao);
+    }
+
+    @Test
+    void clockIn_正常ケース_1文で記録作成() {
+        // Given
+        Long employeeId = 1L;
+        when(attendanceRecordDao.upsertClockIn(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenAnswer(invocation -> {
+                    AttendanceRecord record = new AttendanceRecord(employeeId,
+                            invocation.getArgument(1), invocation.getArgument(2), null, 0L,
+                            AttendanceStatus.PARTIAL);
+                    record.setId(1L);
+                    return Optional.of(record);
+                });
+
+        // When
+        AttendanceRecord result = attendanceService.clockIn(employeeId);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getEmployeeId()).isEqualTo(employeeId);
+        assertThat(result.getClockInTime()).isNotNull();
+        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.PARTIAL);
+        verifyNoInteractions(employeeDao);
+        verify(attendanceRecordDao, never()).findByEmployeeIdAndDate(any(), any());
+    }
+
+    @Test
+    void clockIn_当月パーティション作成済みの場合_DDLを実行しない() {
+        // Given
+        Long employeeId = 1L;
+        YearMonth month = YearMonth.now();
+        when(attendanceRecordDao.partitionExists(month)).thenReturn(true);
+        when(attendanceRecordDao.upsertClockIn(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.of(new AttendanceRecord(employeeId,
+                        LocalDate.now(), LocalDateTime.now(), null, 0L, AttendanceStatus.PARTIAL)));
+
+        // When
+        attendanceService.clockIn(employeeId);
+        attendanceService.clockIn(employeeId);
+
+        // Then
+        verify(attendanceRecordDao, times(1)).partitionExists(month);
+        verify(attendanceRecordDao, never()).ensurePartitions(any(), any(Integer.class));
+    }
+
+    @Test
+    void clockIn_パーティション作成失敗の場合_打刻を継続し次回再確認() {
+        // Given
+        Long employeeId = 1L;
+        YearMonth month = YearMonth.now();
+        when(attendanceRecordDao.partitionExists(month)).thenReturn(false);
+        RuntimeException failure = new RuntimeException(
+                "Failed to ensure attendance record partitions", new SQLException("lock timeout"));
+        doThrow(failure).when(attendanceRecordDao).ensurePartitions(month, 0);
+        List<LogRecord> logged = new ArrayList<>();
+        Handler handler = new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                logged.add(record);
+            }
+
+            @Override
+            public void flush() {}
+
+            @Override
+            public void close() {}
+        };
+        Logger logger = Logger.getLogger(AttendanceService.class.getName());
+        logger.addHandler(handler);
+        when(attendanceRecordDao.upsertClockIn(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.of(new AttendanceRecord(employeeId,
+                        LocalDate.now(), LocalDateTime.now(), null, 0L, AttendanceStatus.PARTIAL)));
+
+        // When
+        AttendanceRecord first;
+        try {
+            first = attendanceService.clockIn(employeeId);
+            attendanceService.clockIn(employeeId);
+        } finally {
+            logger.removeHandler(handler);
+        }
+
+        // Then
+        assertThat(first).isNotNull();
+        verify(attendanceRecordDao, times(2)).ensurePartitions(month, 0);
+        // 原因のSQLエラーまで記録する
+        assertThat(logged).hasSize(2).allSatisfy(record -> {
+            assertThat(record.getLevel()).isEqualTo(Level.WARNING);
+            assertThat(record.getThrown()).isSameAs(failure);
+        });
+    }
+
+    @Test
+    void ensureUpcomingPartitions_先行月数分を作成() {
+        // Given
+        LocalDate today = LocalDate.of(2026, 10, 19);
+
+        // When
+        attendanceService.ensureUpcomingPartitions(today);
+
+        // Then
+        verify(attendanceRecordDao).ensurePartitions(YearMonth.of(2026, 10),
+                AttendanceService.PARTITION_MONTHS_AHEAD);
+    }
+
+    @Test
+    void clockIn_従業員が存在しない場合_例外発生() {
+        // Given
+        Long employeeId = 999L;
+        when(attendanceRecordDao.upsertClockIn(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenThrow(
+                        new AttendanceException(ErrorCode.EMPLOYEE_NOT_FOUND, "従業員が見つかりません"));
+
+        // When & Then
+        assertThatThrownBy(() -> attendanceService.clockIn(employeeId))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMPLOYEE_NOT_FOUND);
+    }
+
+    @Test
+    void clockIn_既に出勤打刻済み_例外発生() {
+        // Given
+        Long employeeId = 1L;
+        when(attendanceRecordDao.upsertClockIn(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> attendanceService.clockIn(employeeId))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_CLOCKED_IN);
+    }
+
+    @Test
+    void clockOut_正常ケース_1文で更新() {
+        // Given
+        Long employeeId = 1L;
+        AttendanceRecord updatedRecord = new AttendanceRecord();
+        updatedRecord.setId(1L);
+        updatedRecord.setEmployeeId(employeeId);
+        updatedRecord.setClockInTime(LocalDateTime.now().minusHours(8));
+        updatedRecord.setClockOutTime(LocalDateTime.now());
+        updatedRecord.setWorkingMinutes(480L);
+        updatedRecord.setStatus(AttendanceStatus.PRESENT);
+
+        when(attendanceRecordDao.updateClockOut(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.of(updatedRecord));
+
+        // When
+        AttendanceRecord result = attendanceService.clockOut(employeeId);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getClockOutTime()).isNotNull();
+        assertThat(result.getWorkingMinutes()).isGreaterThan(0);
+        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.PRESENT);
+        verify(attendanceRecordDao, never()).findByEmployeeIdAndDate(any(), any());
+        verifyNoInteractions(employeeDao);
+    }
+
+    @Test
+    void clockOut_出勤打刻されていない場合_例外発生() {
+        // Given
+        Long employeeId = 1L;
+        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
+        employee.setId(employeeId);
+
+        when(attendanceRecordDao.updateClockOut(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> attendanceService.clockOut(employeeId))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_CLOCKED_IN);
+    }
+
+    @Test
+    void clockOut_既に退勤打刻済み_例外発生() {
+        // Given
+        Long employeeId = 1L;
+        AttendanceRecord existingRecord = new AttendanceRecord();
+        existingRecord.setEmployeeId(employeeId);
+        existingRecord.setClockInTime(LocalDateTime.now().minusHours(8));
+        existingRecord.setClockOutTime(LocalDateTime.now().minusMinutes(5));
+
+        when(attendanceRecordDao.updateClockOut(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
+                .thenReturn(Optional.of(existingRecord));
+
+        // When & Then
+        assertThatThrownBy(() -> attendanceService.clockOut(employeeId))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.ALREADY_CLOCKED_OUT);
+    }
+
+    @Test
+    void clockOut_従業員が存在しない場合_例外発生() {
+        // Given
+        Long employeeId = 999L;
+        when(attendanceRecordDao.updateClockOut(eq(employeeId), any(LocalDate.class),
+                any(LocalDateTime.class))).thenReturn(Optional.empty());
+        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+        when(employeeDao.findById(employeeId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> attendanceService.clockOut(employeeId))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.EMPLOYEE_NOT_FOUND);
+    }
+
+    @Test
+    void getAttendanceStatus_記録が存在する場合() {
+        // Given
+        Long employeeId = 1L;
+        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
+        employee.setId(employeeId);
+
+        AttendanceRecord record = new AttendanceRecord();
+        record.setEmployeeId(employeeId);
+        record.setClockInTime(LocalDateTime.now().minusHours(4));
+        record.setStatus(AttendanceStatus.PARTIAL);
+
+        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
+                .thenReturn(Optional.of(record));
+
+        // When
+        AttendanceRecord result = attendanceService.getAttendanceStatus(employeeId);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getEmployeeId()).isEqualTo(employeeId);
+        assertThat(result.getClockInTime()).isNotNull();
+    }
+
+    @Test
+    void getAttendanceStatus_記録が存在しない場合() {
+        // Given
+        Long employeeId = 1L;
+        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
+        employee.setId(employeeId);
+
+        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
+        when(attendanceRecordDao.findByEmployeeIdAndDate(eq(employeeId), any(LocalDate.class)))
+                .thenReturn(Optional.empty());
+
+        // When
+        AttendanceRecord result = attendanceService.getAttendanceStatus(employeeId);
+
+        // Then
+        assertThat(result).isNotNull();
+        assertThat(result.getEmployeeId()).isEqualTo(employeeId);
+        assertThat(result.getClockInTime()).isNull();
+        assertThat(result.getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+    }
+
+    @Test
+    void getTeamBoard_全従業員_記録のない従業員は欠勤で補完() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Employee taro = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
+        taro.setId(1L);
+        Employee hanako = new Employee("テスト花子", "EMP002", 160, UserRole.EMPLOYEE);
+        hanako.setId(2L);
+        when(employeeDao.findAll()).thenReturn(List.of(taro, hanako));
+        AttendanceRecord record = new AttendanceRecord(1L, today, today.atTime(9, 0), null, 0L,
+                AttendanceStatus.PARTIAL);
+        when(attendanceRecordDao.findAllByDate(today)).thenReturn(List.of(record));
+
+        // When
+        List<AttendanceService.TeamBoardEntry> board = attendanceService.getTeamBoard(null);
+
+        // Then
+        assertThat(board).extracting(AttendanceService.TeamBoardEntry::getStatus)
+                .containsExactly(AttendanceStatus.PARTIAL, AttendanceStatus.ABSENT);
+        assertThat(board.get(1).getEmployeeName()).isEqualTo("テスト花子");
+        verify(employeeDao, never()).findById(any());
+        verify(attendanceRecordDao, never()).findByEmployeeIdAndDate(any(), any());
+    }
+
+    @Test
+    void getTeamBoard_従業員ID指定時_指定従業員のみ1回で取得() {
+        // Given
+        LocalDate today = LocalDate.now();
+        Employee hanako = new Employee("テスト花子", "EMP002", 160, UserRole.EMPLOYEE);
+        hanako.setId(2L);
+        List<Long> employeeIds = List.of(2L, 99L);
+        when(employeeDao.findByIds(employeeIds)).thenReturn(List.of(hanako));
+        when(attendanceRecordDao.findByEmployeeIdsAndDate(employeeIds, today)).thenReturn(List.of());
+
+        // When
+        List<AttendanceService.TeamBoardEntry> board = attendanceService.getTeamBoard(employeeIds);
+
+        // Then
+        assertThat(board).hasSize(1);
+        assertThat(board.get(0).getEmployeeId()).isEqualTo(2L);
+        assertThat(board.get(0).getStatus()).isEqualTo(AttendanceStatus.ABSENT);
+        verify(employeeDao, never()).findAll();
+    }
+}
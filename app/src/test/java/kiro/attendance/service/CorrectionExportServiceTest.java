@@ -0,0 +1,84 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.entity.CorrectionRequest;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * CorrectionExportServiceのテスト
+ */
+class CorrectionExportServiceTest {
+
+    @Mock
+    private CorrectionRequestDao correctionRequestDao;
+
+    private CorrectionExportService correctionExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        correctionExportService = new CorrectionExportService(correctionRequestDao);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeCsv_カーソルから読み出した行を順に書き出す() throws Exception {
+        // Given
+        CorrectionRequestSearch search = new CorrectionRequestSearch(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31), CorrectionStatus.APPROVED, null);
+        LocalDateTime requestDate = LocalDateTime.of(2024, 3, 1, 10, 0);
+        doAnswer(invocation -> {
+            Consumer<CorrectionRequest> consumer = invocation.getArgument(1);
+            CorrectionRequest request = new CorrectionRequest(5L, 100L,
+                    LocalDateTime.of(2024, 2, 29, 9, 0), null, "打刻漏れ, \"退勤\"は未修正");
+            request.setId(1L);
+            request.setStatus(CorrectionStatus.APPROVED);
+            request.setRequestDate(requestDate);
+            request.setProcessedDate(requestDate.plusHours(2));
+            consumer.accept(request);
+            return null;
+        }).when(correctionRequestDao).forEachByRequestDateRange(eq(search), any(Consumer.class));
+        StringWriter writer = new StringWriter();
+
+        // When
+        long rows = correctionExportService.writeCsv(search, writer);
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        assertThat(writer.toString().split("\r\n")).containsExactly(
+                "id,employee_id,original_record_id,requested_clock_in,requested_clock_out,reason,"
+                        + "status,request_date,processed_date",
+                "1,5,100,2024-02-29 09:00:00,,\"打刻漏れ, \"\"退勤\"\"は未修正\",APPROVED,"
+                        + "2024-03-01 10:00:00,2024-03-01 12:00:00");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeCsv_開始日が終了日より後の場合_例外発生() {
+        CorrectionRequestSearch search = new CorrectionRequestSearch(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 1, 31), null, null);
+
+        assertThatThrownBy(() -> correctionExportService.writeCsv(search, new StringWriter()))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TIME_RANGE);
+        verify(correctionRequestDao, never()).forEachByRequestDateRange(any(), any(Consumer.class));
+    }
+}
@@ -0,0 +1,318 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.CorrectionRequestSearch;
+import kiro.attendance.dao.CorrectionRequestView;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.entity.CorrectionRequest;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+import kiro.attendance.util.PageCursorUtil;
+import kiro.attendance.util.ReadRouting;
+
+/**
+ * CorrectionServiceのテスト
+ */
+class CorrectionServiceTest {
+
+    @Mock
+    private CorrectionRequestDao correctionRequestDao;
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    private CorrectionService correctionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // コンテナ単位のキャッシュが他のテストの従業員を返さないようにする
+        EmployeeCache.getInstance().clear();
+        correctionService =
+                new CorrectionService(correctionRequestDao, attendanceRecordDao, employeeDao);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void approveCorrectionRequests_一括取得してバッチ更新し_申請ごとの結果を返す() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        CorrectionRequest pending = request(1L, 100L, CorrectionStatus.PENDING);
+        pending.setRequestedClockOut(date.atTime(18, 0));
+        CorrectionRequest approved = request(2L, 101L, CorrectionStatus.APPROVED);
+        AttendanceRecord record = new AttendanceRecord(1L, date, date.atTime(9, 0), null, 0L,
+                AttendanceStatus.PARTIAL);
+        record.setId(100L);
+
+        when(correctionRequestDao.findByIdsForUpdate(any()))
+                .thenReturn(List.of(pending, approved));
+        when(attendanceRecordDao.findByIdsAndDates(any())).thenReturn(List.of(record));
+
+        // When
+        List<CorrectionService.BulkProcessOutcome> outcomes =
+                correctionService.approveCorrectionRequests(List.of(1L, 2L, 3L, 1L)).getValue();
+
+        // Then
+        assertThat(outcomes).extracting(CorrectionService.BulkProcessOutcome::getId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(outcomes.get(0).isSuccess()).isTrue();
+        assertThat(outcomes.get(0).getStatus()).isEqualTo(CorrectionStatus.APPROVED);
+        assertThat(outcomes.get(1).getErrorCode())
+                .isEqualTo(ErrorCode.CORRECTION_ALREADY_PROCESSED.getCode());
+        assertThat(outcomes.get(2).getErrorCode())
+                .isEqualTo(ErrorCode.CORRECTION_REQUEST_NOT_FOUND.getCode());
+
+        ArgumentCaptor<Map<Long, LocalDate>> recordKeys = ArgumentCaptor.forClass(Map.class);
+        verify(attendanceRecordDao).findByIdsAndDates(recordKeys.capture());
+        assertThat(recordKeys.getValue()).containsExactly(entry(100L, date));
+        verify(attendanceRecordDao, never()).findByIds(any());
+
+        ArgumentCaptor<List<AttendanceRecord>> records = ArgumentCaptor.forClass(List.class);
+        verify(attendanceRecordDao).updateAll(records.capture());
+        assertThat(records.getValue()).singleElement()
+                .satisfies(updated -> assertThat(updated.getWorkingMinutes()).isEqualTo(540L));
+
+        ArgumentCaptor<List<CorrectionRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(correctionRequestDao).updateAll(requests.capture());
+        assertThat(requests.getValue()).containsExactly(pending);
+        assertThat(pending.getStatus()).isEqualTo(CorrectionStatus.APPROVED);
+        assertThat(pending.getProcessedDate()).isNotNull();
+        verify(attendanceRecordDao, never()).update(any());
+    }
+
+    @Test
+    void approveCorrectionRequest_勤怠記録は主キーのIDと日付で取得する() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        CorrectionRequest pending = request(1L, 100L, CorrectionStatus.PENDING);
+        pending.setRequestedClockOut(date.atTime(18, 0));
+        AttendanceRecord record = new AttendanceRecord(1L, date, date.atTime(9, 0), null, 0L,
+                AttendanceStatus.PARTIAL);
+        record.setId(100L);
+        when(correctionRequestDao.findById(1L)).thenReturn(Optional.of(pending));
+        when(attendanceRecordDao.findByIdAndDate(100L, date)).thenReturn(Optional.of(record));
+        when(correctionRequestDao.update(pending)).thenReturn(pending);
+
+        // When
+        CorrectionService.ProcessResult<CorrectionRequest> result =
+                correctionService.approveCorrectionRequest(1L);
+
+        // Then
+        assertThat(result.getModifiedRecords()).containsExactly(record);
+        assertThat(record.getWorkingMinutes()).isEqualTo(540L);
+        verify(attendanceRecordDao).update(record);
+        verify(attendanceRecordDao, never()).findById(any());
+    }
+
+    @Test
+    void approveCorrectionRequests_在席状況へはapplyToPresenceの呼び出しまで反映しない() {
+        // Given
+        PresenceRegistry presenceRegistry = mock(PresenceRegistry.class);
+        CorrectionService service = new CorrectionService(correctionRequestDao,
+                attendanceRecordDao, employeeDao, presenceRegistry, ReadRouting.PRIMARY_ONLY);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        CorrectionRequest pending = request(1L, 100L, CorrectionStatus.PENDING);
+        pending.setRequestedClockOut(date.atTime(18, 0));
+        AttendanceRecord record = new AttendanceRecord(1L, date, date.atTime(9, 0), null, 0L,
+                AttendanceStatus.PARTIAL);
+        record.setId(100L);
+        when(correctionRequestDao.findByIdsForUpdate(any())).thenReturn(List.of(pending));
+        when(attendanceRecordDao.findByIdsAndDates(any())).thenReturn(List.of(record));
+
+        // When
+        CorrectionService.ProcessResult<List<CorrectionService.BulkProcessOutcome>> result =
+                service.approveCorrectionRequests(List.of(1L));
+
+        // Then
+        // トランザクションのコミット前は在席状況を変更しない
+        verify(presenceRegistry, never()).apply(any());
+        assertThat(result.getModifiedRecords()).containsExactly(record);
+
+        service.applyToPresence(result);
+        verify(presenceRegistry).apply(record);
+    }
+
+    @Test
+    void rejectCorrectionRequests_勤怠記録は取得しない() {
+        // Given
+        CorrectionRequest pending = request(1L, 100L, CorrectionStatus.PENDING);
+        when(correctionRequestDao.findByIdsForUpdate(any())).thenReturn(List.of(pending));
+
+        // When
+        List<CorrectionService.BulkProcessOutcome> outcomes =
+                correctionService.rejectCorrectionRequests(List.of(1L), "証跡なし").getValue();
+
+        // Then
+        assertThat(outcomes).singleElement()
+                .satisfies(outcome -> assertThat(outcome.getStatus())
+                        .isEqualTo(CorrectionStatus.REJECTED));
+        assertThat(pending.getReason()).endsWith("[却下理由] 証跡なし");
+        verify(attendanceRecordDao, never()).findByIdsAndDates(any());
+        verify(correctionRequestDao).updateAll(List.of(pending));
+    }
+
+    @Test
+    void approveCorrectionRequests_上限件数を超える場合_例外発生() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= CorrectionService.MAX_BULK_SIZE + 1; i++) {
+            ids.add(i);
+        }
+
+        assertThatThrownBy(() -> correctionService.approveCorrectionRequests(ids))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST_PARAMETER);
+        assertThatThrownBy(
+                () -> correctionService.approveCorrectionRequests(Collections.emptyList()))
+                .isInstanceOf(AttendanceException.class);
+    }
+
+    @Test
+    void getCorrectionRequestsPage_承認待ちキューは末尾の申請日時とIDから続きを取得() {
+        // Given
+        CorrectionRequest first = request(1L, 100L, CorrectionStatus.PENDING);
+        CorrectionRequest second = request(2L, 101L, CorrectionStatus.PENDING);
+        // 申請日時が同じ行はIDで順序付ける
+        second.setRequestDate(first.getRequestDate());
+        CorrectionRequest third = request(3L, 102L, CorrectionStatus.PENDING);
+        when(correctionRequestDao.findPendingRequestsAfter(null, null, 3))
+                .thenReturn(new ArrayList<>(List.of(first, second, third)));
+
+        // When
+        PageResult<CorrectionRequest> page =
+                correctionService.getCorrectionRequestsPage(null, null, null, 2);
+        correctionService.getCorrectionRequestsPage(null, null, page.getNextCursor(), 2);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(first, second);
+        assertThat(page.isHasMore()).isTrue();
+        verify(correctionRequestDao).findPendingRequestsAfter(second.getRequestDate(), 2L, 3);
+        verify(correctionRequestDao, never()).findPendingRequests();
+    }
+
+    @Test
+    void getCorrectionRequestsPage_従業員指定時は従業員の申請を新しい順に取得() {
+        // Given
+        when(correctionRequestDao.findByEmployeeIdBefore(eq(1L), isNull(), isNull(), anyInt()))
+                .thenReturn(new ArrayList<>(List.of(request(5L, 100L, CorrectionStatus.APPROVED))));
+
+        // When
+        PageResult<CorrectionRequest> page = correctionService.getCorrectionRequestsPage(1L,
+                CorrectionStatus.APPROVED, null, null);
+
+        // Then
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNull();
+        verify(correctionRequestDao).findByEmployeeIdBefore(1L, null, null,
+                PageResult.DEFAULT_LIMIT + 1);
+        verify(correctionRequestDao, never()).findByStatusBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getCorrectionRequestsPage_不正なカーソルの場合_例外発生() {
+        String cursor = PageCursorUtil.encode("2024-01-16", "1");
+
+        assertThatThrownBy(() -> correctionService.getCorrectionRequestsPage(null,
+                CorrectionStatus.APPROVED, cursor, null))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST_PARAMETER);
+    }
+
+    @Test
+    void getCorrectionRequestViewsPage_元の勤怠記録と申請者名を結合した行をページ取得() {
+        // Given
+        CorrectionRequest newer = request(2L, 101L, CorrectionStatus.APPROVED);
+        CorrectionRequest older = request(1L, 100L, CorrectionStatus.APPROVED);
+        AttendanceRecord record = new AttendanceRecord();
+        record.setId(101L);
+        when(correctionRequestDao.findViewsByStatusBefore(CorrectionStatus.APPROVED, null, null, 2))
+                .thenReturn(new ArrayList<>(List.of(new CorrectionRequestView(newer, record, "山田太郎"),
+                        new CorrectionRequestView(older, record, "山田太郎"))));
+
+        // When
+        PageResult<CorrectionRequestView> page = correctionService
+                .getCorrectionRequestViewsPage(null, CorrectionStatus.APPROVED, null, 1);
+        correctionService.getCorrectionRequestViewsPage(null, CorrectionStatus.APPROVED,
+                page.getNextCursor(), 1);
+
+        // Then
+        assertThat(page.getItems()).extracting(CorrectionRequestView::getEmployeeName)
+                .containsExactly("山田太郎");
+        verify(correctionRequestDao).findViewsByStatusBefore(CorrectionStatus.APPROVED,
+                newer.getRequestDate(), 2L, 2);
+        // 申請ごとに勤怠記録を取得しない
+        verify(attendanceRecordDao, never()).findByIdAndDate(any(), any());
+        verify(attendanceRecordDao, never()).findByIdsAndDates(any());
+    }
+
+    @Test
+    void searchCorrectionRequestsPage_申請日の範囲と絞り込み条件で続きを取得() {
+        // Given
+        CorrectionRequestSearch search = new CorrectionRequestSearch(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31), CorrectionStatus.REJECTED, 1L);
+        CorrectionRequest newer = request(2L, 101L, CorrectionStatus.REJECTED);
+        CorrectionRequest older = request(1L, 100L, CorrectionStatus.REJECTED);
+        when(correctionRequestDao.findByRequestDateRangeBefore(search, null, null, 2))
+                .thenReturn(new ArrayList<>(List.of(newer, older)));
+
+        // When
+        PageResult<CorrectionRequest> page =
+                correctionService.searchCorrectionRequestsPage(search, null, 1);
+        correctionService.searchCorrectionRequestsPage(search, page.getNextCursor(), 1);
+
+        // Then
+        assertThat(page.getItems()).containsExactly(newer);
+        verify(correctionRequestDao).findByRequestDateRangeBefore(search,
+                newer.getRequestDate(), 2L, 2);
+    }
+
+    @Test
+    void searchCorrectionRequestsPage_開始日が終了日より後の場合_例外発生() {
+        CorrectionRequestSearch search = new CorrectionRequestSearch(LocalDate.of(2024, 2, 1),
+                LocalDate.of(2024, 1, 31), null, null);
+
+        assertThatThrownBy(() -> correctionService.searchCorrectionRequestsPage(search, null, null))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_TIME_RANGE);
+        verify(correctionRequestDao, never()).findByRequestDateRangeBefore(any(), any(), any(),
+                anyInt());
+    }
+
+    private CorrectionRequest request(Long id, Long recordId, CorrectionStatus status) {
+        CorrectionRequest request = new CorrectionRequest(1L, recordId, null, null, "打刻漏れ");
+        request.setId(id);
+        request.setStatus(status);
+        request.setOriginalRecordDate(LocalDate.of(2024, 1, 15));
+        request.setRequestDate(LocalDateTime.of(2024, 1, 16, 9, 0));
+        return request;
+    }
+}
@@ -0,0 +1,93 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.YearMonth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import com.attendance.util.CacheManager;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.CorrectionRequestDao;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.CorrectionStatus;
+import kiro.attendance.entity.UserRole;
+
+/**
+ * CountServiceのテスト
+ */
+class CountServiceTest {
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    @Mock
+    private CorrectionRequestDao correctionRequestDao;
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    private CountService countService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // コンテナ単位のキャッシュが他のテストの件数を返さないようにする
+        CacheManager.getInstance().clear();
+        countService = new CountService(attendanceRecordDao, correctionRequestDao, employeeDao);
+    }
+
+    @Test
+    void countRecordsByMonth_TTLの間はキャッシュした件数を返す() {
+        // Given
+        YearMonth month = YearMonth.of(2024, 1);
+        when(attendanceRecordDao.countByMonth(month)).thenReturn(120L);
+        when(attendanceRecordDao.countByMonth(month.plusMonths(1))).thenReturn(80L);
+
+        // When
+        long first = countService.countRecordsByMonth(month);
+        long second = countService.countRecordsByMonth(month);
+        long nextMonth = countService.countRecordsByMonth(month.plusMonths(1));
+
+        // Then
+        assertThat(first).isEqualTo(120L);
+        assertThat(second).isEqualTo(120L);
+        assertThat(nextMonth).isEqualTo(80L);
+        verify(attendanceRecordDao, times(1)).countByMonth(month);
+    }
+
+    @Test
+    void countCorrectionsByStatus_承認待ちは専用のクエリで数える() {
+        // Given
+        when(correctionRequestDao.countPendingRequests()).thenReturn(3L);
+        when(correctionRequestDao.countByStatus(CorrectionStatus.APPROVED)).thenReturn(10L);
+
+        // When
+        long pending = countService.countCorrectionsByStatus(CorrectionStatus.PENDING);
+        long approved = countService.countCorrectionsByStatus(CorrectionStatus.APPROVED);
+
+        // Then
+        assertThat(pending).isEqualTo(3L);
+        assertThat(approved).isEqualTo(10L);
+        verify(correctionRequestDao, never()).countByStatus(CorrectionStatus.PENDING);
+    }
+
+    @Test
+    void countEmployees_ロール指定の有無で別々に数える() {
+        // Given
+        when(employeeDao.count()).thenReturn(50L);
+        when(employeeDao.countByRole(UserRole.MANAGER)).thenReturn(5L);
+
+        // When
+        long all = countService.countEmployees(null);
+        long managers = countService.countEmployees(UserRole.MANAGER);
+
+        // Then
+        assertThat(all).isEqualTo(50L);
+        assertThat(managers).isEqualTo(5L);
+    }
+}
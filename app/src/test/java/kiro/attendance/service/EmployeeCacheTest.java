@@ -0,0 +1,110 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+
+/**
+ * EmployeeCacheのテスト
+ */
+class EmployeeCacheTest {
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    private EmployeeCache employeeCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employeeCache = new EmployeeCache();
+    }
+
+    @Test
+    void exists_2回目以降はクエリせず_見つからない場合は保持しない() {
+        // Given
+        when(employeeDao.findById(1L)).thenReturn(Optional.of(employee(1L)));
+        when(employeeDao.findById(2L)).thenReturn(Optional.empty());
+
+        // When
+        boolean first = employeeCache.exists(1L, employeeDao::findById);
+        boolean second = employeeCache.exists(1L, employeeDao::findById);
+        employeeCache.exists(2L, employeeDao::findById);
+        boolean missing = employeeCache.exists(2L, employeeDao::findById);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(missing).isFalse();
+        verify(employeeDao, times(1)).findById(1L);
+        verify(employeeDao, times(2)).findById(2L);
+        assertThat(employeeCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void findById_返した従業員を変更してもキャッシュに影響しない() {
+        // Given
+        Employee loaded = employee(1L);
+        String name = loaded.getName();
+        when(employeeDao.findById(1L)).thenReturn(Optional.of(loaded));
+        employeeCache.findById(1L, employeeDao::findById);
+
+        // When
+        loaded.setName("読み込み元を変更");
+        employeeCache.findById(1L, employeeDao::findById).get().setName("取得結果を変更");
+        Optional<Employee> cached = employeeCache.findById(1L, employeeDao::findById);
+
+        // Then
+        assertThat(cached).map(Employee::getName).contains(name);
+        verify(employeeDao, times(1)).findById(1L);
+    }
+
+    @Test
+    void deleteEmployee_キャッシュを破棄する() {
+        // Given
+        EmployeeService employeeService = new EmployeeService(employeeDao, employeeCache);
+        when(employeeDao.findById(1L)).thenReturn(Optional.of(employee(1L)));
+        employeeCache.exists(1L, employeeDao::findById);
+
+        // When
+        employeeService.deleteEmployee(1L);
+        when(employeeDao.findById(1L)).thenReturn(Optional.empty());
+        boolean exists = employeeCache.exists(1L, employeeDao::findById);
+
+        // Then
+        assertThat(exists).isFalse();
+        verify(employeeDao).delete(any());
+    }
+
+    @Test
+    void findById_上限を超えた場合は最も長く参照されていない従業員から破棄する() {
+        // Given
+        for (long id = 1; id <= EmployeeCache.MAX_ENTRIES + 1; id++) {
+            long employeeId = id;
+            employeeCache.findById(employeeId, key -> Optional.of(employee(employeeId)));
+        }
+
+        // When
+        boolean evicted = employeeCache.exists(1L, key -> Optional.empty());
+
+        // Then
+        assertThat(evicted).isFalse();
+        assertThat(employeeCache.size()).isEqualTo(EmployeeCache.MAX_ENTRIES);
+    }
+
+    private Employee employee(Long id) {
+        Employee employee = new Employee("テスト太郎", "EMP" + id, 160, UserRole.EMPLOYEE);
+        employee.setId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,109 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.dao.EmployeeTableVersion;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+
+/**
+ * EmployeeDirectoryのテスト
+ */
+class EmployeeDirectoryTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2024, 1, 15, 9, 0);
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void current_版が変わらない場合は読み直さず_変わった場合のみ読み直す() {
+        // Given
+        EmployeeDirectory directory = new EmployeeDirectory(Duration.ZERO);
+        Employee taro = employee(1L, "EMP001", UserRole.EMPLOYEE);
+        Employee hanako = employee(2L, "EMP002", UserRole.MANAGER);
+        when(employeeDao.findTableVersion()).thenReturn(new EmployeeTableVersion(1, UPDATED_AT),
+                new EmployeeTableVersion(1, UPDATED_AT), new EmployeeTableVersion(2, UPDATED_AT));
+        when(employeeDao.findAll()).thenReturn(List.of(taro), List.of(taro, hanako));
+
+        // When
+        EmployeeDirectory.Snapshot first = directory.current(employeeDao);
+        EmployeeDirectory.Snapshot unchanged = directory.current(employeeDao);
+        EmployeeDirectory.Snapshot changed = directory.current(employeeDao);
+
+        // Then
+        assertThat(unchanged).isSameAs(first);
+        assertThat(changed).isNotSameAs(first);
+        assertThat(changed.getAll()).extracting(Employee::getId).containsExactly(1L, 2L);
+        assertThat(changed.findByEmployeeNumber("EMP002")).map(Employee::getId).contains(2L);
+        assertThat(changed.findByRole(UserRole.MANAGER)).extracting(Employee::getId)
+                .containsExactly(2L);
+        assertThat(changed.findById(3L)).isEmpty();
+        verify(employeeDao, times(3)).findTableVersion();
+        verify(employeeDao, times(2)).findAll();
+    }
+
+    @Test
+    void current_確認間隔内は版も確認しない_破棄後は読み直す() {
+        // Given
+        EmployeeDirectory directory = new EmployeeDirectory();
+        when(employeeDao.findTableVersion()).thenReturn(new EmployeeTableVersion(1, UPDATED_AT));
+        when(employeeDao.findAll())
+                .thenReturn(List.of(employee(1L, "EMP001", UserRole.EMPLOYEE)));
+
+        // When
+        directory.current(employeeDao);
+        directory.current(employeeDao);
+        directory.invalidate();
+        EmployeeDirectory.Snapshot reloaded = directory.current(employeeDao);
+
+        // Then
+        assertThat(reloaded.size()).isEqualTo(1);
+        verify(employeeDao, times(2)).findTableVersion();
+        verify(employeeDao, times(2)).findAll();
+    }
+
+    @Test
+    void snapshot_返した従業員を変更してもスナップショットに影響しない() {
+        // Given
+        EmployeeDirectory directory = new EmployeeDirectory(Duration.ZERO);
+        Employee loaded = employee(1L, "EMP001", UserRole.EMPLOYEE);
+        when(employeeDao.findTableVersion()).thenReturn(new EmployeeTableVersion(1, UPDATED_AT));
+        when(employeeDao.findAll()).thenReturn(List.of(loaded));
+        EmployeeDirectory.Snapshot snapshot = directory.current(employeeDao);
+
+        // When
+        loaded.setName("読み込み元を変更");
+        snapshot.getAll().get(0).setName("一覧を変更");
+        snapshot.findById(1L).get().setRole(UserRole.ADMIN);
+        snapshot.findByEmployeeNumber("EMP001").get().setRequiredMonthlyHours(0);
+
+        // Then
+        Employee current = snapshot.findById(1L).get();
+        assertThat(current.getName()).isEqualTo("テスト太郎");
+        assertThat(current.getRole()).isEqualTo(UserRole.EMPLOYEE);
+        assertThat(current.getRequiredMonthlyHours()).isEqualTo(160);
+        assertThat(snapshot.findByRole(UserRole.EMPLOYEE)).hasSize(1);
+    }
+
+    private Employee employee(Long id, String employeeNumber, UserRole role) {
+        Employee employee = new Employee("テスト太郎", employeeNumber, 160, role);
+        employee.setId(id);
+        return employee;
+    }
+}
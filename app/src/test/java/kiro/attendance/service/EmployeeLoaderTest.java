@@ -0,0 +1,77 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+
+/**
+ * EmployeeLoaderのテスト
+ */
+class EmployeeLoaderTest {
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    private EmployeeLoader employeeLoader;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        employeeLoader = new EmployeeLoader(employeeDao);
+    }
+
+    @Test
+    void load_登録済みのIDを1回のクエリでまとめて取得する() {
+        // Given
+        when(employeeDao.findByIds(any())).thenReturn(List.of(employee(1L), employee(2L)));
+        employeeLoader.register(1L);
+        employeeLoader.register(2L);
+        employeeLoader.register(3L);
+
+        // When
+        Employee first = employeeLoader.load(1L).orElseThrow();
+        Employee second = employeeLoader.load(2L).orElseThrow();
+
+        // Then
+        assertThat(first.getId()).isEqualTo(1L);
+        assertThat(second.getId()).isEqualTo(2L);
+        assertThat(employeeLoader.load(3L)).isEmpty();
+        verify(employeeDao, times(1)).findByIds(List.of(1L, 2L, 3L));
+        verify(employeeDao, never()).findById(any());
+    }
+
+    @Test
+    void loadSummaries_取得済みのIDは再取得しない() {
+        // Given
+        when(employeeDao.findByIds(List.of(1L))).thenReturn(List.of(employee(1L)));
+        when(employeeDao.findByIds(List.of(2L))).thenReturn(List.of(employee(2L)));
+        employeeLoader.load(1L);
+
+        // When
+        Map<Long, EmployeeLoader.EmployeeSummary> summaries =
+                employeeLoader.loadSummaries(List.of(1L, 2L));
+
+        // Then
+        assertThat(summaries).containsOnlyKeys(1L, 2L);
+        assertThat(summaries.get(2L).getEmployeeNumber()).isEqualTo("EMP002");
+        verify(employeeDao).findByIds(List.of(2L));
+    }
+
+    private Employee employee(Long id) {
+        Employee employee = new Employee("テスト" + id, "EMP00" + id, 160, UserRole.EMPLOYEE);
+        employee.setId(id);
+        return employee;
+    }
+}
@@ -0,0 +1,63 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.PayrollExportRow;
+import kiro.attendance.entity.AttendanceStatus;
+
+/**
+ * PayrollExportServiceのテスト
+ */
+class PayrollExportServiceTest {
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    private PayrollExportService payrollExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        payrollExportService = new PayrollExportService(attendanceRecordDao);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writeMonthlyCsv_区切り文字を含む値は引用符で囲む() throws Exception {
+        // Given
+        YearMonth month = YearMonth.of(2024, 1);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        doAnswer(invocation -> {
+            Consumer<PayrollExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(new PayrollExportRow(1L, "EMP001", "山田, \"太郎\"", date,
+                    date.atTime(9, 0), date.atTime(18, 0), 480L, AttendanceStatus.PRESENT));
+            consumer.accept(new PayrollExportRow(2L, "EMP002", "佐藤花子", date,
+                    date.atTime(9, 30), null, 0L, AttendanceStatus.PARTIAL));
+            return null;
+        }).when(attendanceRecordDao).forEachPayrollRow(eq(month), any(Consumer.class));
+        StringWriter writer = new StringWriter();
+
+        // When
+        long rows = payrollExportService.writeMonthlyCsv(month, writer);
+
+        // Then
+        assertThat(rows).isEqualTo(2);
+        assertThat(writer.toString().split("\r\n")).containsExactly(
+                "employee_id,employee_number,employee_name,date,clock_in_time,clock_out_time,"
+                        + "working_minutes,status",
+                "1,EMP001,\"山田, \"\"太郎\"\"\",2024-01-15,2024-01-15 09:00:00,"
+                        + "2024-01-15 18:00:00,480,PRESENT",
+                "2,EMP002,佐藤花子,2024-01-15,2024-01-15 09:30:00,,0,PARTIAL");
+    }
+}
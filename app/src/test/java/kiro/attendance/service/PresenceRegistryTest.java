@@ -0,0 +1,75 @@
+package kiro.attendance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+
+/**
+ * PresenceRegistryのテスト
+ */
+class PresenceRegistryTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    private PresenceRegistry presenceRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        presenceRegistry = new PresenceRegistry();
+    }
+
+    @Test
+    void ensureLoaded_1回のクエリで構築し_打刻で更新する() {
+        // Given
+        when(attendanceRecordDao.findClockedInEmployeeIds(TODAY)).thenReturn(List.of(3L, 7L));
+
+        // When
+        presenceRegistry.ensureLoaded(attendanceRecordDao, TODAY);
+        presenceRegistry.apply(new AttendanceRecord(5L, TODAY, TODAY.atTime(9, 0), null, 0L,
+                AttendanceStatus.PARTIAL));
+        presenceRegistry.apply(new AttendanceRecord(3L, TODAY, TODAY.atTime(9, 0),
+                TODAY.atTime(18, 0), 540L, AttendanceStatus.PRESENT));
+        presenceRegistry.ensureLoaded(attendanceRecordDao, TODAY);
+
+        // Then
+        assertThat(presenceRegistry.isPresent(3L)).isFalse();
+        assertThat(presenceRegistry.isPresent(5L)).isTrue();
+        assertThat(presenceRegistry.getHeadcount()).isEqualTo(2);
+        assertThat(presenceRegistry.getPresentEmployeeIds()).containsExactly(5L, 7L);
+        verify(attendanceRecordDao, times(1)).findClockedInEmployeeIds(TODAY);
+    }
+
+    @Test
+    void ensureLoaded_日付が変わった場合_再構築する() {
+        // Given
+        LocalDate tomorrow = TODAY.plusDays(1);
+        when(attendanceRecordDao.findClockedInEmployeeIds(TODAY)).thenReturn(List.of(3L));
+        when(attendanceRecordDao.findClockedInEmployeeIds(tomorrow)).thenReturn(List.of());
+        presenceRegistry.ensureLoaded(attendanceRecordDao, TODAY);
+
+        // When
+        presenceRegistry.ensureLoaded(attendanceRecordDao, tomorrow);
+        presenceRegistry.apply(new AttendanceRecord(4L, TODAY, TODAY.atTime(9, 0), null, 0L,
+                AttendanceStatus.PARTIAL));
+
+        // Then
+        assertThat(presenceRegistry.getDate()).isEqualTo(tomorrow);
+        assertThat(presenceRegistry.getHeadcount()).isZero();
+        assertThat(presenceRegistry.isPresent(3L)).isFalse();
+        assertThat(presenceRegistry.isPresent(4L)).isFalse();
+    }
+}
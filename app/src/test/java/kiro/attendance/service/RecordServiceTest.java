@@ -0,0 +1,204 @@
+package kiro.attendance.service;
+
+import static kiro.attendance.dao.AttendanceRecordField.ALL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import kiro.attendance.dao.AttendanceRecordDao;
+import kiro.attendance.dao.AttendanceRecordField;
+import kiro.attendance.dao.EmployeeDao;
+import kiro.attendance.entity.AttendanceRecord;
+import kiro.attendance.entity.AttendanceStatus;
+import kiro.attendance.entity.Employee;
+import kiro.attendance.entity.UserRole;
+import kiro.attendance.exception.AttendanceException;
+import kiro.attendance.exception.ErrorCode;
+
+/**
+ * RecordServiceのテスト
+ */
+class RecordServiceTest {
+
+    @Mock
+    private AttendanceRecordDao attendanceRecordDao;
+
+    @Mock
+    private EmployeeDao employeeDao;
+
+    private RecordService recordService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // コンテナ単位のキャッシュが他のテストの従業員を返さないようにする
+        EmployeeCache.getInstance().clear();
+        recordService = new RecordService(attendanceRecordDao, employeeDao);
+    }
+
+    @Test
+    void getEmployeeRecordsPage_続きがある場合_次ページのカーソルを返す() {
+        // Given
+        Long employeeId = 1L;
+        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
+        employee.setId(employeeId);
+        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
+
+        List<AttendanceRecord> fetched = records(employeeId, LocalDate.of(2024, 1, 31), 3);
+        when(attendanceRecordDao.findByEmployeeIdBefore(eq(employeeId), isNull(), eq(3), eq(ALL)))
+                .thenReturn(fetched);
+
+        // When
+        PageResult<AttendanceRecord> page =
+                recordService.getEmployeeRecordsPage(employeeId, null, 2, ALL);
+
+        // Then
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(page.isHasMore()).isTrue();
+
+        // 次ページは前ページ末尾の日付より前から取得する
+        when(attendanceRecordDao.findByEmployeeIdBefore(employeeId, LocalDate.of(2024, 1, 30), 3,
+                ALL))
+                .thenReturn(new ArrayList<>(fetched.subList(2, 3)));
+        PageResult<AttendanceRecord> next =
+                recordService.getEmployeeRecordsPage(employeeId, page.getNextCursor(), 2,
+                        ALL);
+        assertThat(next.getItems()).hasSize(1);
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getAllRecordsPage_カーソル指定時_従業員IDと日付から続きを取得() {
+        // Given
+        YearMonth month = YearMonth.of(2024, 1);
+        List<AttendanceRecord> fetched = records(5L, LocalDate.of(2024, 1, 10), 2);
+        when(attendanceRecordDao.findAllByMonthAfter(month, null, null, 2, ALL)).thenReturn(fetched);
+
+        // When
+        PageResult<AttendanceRecord> page = recordService.getAllRecordsPage(month, null, 1, ALL);
+        recordService.getAllRecordsPage(month, page.getNextCursor(), 1, ALL);
+
+        // Then
+        verify(attendanceRecordDao).findAllByMonthAfter(month, 5L, LocalDate.of(2024, 1, 10), 2,
+                ALL);
+    }
+
+    @Test
+    void getAllRecordsPage_上限を超える件数は上限に丸める() {
+        // Given
+        YearMonth month = YearMonth.of(2024, 1);
+        when(attendanceRecordDao.findAllByMonthAfter(month, null, null,
+                PageResult.MAX_LIMIT + 1, ALL)).thenReturn(new ArrayList<>());
+
+        // When
+        PageResult<AttendanceRecord> page = recordService.getAllRecordsPage(month, null, 10000, ALL);
+
+        // Then
+        assertThat(page.getItems()).isEmpty();
+        verify(attendanceRecordDao).findAllByMonthAfter(month, null, null,
+                PageResult.MAX_LIMIT + 1, ALL);
+    }
+
+    @Test
+    void getAllRecordsPage_不正なカーソルの場合_例外発生() {
+        assertThatThrownBy(
+                () -> recordService.getAllRecordsPage(YearMonth.of(2024, 1), "不正なカーソル", null,
+                        ALL))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST_PARAMETER);
+    }
+
+    @Test
+    void getEmployeeRecords_取得項目指定時_指定項目でDAOを呼び出す() {
+        // Given
+        Long employeeId = 1L;
+        YearMonth month = YearMonth.of(2024, 1);
+        Employee employee = new Employee("テスト太郎", "EMP001", 160, UserRole.EMPLOYEE);
+        employee.setId(employeeId);
+        when(employeeDao.findById(employeeId)).thenReturn(Optional.of(employee));
+        Set<AttendanceRecordField> fields = AttendanceRecordField.parse("date,clockInTime");
+
+        // When
+        recordService.getEmployeeRecords(employeeId, month, fields);
+
+        // Then
+        verify(attendanceRecordDao).findByEmployeeIdAndMonth(employeeId, month,
+                EnumSet.of(AttendanceRecordField.DATE, AttendanceRecordField.CLOCK_IN_TIME));
+    }
+
+    @Test
+    void AttendanceRecordField_ホワイトリスト外の項目は例外発生() {
+        assertThatThrownBy(() -> AttendanceRecordField.parse("date,password"))
+                .isInstanceOf(AttendanceException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REQUEST_PARAMETER);
+    }
+
+    @Test
+    void AttendanceRecordField_指定項目のみに射影する() {
+        // Given
+        AttendanceRecord record = records(1L, LocalDate.of(2024, 1, 31), 1).get(0);
+
+        // When
+        Map<String, Object> projected = AttendanceRecordField.project(record,
+                AttendanceRecordField.parse("date,workingMinutes"));
+
+        // Then
+        assertThat(projected).containsOnlyKeys("date", "workingMinutes");
+    }
+
+    @Test
+    void getAllRecordsColumnar_項目ごとの並列配列に変換する() {
+        // Given
+        YearMonth month = YearMonth.of(2024, 1);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        AttendanceRecord present = new AttendanceRecord(1L, date, date.atTime(9, 0),
+                date.plusDays(1).atTime(1, 30), 990L, AttendanceStatus.PRESENT);
+        present.setId(10L);
+        AttendanceRecord partial = new AttendanceRecord(2L, date, date.atTime(8, 45), null, 0L,
+                AttendanceStatus.PARTIAL);
+        partial.setId(11L);
+        when(attendanceRecordDao.findAllByMonth(eq(month), any()))
+                .thenReturn(List.of(present, partial));
+
+        // When
+        RecordService.ColumnarMonthlyRecords columnar =
+                recordService.getAllRecordsColumnar(month);
+
+        // Then
+        assertThat(columnar.getMonth()).isEqualTo("2024-01");
+        assertThat(columnar.getCount()).isEqualTo(2);
+        assertThat(columnar.getEmployeeIds()).containsExactly(1L, 2L);
+        assertThat(columnar.getDays()).containsExactly(15, 15);
+        assertThat(columnar.getClockIn()).containsExactly(540, 525);
+        assertThat(columnar.getClockOut()).containsExactly(1530, null);
+        assertThat(columnar.getWorkingMinutes()).containsExactly(990L, 0L);
+        assertThat(columnar.getStatus()).containsExactly(AttendanceStatus.PRESENT.ordinal(),
+                AttendanceStatus.PARTIAL.ordinal());
+    }
+
+    private List<AttendanceRecord> records(Long employeeId, LocalDate latest, int count) {
+        List<AttendanceRecord> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AttendanceRecord record = new AttendanceRecord(employeeId, latest.minusDays(i), null,
+                    null, 0L, AttendanceStatus.ABSENT);
+            record.setId((long) (i + 1));
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,53 @@
+package kiro.attendance.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LazyConnectionProviderのテスト
+ */
+class LazyConnectionProviderTest {
+
+    @Test
+    void close_接続を取得しなかった場合_接続を開かない() throws Exception {
+        // Given
+        AtomicInteger opened = new AtomicInteger();
+        LazyConnectionProvider provider = new LazyConnectionProvider(() -> {
+            opened.incrementAndGet();
+            return mock(Connection.class);
+        });
+
+        // When
+        provider.close();
+
+        // Then
+        assertThat(opened).hasValue(0);
+        assertThat(provider.isOpened()).isFalse();
+    }
+
+    @Test
+    void getConnection_初回のみ接続を開き_closeで閉じる() throws Exception {
+        // Given
+        Connection connection = mock(Connection.class);
+        AtomicInteger opened = new AtomicInteger();
+        LazyConnectionProvider provider = new LazyConnectionProvider(() -> {
+            opened.incrementAndGet();
+            return connection;
+        });
+
+        // When
+        Connection first = provider.getConnection();
+        Connection second = provider.getConnection();
+        provider.close();
+
+        // Then
+        assertThat(first).isSameAs(second);
+        assertThat(opened).hasValue(1);
+        verify(connection, times(1)).close();
+    }
+}
@@ -0,0 +1,122 @@
+package kiro.attendance.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RoutingConnectionProviderのテスト
+ */
+class RoutingConnectionProviderTest {
+
+    private static final Long CALLER_ID = 1L;
+
+    private Connection primary;
+    private Connection replica;
+    private ResultSet lagResult;
+    private RoutingConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        primary = mock(Connection.class);
+        replica = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        lagResult = mock(ResultSet.class);
+        when(replica.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(lagResult);
+        when(lagResult.next()).thenReturn(true);
+        when(lagResult.getBoolean(1)).thenReturn(true);
+    }
+
+    @Test
+    void readOnly_遅延が上限以内の場合_レプリカに振り分ける() throws Exception {
+        // Given
+        when(lagResult.getDouble(3)).thenReturn(500.0);
+        RoutingConnectionProvider provider = provider();
+
+        // When
+        Connection connection = provider.readOnly(this::connectionOf);
+
+        // Then
+        assertThat(connection).isSameAs(replica);
+        assertThat(provider.getConnection()).isSameAs(primary);
+    }
+
+    @Test
+    void readOnly_遅延が上限を超える場合_プライマリで実行する() throws Exception {
+        // Given
+        when(lagResult.getDouble(3)).thenReturn(60_000.0);
+        RoutingConnectionProvider provider = provider();
+
+        // When
+        Connection connection = provider.readOnly(this::connectionOf);
+
+        // Then
+        assertThat(connection).isSameAs(primary);
+    }
+
+    @Test
+    void readOnly_プライマリに更新がなくWALを適用済みの場合_レプリカに振り分ける() throws Exception {
+        // Given
+        when(lagResult.getBoolean(2)).thenReturn(true);
+        when(lagResult.getDouble(3)).thenReturn(3_600_000.0);
+        RoutingConnectionProvider provider = provider();
+
+        // When
+        Connection connection = provider.readOnly(this::connectionOf);
+
+        // Then
+        assertThat(connection).isSameAs(replica);
+    }
+
+    @Test
+    void readOnlyFor_呼び出し元本人の記録はプライマリで実行する() throws Exception {
+        // Given
+        when(lagResult.getDouble(3)).thenReturn(0.0);
+        RoutingConnectionProvider provider = provider();
+
+        // When
+        Connection own = provider.readOnlyFor(CALLER_ID, this::connectionOf);
+        Connection others = provider.readOnlyFor(2L, this::connectionOf);
+
+        // Then
+        assertThat(own).isSameAs(primary);
+        assertThat(others).isSameAs(replica);
+    }
+
+    @Test
+    void readOnly_レプリカ未構成の場合_プライマリで実行する() throws Exception {
+        // Given
+        RoutingConnectionProvider provider = new RoutingConnectionProvider(() -> primary, null,
+                Duration.ofSeconds(30), CALLER_ID);
+
+        // When
+        Connection connection = provider.readOnly(this::connectionOf);
+
+        // Then
+        assertThat(connection).isSameAs(primary);
+        assertThat(provider.isReplicaOpened()).isFalse();
+    }
+
+    private RoutingConnectionProvider provider() {
+        provider = new RoutingConnectionProvider(() -> primary, () -> replica,
+                Duration.ofSeconds(30), CALLER_ID);
+        return provider;
+    }
+
+    private Connection connectionOf() {
+        try {
+            return provider != null ? provider.getConnection() : primary;
+        } catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}